@@ -35,6 +35,17 @@ export const getAllWarehouses = async () => {
   return res.data;
 };
 
+/**
+ * Retrieves a lightweight summary of every warehouse (no inventory list).
+ * Maps to GET /warehouses/summary
+ * @async
+ * @returns {Promise<Array<object>>} List of WarehouseSummaryDTOs.
+ */
+export const getWarehouseSummaries = async () => {
+  const res = await api.get("/warehouses/summary");
+  return res.data;
+};
+
 /**
  * Creates a new warehouse record.
  * Maps to POST /warehouses
@@ -108,6 +119,19 @@ export const getAllProducts = async () => {
   return res.data;
 };
 
+/**
+ * Searches active products by name, SKU and description, most relevant first.
+ * Maps to GET /api/warehouse/products/search
+ * @async
+ * @param {string} q - The search text (at least 3 characters).
+ * @param {number} [size=100] - The maximum number of results.
+ * @returns {Promise<Array<object>>} The matching ProductDTOs.
+ */
+export const searchProducts = async (q, size = 100) => {
+  const res = await api.get("/api/warehouse/products/search", { params: { q, size } });
+  return res.data.items;
+};
+
 /**
  * Creates a new product in the catalog.
  * Maps to POST /api/warehouse/products
@@ -229,24 +253,48 @@ export const transferInventory = async (transferDto) => {
 // --- EXPIRATION ALERTS ---
 
 /**
- * Retrieves inventory items that will expire within the next N days.
- * Maps to GET /warehouses/inventory/alerts/expiring/{days}
+ * The largest page the alert endpoints return (AlertPageRequestDTO.MAX_PAGE_SIZE).
+ */
+const ALERT_PAGE_SIZE = 500;
+
+/**
+ * Retrieves inventory items that will expire within the next N days, soonest first.
+ * Maps to GET /warehouses/inventory/alerts/expiring/{days}, which returns one page of alerts.
  * @async
  * @param {number} days - The lookahead window (e.g., 30 days).
- * @returns {Promise<Array<object>>} List of WarehouseInventoryDTOs.
+ * @returns {Promise<Array<object>>} The first page of WarehouseInventoryDTOs (up to ALERT_PAGE_SIZE).
  */
 export const getNearingExpirationAlerts = async (days) => {
-    const res = await api.get(`/warehouses/inventory/alerts/expiring/${days}`);
-    return res.data;
+    const res = await api.get(`/warehouses/inventory/alerts/expiring/${days}`, {
+        params: { size: ALERT_PAGE_SIZE },
+    });
+    return res.data.items;
 };
 
 /**
- * Retrieves inventory items that have already expired.
- * Maps to GET /warehouses/inventory/alerts/expired
+ * Retrieves inventory items that have already expired, oldest first.
+ * Maps to GET /warehouses/inventory/alerts/expired, which returns one page of alerts.
  * @async
- * @returns {Promise<Array<object>>} List of WarehouseInventoryDTOs.
+ * @returns {Promise<Array<object>>} The first page of WarehouseInventoryDTOs (up to ALERT_PAGE_SIZE).
  */
 export const getExpiredInventory = async () => {
-    const res = await api.get("/warehouses/inventory/alerts/expired");
-    return res.data;
-};
\ No newline at end of file
+    const res = await api.get("/warehouses/inventory/alerts/expired", {
+        params: { size: ALERT_PAGE_SIZE },
+    });
+    return res.data.items;
+};
+/**
+ * Opens the Server-Sent Events stream of alert changes.
+ * Maps to GET /warehouses/inventory/alerts/stream. Events are named "expiring", "expired",
+ * "capacity" and "transfer", and each carries an AlertEventDTO as JSON.
+ * The browser reconnects automatically; call close() on the returned source when done.
+ * @param {Object<string, function(object): void>} handlers - Callbacks keyed by event name.
+ * @returns {EventSource} The open event source.
+ */
+export const subscribeToAlerts = (handlers) => {
+    const source = new EventSource(`${API_URL}/warehouses/inventory/alerts/stream`);
+    Object.entries(handlers).forEach(([name, handler]) => {
+        source.addEventListener(name, (e) => handler(JSON.parse(e.data)));
+    });
+    return source;
+};
@@ -1,7 +1,7 @@
 import { useState, useEffect } from "react";
 import { Modal, Button, Form, FormGroup } from "react-bootstrap";
 import toast from "react-hot-toast";
-import { createProduct, getAllCategories, addProductToWarehouse, getAllWarehouses } from "../api/warehouseApi";
+import { createProduct, getAllCategories, addProductToWarehouse, getWarehouseSummaries } from "../api/warehouseApi";
 
 /**
  * @typedef {object} ProductData
@@ -92,7 +92,7 @@ export default function CreateProductModal({ show, onClose, onCreated }) {
   useEffect(() => {
     const loadWarehouses = async () => {
       try {
-        const allWarehouses = await getAllWarehouses();
+        const allWarehouses = await getWarehouseSummaries();
         
         const filteredWarehouses = allWarehouses.map(warehouse => ({
           warehouseId: warehouse.warehouseId,
@@ -1,5 +1,5 @@
 import { useState, useEffect } from "react";
-import { getAllWarehouses } from "../api/warehouseApi";
+import { getWarehouseSummaries } from "../api/warehouseApi";
 import ProductsSection from "./ProductsSection";
 
 import toast from "react-hot-toast";
@@ -38,7 +38,7 @@ export default function DashboardPage() {
   useEffect(() => {
     const loadWarehouses = async () => {
       try {
-        const data = await getAllWarehouses();
+        const data = await getWarehouseSummaries();
         setWarehouses(data);
       } catch (error) {
         console.error("Failed to load warehouses:", error);
@@ -2,7 +2,7 @@ import { useState, useEffect } from "react";
 import toast from "react-hot-toast";
 import { ListGroup, Card, Row, Col, Alert, Badge } from "react-bootstrap";
 import { differenceInDays, parseISO } from "date-fns";
-import { getNearingExpirationAlerts, getExpiredInventory } from "../api/warehouseApi";
+import { getNearingExpirationAlerts, getExpiredInventory, subscribeToAlerts } from "../api/warehouseApi";
 
 /**
  * Defines the lookahead window (in days) for "Nearing Expiration" alerts.
@@ -71,6 +71,42 @@ export default function ExpirationAlertsPage() {
         loadAlerts();
     }, []); // Empty dependency array means this runs once on mount
 
+    /**
+     * useEffect hook to apply live alert events from the server while the page is open.
+     * Newly expiring items are added to the nearing list, newly expired items move to the
+     * expired list, cleared items are removed from both lists, and capacity and transfer
+     * events are shown as toasts.
+     */
+    useEffect(() => {
+        const sameItem = (a, b) =>
+            a.warehouseId === b.warehouseId && a.productPublicId === b.productPublicId;
+
+        const source = subscribeToAlerts({
+            expiring: (event) => {
+                setExpired((prev) => prev.filter((item) => !sameItem(item, event.item)));
+                setNearingExpired((prev) => [
+                    ...prev.filter((item) => !sameItem(item, event.item)),
+                    event.item,
+                ]);
+            },
+            expired: (event) => {
+                setNearingExpired((prev) => prev.filter((item) => !sameItem(item, event.item)));
+                setExpired((prev) => [
+                    ...prev.filter((item) => !sameItem(item, event.item)),
+                    event.item,
+                ]);
+                toast.error(event.message);
+            },
+            cleared: (event) => {
+                setNearingExpired((prev) => prev.filter((item) => !sameItem(item, event.item)));
+                setExpired((prev) => prev.filter((item) => !sameItem(item, event.item)));
+            },
+            capacity: (event) => toast(event.message, { icon: "📦" }),
+            transfer: (event) => toast.success(event.message),
+        });
+        return () => source.close();
+    }, []);
+
     /**
      * Calculates the number of days remaining until the expiration date.
      * Negative numbers indicate the item is already expired.
@@ -105,7 +141,9 @@ export default function ExpirationAlertsPage() {
 
         const daysRemaining = getDaysRemaining(item.expirationDate);
         const variant = getBadgeVariant(daysRemaining);
-        const statusText = daysRemaining <= 0 ? "EXPIRED" : `${daysRemaining} days left`;
+        const statusText = item.quarantinedAt
+            ? "QUARANTINED"
+            : daysRemaining <= 0 ? "EXPIRED" : `${daysRemaining} days left`;
         
         return (
             <ListGroup.Item 
@@ -6,7 +6,7 @@ import {
   updateProduct,
   deleteProduct,
   transferInventory,
-  getAllWarehouses
+  getWarehouseSummaries
 } from "../api/warehouseApi";
 
 /**
@@ -58,7 +58,7 @@ export default function ProductModal({ item, warehouseId, show, onClose, categor
   useEffect(() => {
     const loadWarehouses = async () => {
       try {
-        const allWarehouses = await getAllWarehouses();
+        const allWarehouses = await getWarehouseSummaries();
         // Filter out the source warehouse
         const availableWarehouses = allWarehouses.filter(w => w.warehouseId !== warehouseId);
         setWarehouses(availableWarehouses);
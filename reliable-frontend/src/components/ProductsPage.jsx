@@ -1,6 +1,18 @@
 import { useState, useEffect } from "react";
 import CreateProductModal from "../components/CreateProductModal";
-import { getAllProducts, getAllCategories } from "../api/warehouseApi";
+import { getAllProducts, getAllCategories, searchProducts } from "../api/warehouseApi";
+
+/**
+ * The shortest search text sent to the server-side search; shorter text filters the loaded list.
+ * @constant {number}
+ */
+const MIN_SEARCH_LENGTH = 3;
+
+/**
+ * Delay (ms) after the last keystroke before the server-side search runs.
+ * @constant {number}
+ */
+const SEARCH_DEBOUNCE_MS = 250;
 
 /**
  * @file ProductsPage.jsx
@@ -29,6 +41,9 @@ export default function ProductsPage() {
   /** State for the text input used to search by name or SKU. */
   const [search, setSearch] = useState("");
   
+  /** State for the server-side search results, or null when the search text is too short. */
+  const [searchResults, setSearchResults] = useState(null);
+
   /** State for the selected category ID filter ('all' by default). */
   const [categoryFilter, setCategoryFilter] = useState("all");
   
@@ -65,6 +80,34 @@ export default function ProductsPage() {
     loadCats();
   }, []); 
   
+  /**
+   * useEffect hook runs when the search text changes.
+   * Once the text is long enough, searches the catalog on the server (debounced) so that matches
+   * in the description and near-misses are found too; stale responses are ignored.
+   */
+  useEffect(() => {
+    const term = search.trim();
+    if (term.length < MIN_SEARCH_LENGTH) {
+      setSearchResults(null);
+      return;
+    }
+
+    let cancelled = false;
+    const timer = setTimeout(async () => {
+      try {
+        const data = await searchProducts(term);
+        if (!cancelled) setSearchResults(data);
+      } catch (e) {
+        console.error("Failed to search products:", e);
+      }
+    }, SEARCH_DEBOUNCE_MS);
+
+    return () => {
+      cancelled = true;
+      clearTimeout(timer);
+    };
+  }, [search]);
+
   /**
    * Handler to refresh the product list from the API.
    * Called after a successful product creation.
@@ -84,9 +127,10 @@ export default function ProductsPage() {
    * Computed property that applies search, category filtering, and sorting to the product list.
    * The logic is executed on every render cycle where state dependencies change.
    */
-  const filteredProducts = products
-    // 1. Search Filter (Name or SKU)
+  const filteredProducts = (searchResults ?? products)
+    // 1. Search Filter (Name or SKU); server-side search results are already matched
     .filter((p) =>
+      searchResults !== null ||
       p.name.toLowerCase().includes(search.toLowerCase()) ||
       p.sku.toLowerCase().includes(search.toLowerCase())
     )
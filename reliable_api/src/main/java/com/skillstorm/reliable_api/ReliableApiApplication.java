@@ -2,14 +2,19 @@ package com.skillstorm.reliable_api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main entry point for the Reliable API Spring Boot application.
  * <p>
  * This class initializes and runs the Spring application context, enabling auto-configuration,
- * JPA auditing, and specifying the base package for JPA repositories.
+ * JPA auditing, Spring's cache abstraction, annotation-driven retries, scheduled tasks (such as the
+ * transfer queue dispatcher), and specifying the base package
+ * for JPA repositories.
  * </p>
  *
  * @author Jevaughn Stewart
@@ -17,6 +22,9 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
  */
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableCaching
+@EnableRetry
+@EnableScheduling
 @EnableJpaRepositories(basePackages = "com.skillstorm.reliable_api.repositories")
 public class ReliableApiApplication {
 
@@ -0,0 +1,71 @@
+package com.skillstorm.reliable_api.config;
+
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Spring Retry listener that publishes locking retry behaviour as Micrometer counters,
+ * tagged by the retried operation:
+ * <ul>
+ *   <li>{@code inventory.write.conflicts} - every attempt that failed with an optimistic locking conflict;</li>
+ *   <li>{@code inventory.lock.contention} - every attempt that found a warehouse row locked ({@code NOWAIT});</li>
+ *   <li>{@code inventory.write.retries} - every attempt made after a conflict;</li>
+ *   <li>{@code inventory.write.exhausted} - operations that still failed after the last attempt.</li>
+ * </ul>
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Component("retryMetricsListener")
+public class RetryMetricsListener implements RetryListener {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructs the RetryMetricsListener.
+     * * @param meterRegistry The registry the counters are published to.
+     */
+    public RetryMetricsListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Counts a failed attempt as lock contention or as an optimistic conflict, depending on its cause.
+     */
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+                                                 Throwable throwable) {
+        String name = throwable instanceof PessimisticLockingFailureException
+                ? "inventory.lock.contention" : "inventory.write.conflicts";
+        meterRegistry.counter(name, "operation", operation(context)).increment();
+    }
+
+    /**
+     * Counts the retries an operation needed and whether its final attempt still failed.
+     * Every failed attempt was followed by a retry, except the last one of an exhausted operation.
+     */
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback,
+                                               Throwable throwable) {
+        int retries = throwable == null ? context.getRetryCount() : context.getRetryCount() - 1;
+        if (retries > 0) {
+            meterRegistry.counter("inventory.write.retries", "operation", operation(context)).increment(retries);
+        }
+        if (throwable != null) {
+            meterRegistry.counter("inventory.write.exhausted", "operation", operation(context)).increment();
+        }
+    }
+
+    /**
+     * Resolves the operation tag from the retry context label set on {@code @Retryable}.
+     */
+    private static String operation(RetryContext context) {
+        Object name = context.getAttribute(RetryContext.NAME);
+        return name != null ? name.toString() : "unknown";
+    }
+}
@@ -2,6 +2,7 @@ package com.skillstorm.reliable_api.controllers;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.skillstorm.reliable_api.dtos.CategoryCatalogDTO;
 import com.skillstorm.reliable_api.dtos.CategoryDTO;
 import com.skillstorm.reliable_api.dtos.CategoryPatchDTO;
 import com.skillstorm.reliable_api.dtos.CategoryUpdateDTO;
@@ -63,12 +65,17 @@ public ResponseEntity<CategoryDTO>postCategory(@RequestBody CategoryDTO category
  
 /**
  * Handles the HTTP GET request to retrieve all product categories.
- * * @return A ResponseEntity containing a list of all CategoryDTOs and an HTTP status of OK.
+ * The response carries the catalog snapshot's ETag; a request whose {@code If-None-Match} matches it
+ * receives 304 Not Modified with no body, and neither case queries the database.
+ * * @return A ResponseEntity containing a list of all CategoryDTOs and an HTTP status of OK, or 304 if unchanged.
  */
 @GetMapping
 public ResponseEntity<List<CategoryDTO>> getCategory() {
-    List<CategoryDTO> categories= categoryService.getAllCategory();
-    return new ResponseEntity<>(categories,HttpStatus.OK);
+    CategoryCatalogDTO catalog = categoryService.getCatalog();
+    return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .eTag(catalog.getETag())
+            .body(catalog.getCategories());
 }
 
 /**
@@ -92,7 +99,7 @@ public ResponseEntity<CategoryDTO> putCategory(@PathVariable Long id, @RequestBo
  */
 @PatchMapping("/{id}")
 public ResponseEntity<CategoryDTO> patchCategory(@PathVariable Long id, @RequestBody @Valid CategoryPatchDTO category)
-   {CategoryDTO updatedCategory= categoryService.updateCategory(id,category);
+   {CategoryDTO updatedCategory= categoryService.patchCategory(id,category);
     return new ResponseEntity<>(updatedCategory,HttpStatus.OK);
 }
 
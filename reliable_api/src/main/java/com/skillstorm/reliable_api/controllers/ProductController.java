@@ -1,8 +1,12 @@
 package com.skillstorm.reliable_api.controllers;
 
+import java.io.InputStream;
 import java.util.List;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,12 +16,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.skillstorm.reliable_api.dtos.BulkUpdateResultDTO;
+import com.skillstorm.reliable_api.dtos.CursorPageDTO;
 import com.skillstorm.reliable_api.dtos.ProductDTO;
 import com.skillstorm.reliable_api.dtos.ProductPatchDTO;
+import com.skillstorm.reliable_api.dtos.ProductSearchRequestDTO;
+import com.skillstorm.reliable_api.dtos.ProductSelectionDTO;
 import com.skillstorm.reliable_api.dtos.ProductUpdateDTO;
+import com.skillstorm.reliable_api.dtos.VersionStampDTO;
+import com.skillstorm.reliable_api.services.ProductImportService;
 import com.skillstorm.reliable_api.services.ProductService;
 
 import jakarta.validation.Valid;
@@ -39,27 +52,47 @@ import jakarta.validation.Valid;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService importService;
 
     /**
-     * Constructs the ProductController, injecting the required ProductService.
+     * Constructs the ProductController, injecting the required services.
      * * @param productService The service layer component responsible for product business logic.
+     * @param importService The service layer component importing product catalogs.
      */
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, ProductImportService importService) {
         this.productService = productService;
+        this.importService = importService;
     }
     
     /**
      * Handles the HTTP GET request to retrieve all active products.
-     * * @return A {@code ResponseEntity} containing a list of all {@code ProductDTO} objects 
-     * and an HTTP status of OK.
+     * Supports conditional requests: when {@code If-None-Match} or {@code If-Modified-Since} still matches
+     * the listing's version stamp, a 304 Not Modified is returned without loading the products.
+     * * @param request The current request, used to evaluate the conditional headers.
+     * @return A {@code ResponseEntity} containing a list of all {@code ProductDTO} objects 
+     * and an HTTP status of OK, or {@code null} after a 304 has been written.
      */
     @GetMapping()
-    public ResponseEntity<List<ProductDTO>> getProducts() {
-     
-    return ResponseEntity.ok(productService.getAllProducts());
-
+    public ResponseEntity<List<ProductDTO>> getProducts(WebRequest request) {
+        VersionStampDTO stamp = productService.getVersionStamp();
+        if (request.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(productService.getAllProducts());
     }
     
+    /**
+     * Handles the HTTP GET request to search active products by name, SKU and description, most relevant
+     * first. Pass the {@code nextCursor} of a page as the {@code offset} parameter to retrieve the following page.
+     * * @param request The query parameters: {@code q} (required, 3 to 100 characters), {@code offset} and {@code size}.
+     * @return A {@code ResponseEntity} containing a {@code CursorPageDTO} of {@code ProductDTO}s with an HTTP
+     * status of OK (200), or Bad Request (400) if a parameter is invalid.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageDTO<ProductDTO>> searchProducts(@Valid ProductSearchRequestDTO request) {
+        return ResponseEntity.ok(productService.searchProducts(request));
+    }
+
     /**
      * Handles the HTTP POST request to create a new product.
      * * @param product The {@code ProductDTO} containing the data for the new product.
@@ -72,6 +105,31 @@ public class ProductController {
         return new ResponseEntity<>( productService.createProduct(product),HttpStatus.OK);
     }
     
+    /**
+     * Handles the HTTP POST request to import a product catalog, sent as CSV ({@code text/csv}, with a
+     * header row) or NDJSON ({@code application/x-ndjson}, one {@code ProductDTO} per line).
+     * The upload is processed in chunks while it is read, and the report is streamed back as NDJSON:
+     * one line per rejected row followed by a summary line with the row, imported and failed counts.
+     * * @param contentType The content type of the upload, which selects the parser.
+     * @param body The uploaded catalog.
+     * @return A {@code ResponseEntity} whose body streams the import report with an HTTP status of OK (200).
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<StreamingResponseBody> importProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+
+        ProductImportService.InputFormat format = MediaType.parseMediaType(contentType)
+                .isCompatibleWith(MediaType.parseMediaType(ProductImportService.InputFormat.CSV.getContentType()))
+                ? ProductImportService.InputFormat.CSV
+                : ProductImportService.InputFormat.NDJSON;
+
+        StreamingResponseBody report = out -> importService.importProducts(format, body, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(report);
+    }
+
     /**
      * Handles the HTTP PATCH request to partially update an existing product identified by its public ID.
      * This allows for updating specific fields without requiring all product data.
@@ -110,4 +168,26 @@ public class ProductController {
         productService.deleteProduct(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Handles the HTTP POST request to logically delete many products at once, selected either by
+     * a list of public IDs or by category, with a single set-based update.
+     * * @param selection The {@code ProductSelectionDTO} with either {@code publicIds} or {@code categoryId}.
+     * @return A {@code ResponseEntity} containing the number of products deleted, with an HTTP status of OK.
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkUpdateResultDTO> bulkDeleteProducts(@RequestBody @Valid ProductSelectionDTO selection) {
+        return ResponseEntity.ok(productService.setDeleted(selection, true));
+    }
+
+    /**
+     * Handles the HTTP POST request to restore many logically deleted products at once, selected either by
+     * a list of public IDs or by category, with a single set-based update.
+     * * @param selection The {@code ProductSelectionDTO} with either {@code publicIds} or {@code categoryId}.
+     * @return A {@code ResponseEntity} containing the number of products restored, with an HTTP status of OK.
+     */
+    @PostMapping("/bulk-restore")
+    public ResponseEntity<BulkUpdateResultDTO> bulkRestoreProducts(@RequestBody @Valid ProductSelectionDTO selection) {
+        return ResponseEntity.ok(productService.setDeleted(selection, false));
+    }
 }
\ No newline at end of file
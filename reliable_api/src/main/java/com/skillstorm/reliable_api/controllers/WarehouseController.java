@@ -2,6 +2,7 @@ package com.skillstorm.reliable_api.controllers;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -14,9 +15,12 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.skillstorm.reliable_api.dtos.VersionStampDTO;
 import com.skillstorm.reliable_api.dtos.WarehouseDTO;
 import com.skillstorm.reliable_api.dtos.WarehousePatchDTO;
+import com.skillstorm.reliable_api.dtos.WarehouseSummaryDTO;
 import com.skillstorm.reliable_api.dtos.WarehouseUpdateDTO;
 import com.skillstorm.reliable_api.services.WarehouseService;
 
@@ -49,12 +53,37 @@ public class WarehouseController {
 
     /**
      * Handles the HTTP GET request to retrieve all warehouses.
-     * * @return A {@code ResponseEntity} containing a list of all {@code WarehouseDTO} objects 
-     * and an HTTP status of OK (200).
+     * Supports conditional requests: a 304 Not Modified is returned without loading the warehouses
+     * when the client's {@code If-None-Match} or {@code If-Modified-Since} is still current.
+     * * @param request The current request, used to evaluate the conditional headers.
+     * @return A {@code ResponseEntity} containing a list of all {@code WarehouseDTO} objects 
+     * and an HTTP status of OK (200), or {@code null} after a 304 has been written.
      */
     @GetMapping
-    public ResponseEntity<List<WarehouseDTO>> getWarehouses() {
-        return ResponseEntity.ok(warehouseService.getWarehouses());
+    public ResponseEntity<List<WarehouseDTO>> getWarehouses(WebRequest request) {
+        VersionStampDTO stamp = warehouseService.getVersionStamp();
+        if (request.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(warehouseService.getWarehouses());
+    }
+
+    /**
+     * Handles the HTTP GET request to retrieve a lightweight summary of every warehouse.
+     * Unlike {@link #getWarehouses(WebRequest)}, no inventory detail is loaded; use
+     * {@code GET /warehouses/inventory/{warehouseId}} to fetch one warehouse's inventory on demand.
+     * Supports the same conditional requests as the full listing.
+     * * @param request The current request, used to evaluate the conditional headers.
+     * @return A {@code ResponseEntity} containing a list of {@code WarehouseSummaryDTO} objects
+     * and an HTTP status of OK (200), or {@code null} after a 304 has been written.
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<List<WarehouseSummaryDTO>> getWarehouseSummaries(WebRequest request) {
+        VersionStampDTO stamp = warehouseService.getVersionStamp();
+        if (request.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(warehouseService.getWarehouseSummaries());
     }
 
     /**
@@ -1,8 +1,13 @@
 package com.skillstorm.reliable_api.controllers;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Locale;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -10,13 +15,33 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.skillstorm.reliable_api.dtos.AlertPageRequestDTO;
+import com.skillstorm.reliable_api.dtos.BulkOperationResultDTO;
+import com.skillstorm.reliable_api.dtos.BulkTransferDTO;
+import com.skillstorm.reliable_api.dtos.CursorPageDTO;
+import com.skillstorm.reliable_api.dtos.ExpirationAlertGroupDTO;
+import com.skillstorm.reliable_api.dtos.ExpirationAlertPageDTO;
+import com.skillstorm.reliable_api.dtos.InventoryPageRequestDTO;
 import com.skillstorm.reliable_api.dtos.InventoryTransferDTO;
+import com.skillstorm.reliable_api.dtos.TransferJobDTO;
+import com.skillstorm.reliable_api.dtos.VersionStampDTO;
 import com.skillstorm.reliable_api.dtos.WarehouseInventoryByWarehouseDTO;
 import com.skillstorm.reliable_api.dtos.WarehouseInventoryCreateDTO;
 import com.skillstorm.reliable_api.dtos.WarehouseInventoryDTO;
+import com.skillstorm.reliable_api.services.AlertStreamService;
+import com.skillstorm.reliable_api.services.BulkInventoryService;
+import com.skillstorm.reliable_api.services.ExpirationAlertService;
+import com.skillstorm.reliable_api.services.IdempotencyService;
+import com.skillstorm.reliable_api.services.InventoryExportService;
+import com.skillstorm.reliable_api.services.TransferQueueService;
 import com.skillstorm.reliable_api.services.WarehouseInventoryService;
 
 import jakarta.validation.Valid;
@@ -25,6 +50,8 @@ import jakarta.validation.Valid;
 /**
  * REST controller for managing {@code WarehouseInventory} and inventory-related actions
  * such as stocking, transfers, and expiration alerts.
+ * The POST endpoints accept an optional {@code Idempotency-Key} header; a retried request with the
+ * same key receives the original response instead of being applied twice.
  * * @author Jevaughn Stewart
  * @version 1.0
  */
@@ -38,63 +65,209 @@ import jakarta.validation.Valid;
 public class WarehouseInventoryController {
 
     private final WarehouseInventoryService inventoryService;
+    private final InventoryExportService exportService;
+    private final BulkInventoryService bulkInventoryService;
+    private final IdempotencyService idempotencyService;
+    private final TransferQueueService transferQueueService;
+    private final ExpirationAlertService alertService;
+    private final AlertStreamService alertStreamService;
 
     /**
-     * Constructs the WarehouseInventoryController, injecting the required service.
+     * Constructs the WarehouseInventoryController, injecting the required services.
      * * @param inventoryService The service layer component handling inventory business logic.
+     * @param exportService The service layer component streaming full inventory exports.
+     * @param bulkInventoryService The service layer component handling multi-product inventory operations.
+     * @param idempotencyService The service layer component replaying responses of retried write requests.
+     * @param transferQueueService The service layer component queueing asynchronous transfers.
+     * @param alertService The service layer component answering expiration alert queries.
+     * @param alertStreamService The service layer component pushing alert events to open streams.
      */
-    public WarehouseInventoryController(WarehouseInventoryService inventoryService) {
+    public WarehouseInventoryController(WarehouseInventoryService inventoryService,
+                                        InventoryExportService exportService,
+                                        BulkInventoryService bulkInventoryService,
+                                        IdempotencyService idempotencyService,
+                                        TransferQueueService transferQueueService,
+                                        ExpirationAlertService alertService,
+                                        AlertStreamService alertStreamService) {
         this.inventoryService = inventoryService;
-     
+        this.exportService = exportService;
+        this.bulkInventoryService = bulkInventoryService;
+        this.idempotencyService = idempotencyService;
+        this.transferQueueService = transferQueueService;
+        this.alertService = alertService;
+        this.alertStreamService = alertStreamService;
     }
 
     /**
      * Handles the HTTP POST request to add a new product (initial stock) to a specific warehouse.
      * * @param warehouseId The ID of the warehouse to stock.
      * @param dto The {@code WarehouseInventoryCreateDTO} containing product ID, quantity, and location.
+     * @param idempotencyKey The optional {@code Idempotency-Key} header.
      * @return A {@code ResponseEntity} containing the saved {@code WarehouseInventoryDTO} and 
      * an HTTP status of CREATED (201).
      */
     @PostMapping("{warehouseId}")
     public ResponseEntity<WarehouseInventoryDTO> addProductToWarehouse(
             @PathVariable Long warehouseId,
-            @RequestBody @Valid WarehouseInventoryCreateDTO dto) {
+            @RequestBody @Valid WarehouseInventoryCreateDTO dto,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
 
-        WarehouseInventoryDTO savedInventory = inventoryService.addProductToWarehouse(warehouseId, dto);
-        return  new ResponseEntity<>(savedInventory, HttpStatus.CREATED);
+        return idempotencyService.execute(idempotencyKey, "addProductToWarehouse", List.of(warehouseId, dto), () -> {
+            WarehouseInventoryDTO savedInventory = inventoryService.addProductToWarehouse(warehouseId, dto);
+            return  new ResponseEntity<>(savedInventory, HttpStatus.CREATED);
+        });
+    }
+
+    /**
+     * Handles the HTTP POST request to stock many products into a specific warehouse at once
+     * (e.g. unloading a truck). Each line is validated individually; rejected lines are reported
+     * in the result and do not prevent the remaining lines from being stocked.
+     * * @param warehouseId The ID of the warehouse to stock.
+     * @param lines The list of {@code WarehouseInventoryCreateDTO} lines (at most {@value BulkInventoryService#MAX_LINES}).
+     * @param idempotencyKey The optional {@code Idempotency-Key} header.
+     * @return A {@code ResponseEntity} containing the per-line {@code BulkOperationResultDTO} with an HTTP
+     * status of OK (200), or Bad Request (400) if the list is empty or too large.
+     */
+    @PostMapping("/{warehouseId}/bulk")
+    public ResponseEntity<BulkOperationResultDTO> bulkAddProductsToWarehouse(
+            @PathVariable Long warehouseId,
+            @RequestBody List<WarehouseInventoryCreateDTO> lines,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+
+        if (lines == null || lines.isEmpty() || lines.size() > BulkInventoryService.MAX_LINES) {
+            return ResponseEntity.badRequest().build();
+        }
+        return idempotencyService.execute(idempotencyKey, "bulkAddProductsToWarehouse", List.of(warehouseId, lines),
+                () -> ResponseEntity.ok(bulkInventoryService.stockIn(warehouseId, lines)));
     }
     
     /**
      * Handles the HTTP GET request to retrieve all inventory details for a specific warehouse.
      * * @param warehouseId The ID of the warehouse whose inventory is being requested.
+     * @param webRequest The current request, used to evaluate the conditional headers.
      * @return A {@code ResponseEntity} containing the {@code WarehouseInventoryByWarehouseDTO} 
-     * which aggregates warehouse details and its inventory list, with an HTTP status of OK (200).
+     * which aggregates warehouse details and its inventory list, with an HTTP status of OK (200),
+     * or {@code null} after a 304 Not Modified has been written for a still-current conditional request.
      */
     @GetMapping("/{warehouseId}")
-    public ResponseEntity<WarehouseInventoryByWarehouseDTO> getInventoryByWarehouse(@PathVariable Long warehouseId) {
-      return new ResponseEntity<>(inventoryService.getInventoryByWarehouse(warehouseId),HttpStatus.OK);
+    public ResponseEntity<WarehouseInventoryByWarehouseDTO> getInventoryByWarehouse(@PathVariable Long warehouseId,
+                                                                                    WebRequest webRequest) {
+      VersionStampDTO stamp = inventoryService.getVersionStamp(warehouseId);
+      if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+          return null;
+      }
+      return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(inventoryService.getInventoryByWarehouse(warehouseId));
     }
     
     /**
-     * Handles the HTTP GET request to retrieve all inventory items across all warehouses.
-     * * @return A {@code ResponseEntity} containing a list of all {@code WarehouseInventoryDTO} objects 
-     * across the entire system, with an HTTP status of OK (200).
+     * Handles the HTTP GET request to retrieve inventory items across all warehouses, one keyset page at a time.
+     * Pass the {@code nextCursor} of a page as the {@code after} parameter to retrieve the following page.
+     * * @param request The optional query parameters: {@code after}, {@code size}, {@code warehouseId},
+     * {@code categoryId}, {@code expiresFrom} and {@code expiresTo}.
+     * @param webRequest The current request, used to evaluate the conditional headers.
+     * @return A {@code ResponseEntity} containing a {@code CursorPageDTO} of {@code WarehouseInventoryDTO} objects,
+     * with an HTTP status of OK (200), or {@code null} after a 304 Not Modified has been written.
      */
     @GetMapping()
-    public ResponseEntity<List<WarehouseInventoryDTO>> getAllInventory() {
-      return new ResponseEntity<>(inventoryService.getAllWarehousesInventory(),HttpStatus.OK);
+    public ResponseEntity<CursorPageDTO<WarehouseInventoryDTO>> getAllInventory(@Valid InventoryPageRequestDTO request,
+                                                                                WebRequest webRequest) {
+      VersionStampDTO stamp = inventoryService.getVersionStamp(request.getWarehouseId());
+      if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+          return null;
+      }
+      return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(inventoryService.getInventoryPage(request));
+    }
+
+    /**
+     * Handles the HTTP GET request to export every inventory record, with its product and warehouse data,
+     * for reporting jobs. Rows are streamed to the client as they are read from the database.
+     * * @param format The output format: {@code ndjson} (default) or {@code csv}.
+     * @return A {@code ResponseEntity} whose body streams the export with an HTTP status of OK (200),
+     * or Bad Request (400) if the format is not supported.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportInventory(
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        InventoryExportService.Format exportFormat;
+        try {
+            exportFormat = InventoryExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = out -> exportService.exportInventory(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"inventory." + exportFormat.name().toLowerCase(Locale.ROOT) + "\"")
+                .body(body);
     }
 
+/**
+ * Handles the HTTP POST request to transfer many products from one warehouse to another in one transaction.
+ * Items are validated individually; rejected items are reported in the result and do not prevent the
+ * remaining items from being transferred.
+ * * @param dto The {@code BulkTransferDTO} containing the source, destination and items to move.
+ * @param idempotencyKey The optional {@code Idempotency-Key} header.
+ * @return A {@code ResponseEntity} containing the per-item {@code BulkOperationResultDTO} with an HTTP status of OK (200).
+ */
+@PostMapping("/transfer/bulk")
+public ResponseEntity<BulkOperationResultDTO> bulkTransferInventory(
+        @RequestBody @Valid BulkTransferDTO dto,
+        @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+
+    return idempotencyService.execute(idempotencyKey, "bulkTransferInventory", dto,
+            () -> ResponseEntity.ok(bulkInventoryService.transfer(dto)));
+}
+
 /**
  * Handles the HTTP POST request to transfer inventory of a single product between two warehouses.
- * This operation removes the stock from the source and creates a new entry in the destination.
- * * @param dto The {@code InventoryTransferDTO} specifying source, destination, product, and notes.
+ * This operation moves the requested quantity (or all of it) from the source to the destination.
+ * * @param dto The {@code InventoryTransferDTO} specifying source, destination, product, quantity, and notes.
+ * @param idempotencyKey The optional {@code Idempotency-Key} header.
  * @return A {@code ResponseEntity} with an HTTP status of OK (200) upon successful transfer.
  */
 @PostMapping("/transfer")
-public ResponseEntity<Void> transferInventory(@RequestBody @Valid InventoryTransferDTO dto) {
-    inventoryService.transferInventory(dto);
-    return ResponseEntity.ok().build();
+public ResponseEntity<Void> transferInventory(
+        @RequestBody @Valid InventoryTransferDTO dto,
+        @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+
+    return idempotencyService.execute(idempotencyKey, "transferInventory", dto, () -> {
+        inventoryService.transferInventory(dto);
+        return ResponseEntity.ok().<Void>build();
+    });
+}
+
+/**
+ * Handles the HTTP POST request to queue a transfer of a single product for asynchronous processing.
+ * The request returns as soon as the job is stored; its progress is reported by
+ * {@code GET /warehouses/inventory/transfer/jobs/{jobId}}, whose URL is returned in the {@code Location} header.
+ * * @param dto The {@code InventoryTransferDTO} specifying source, destination, product, quantity, and notes.
+ * @param idempotencyKey The optional {@code Idempotency-Key} header.
+ * @return A {@code ResponseEntity} containing the queued {@code TransferJobDTO} with an HTTP status of ACCEPTED (202).
+ */
+@PostMapping("/transfer/async")
+public ResponseEntity<TransferJobDTO> enqueueTransfer(
+        @RequestBody @Valid InventoryTransferDTO dto,
+        @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+
+    return idempotencyService.execute(idempotencyKey, "enqueueTransfer", dto, () -> {
+        TransferJobDTO job = transferQueueService.enqueue(dto);
+        return ResponseEntity.accepted()
+                .location(URI.create("/warehouses/inventory/transfer/jobs/" + job.getJobId()))
+                .body(job);
+    });
+}
+
+/**
+ * Handles the HTTP GET request to retrieve the state of an asynchronous transfer.
+ * * @param jobId The ID of the transfer job.
+ * @return A {@code ResponseEntity} containing the {@code TransferJobDTO} with an HTTP status of OK (200).
+ */
+@GetMapping("/transfer/jobs/{jobId}")
+public ResponseEntity<TransferJobDTO> getTransferJob(@PathVariable Long jobId) {
+    return ResponseEntity.ok(transferQueueService.getJob(jobId));
 }
 
 /**
@@ -112,30 +285,91 @@ public ResponseEntity<Void> deleteInventory(
     return ResponseEntity.noContent().build();
 }
 
-/**
- * Handles the HTTP GET request to retrieve inventory items nearing their expiration date.
- * * @param days The number of days remaining until expiration to consider for the alert (e.g., 30 days).
- * @return A {@code ResponseEntity} containing a list of {@code WarehouseInventoryDTO} objects 
- * that are within the expiration threshold, with an HTTP status of OK (200).
- */
-@GetMapping("/alerts/expiring/{days}")
-    public ResponseEntity<List<WarehouseInventoryDTO>> getNearingExpirationAlerts(@PathVariable int days) {
+    /**
+     * Handles the HTTP GET request to retrieve inventory items nearing their expiration date, one page at a time,
+     * soonest expiration first. Pass the {@code nextCursor} of a page as the {@code after} parameter to
+     * retrieve the following page.
+     * * @param days The number of days remaining until expiration to consider for the alert (e.g., 30 days).
+     * @param request The optional query parameters: {@code after}, {@code size} and {@code warehouseId}.
+     * @return A {@code ResponseEntity} containing an {@code ExpirationAlertPageDTO} with an HTTP status of OK (200),
+     * or Bad Request (400) if {@code days} is below 1 or the cursor is invalid.
+     */
+    @GetMapping("/alerts/expiring/{days}")
+    public ResponseEntity<ExpirationAlertPageDTO> getNearingExpirationAlerts(
+            @PathVariable int days,
+            @Valid AlertPageRequestDTO request) {
         if (days < 1) {
              return ResponseEntity.badRequest().build();
         }
-        List<WarehouseInventoryDTO> alerts = inventoryService.getNearingExpirationAlerts(days);
-        return ResponseEntity.ok(alerts);
+        try {
+            return ResponseEntity.ok(alertService.getNearingExpirationAlerts(days, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
-     * Handles the HTTP GET request to retrieve inventory items that have already expired.
-     * * @return A {@code ResponseEntity} containing a list of {@code WarehouseInventoryDTO} objects 
-     * that are past their expiration date, with an HTTP status of OK (200).
+     * Handles the HTTP GET request to retrieve inventory items that have already expired, one page at a time,
+     * oldest expiration first.
+     * * @param request The optional query parameters: {@code after}, {@code size} and {@code warehouseId}.
+     * @return A {@code ResponseEntity} containing an {@code ExpirationAlertPageDTO} with an HTTP status of OK (200),
+     * or Bad Request (400) if the cursor is invalid.
      */
     @GetMapping("/alerts/expired")
-    public ResponseEntity<List<WarehouseInventoryDTO>> getExpiredInventory() {
-        List<WarehouseInventoryDTO> expiredItems = inventoryService.getExpiredInventory();
-        return ResponseEntity.ok(expiredItems);
+    public ResponseEntity<ExpirationAlertPageDTO> getExpiredInventory(@Valid AlertPageRequestDTO request) {
+        try {
+            return ResponseEntity.ok(alertService.getExpiredInventory(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Handles the HTTP GET request to retrieve inventory items nearing their expiration date, grouped by warehouse.
+     * * @param days The number of days remaining until expiration to consider for the alert.
+     * @param size The maximum number of alerts included per warehouse (1 to {@value ExpirationAlertService#MAX_GROUP_SIZE}).
+     * @return A {@code ResponseEntity} containing one {@code ExpirationAlertGroupDTO} per warehouse with an HTTP
+     * status of OK (200), or Bad Request (400) if a parameter is out of range.
+     */
+    @GetMapping("/alerts/expiring/{days}/by-warehouse")
+    public ResponseEntity<List<ExpirationAlertGroupDTO>> getNearingExpirationAlertsByWarehouse(
+            @PathVariable int days,
+            @RequestParam(defaultValue = "10") int size) {
+        if (days < 1 || size < 1 || size > ExpirationAlertService.MAX_GROUP_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(alertService.getNearingExpirationAlertsByWarehouse(days, size));
+    }
+
+    /**
+     * Handles the HTTP GET request to retrieve inventory items that have already expired, grouped by warehouse.
+     * * @param size The maximum number of alerts included per warehouse (1 to {@value ExpirationAlertService#MAX_GROUP_SIZE}).
+     * @return A {@code ResponseEntity} containing one {@code ExpirationAlertGroupDTO} per warehouse with an HTTP
+     * status of OK (200), or Bad Request (400) if {@code size} is out of range.
+     */
+    @GetMapping("/alerts/expired/by-warehouse")
+    public ResponseEntity<List<ExpirationAlertGroupDTO>> getExpiredInventoryByWarehouse(
+            @RequestParam(defaultValue = "10") int size) {
+        if (size < 1 || size > ExpirationAlertService.MAX_GROUP_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(alertService.getExpiredInventoryByWarehouse(size));
     }
 
-}
\ No newline at end of file
+    /**
+     * Handles the HTTP GET request to open a Server-Sent Events stream of alert events. Events named
+     * {@code expiring}, {@code expired}, {@code capacity} and {@code transfer} carry an {@code AlertEventDTO}
+     * and report changes only; load the current alerts through the endpoints above first.
+     * * @return A {@code ResponseEntity} containing the event stream with an HTTP status of OK (200),
+     * or Service Unavailable (503) if the maximum number of streams is already open.
+     */
+    @GetMapping(path = "/alerts/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamAlerts() {
+        SseEmitter emitter = alertStreamService.subscribe();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.skillstorm.reliable_api.dtos;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) representing one event pushed on the alert stream
+ * ({@code GET /warehouses/inventory/alerts/stream}). The SSE event name is the lower-case {@code type}.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public class AlertEventDTO {
+
+    /**
+     * The kinds of alert events.
+     */
+    public enum Type {
+        /** An inventory record entered the nearing-expiration window. */
+        EXPIRING,
+        /** An inventory record passed its expiration date. */
+        EXPIRED,
+        /** A warehouse's current capacity reached the configured share of its maximum capacity. */
+        CAPACITY,
+        /** An inventory transfer was completed. */
+        TRANSFER,
+        /** An inventory record left the alerts: it was removed, moved, quarantined or no longer expires soon. */
+        CLEARED
+    }
+
+    /**
+     * The kind of event.
+     */
+    private Type type;
+
+    /**
+     * The ID of the warehouse the event concerns (the destination warehouse for transfers).
+     */
+    private Long warehouseId;
+
+    /**
+     * The inventory record the event concerns, for expiration and cleared events; {@code null} otherwise.
+     * Cleared events carry the last state of the record that was on alert.
+     */
+    private WarehouseInventoryDTO item;
+
+    /**
+     * A human-readable description of the event.
+     */
+    private String message;
+
+    /**
+     * Timestamp of when the event was detected.
+     */
+    private LocalDateTime occurredAt;
+
+    // Constructors
+
+    /**
+     * Default constructor.
+     */
+    public AlertEventDTO() {}
+
+    /**
+     * Full parameterized constructor for creating a complete {@code AlertEventDTO} instance.
+     * * @param type The kind of event.
+     * @param warehouseId The ID of the warehouse the event concerns.
+     * @param item The inventory record the event concerns, or {@code null}.
+     * @param message A human-readable description of the event.
+     * @param occurredAt When the event was detected.
+     */
+    public AlertEventDTO(Type type, Long warehouseId, WarehouseInventoryDTO item, String message,
+                         LocalDateTime occurredAt) {
+        this.type = type;
+        this.warehouseId = warehouseId;
+        this.item = item;
+        this.message = message;
+        this.occurredAt = occurredAt;
+    }
+
+    // Getters and Setters
+
+    /**
+     * Provides accessor and mutator methods for all fields:
+     * (type, warehouseId, item, message, occurredAt).
+     * <p>
+     * {@code getType()}, {@code setType(Type type)}
+     * <p>
+     * {@code getWarehouseId()}, {@code setWarehouseId(Long warehouseId)}
+     * <p>
+     * {@code getItem()}, {@code setItem(WarehouseInventoryDTO item)}
+     * <p>
+     * {@code getMessage()}, {@code setMessage(String message)}
+     * <p>
+     * {@code getOccurredAt()}, {@code setOccurredAt(LocalDateTime occurredAt)}
+     * </p>
+     */
+    public Type getType() { return type; }
+    public void setType(Type type) { this.type = type; }
+
+    public Long getWarehouseId() { return warehouseId; }
+    public void setWarehouseId(Long warehouseId) { this.warehouseId = warehouseId; }
+
+    public WarehouseInventoryDTO getItem() { return item; }
+    public void setItem(WarehouseInventoryDTO item) { this.item = item; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(LocalDateTime occurredAt) { this.occurredAt = occurredAt; }
+}
@@ -0,0 +1,67 @@
+package com.skillstorm.reliable_api.dtos;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * Data Transfer Object (DTO) binding the query parameters of the paginated expiration alert listings
+ * ({@code GET /warehouses/inventory/alerts/expiring/{days}} and {@code /alerts/expired}).
+ * All fields are optional; omitted filters are not applied.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public class AlertPageRequestDTO {
+
+    /**
+     * The default number of alerts returned per page when {@code size} is omitted.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * The largest page size a client may request.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * The cursor returned as {@code nextCursor} by the previous page, in the form
+     * {@code <expirationDate>:<inventoryId>} (e.g. {@code 2025-01-31:1042}). Only alerts after it are returned.
+     */
+    @Pattern(regexp = "\\d{4}-\\d{2}-\\d{2}:\\d{1,18}")
+    private String after;
+
+    /**
+     * The number of alerts to return. Must be between 1 and {@value #MAX_PAGE_SIZE}.
+     */
+    @Min(1)
+    @Max(MAX_PAGE_SIZE)
+    private Integer size;
+
+    /**
+     * Restricts the results to inventory held in the given warehouse.
+     */
+    private Long warehouseId;
+
+    // Getters and Setters
+
+    /**
+     * Provides accessor and mutator methods for all fields:
+     * (after, size, warehouseId).
+     * <p>
+     * {@code getAfter()}, {@code setAfter(String after)}
+     * <p>
+     * {@code getSize()}, {@code setSize(Integer size)}
+     * <p>
+     * {@code getWarehouseId()}, {@code setWarehouseId(Long warehouseId)}
+     * </p>
+     */
+    public String getAfter() { return after; }
+    public void setAfter(String after) { this.after = after; }
+
+    public Integer getSize() { return size; }
+    public void setSize(Integer size) { this.size = size; }
+
+    public Long getWarehouseId() { return warehouseId; }
+    public void setWarehouseId(Long warehouseId) { this.warehouseId = warehouseId; }
+}
@@ -0,0 +1,99 @@
+package com.skillstorm.reliable_api.dtos;
+
+/**
+ * Data Transfer Object (DTO) reporting the outcome of a single line of a bulk inventory operation.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public class BulkItemResultDTO {
+
+    /**
+     * The zero-based position of the line in the request.
+     */
+    private int index;
+
+    /**
+     * The public ID of the product the line refers to.
+     */
+    private String productPublicId;
+
+    /**
+     * Flag indicating whether the line was applied.
+     */
+    private boolean success;
+
+    /**
+     * The reason the line was rejected, or {@code null} if it succeeded.
+     */
+    private String error;
+
+    // Constructors
+
+    /**
+     * Default constructor.
+     */
+    public BulkItemResultDTO() {}
+
+    /**
+     * Full parameterized constructor for creating a complete {@code BulkItemResultDTO} instance.
+     * * @param index The position of the line in the request.
+     * @param productPublicId The public ID of the product.
+     * @param success Whether the line was applied.
+     * @param error The rejection reason, or {@code null}.
+     */
+    public BulkItemResultDTO(int index, String productPublicId, boolean success, String error) {
+        this.index = index;
+        this.productPublicId = productPublicId;
+        this.success = success;
+        this.error = error;
+    }
+
+    /**
+     * Creates a result for a line that was applied.
+     * * @param index The position of the line in the request.
+     * @param productPublicId The public ID of the product.
+     * @return The success result.
+     */
+    public static BulkItemResultDTO succeeded(int index, String productPublicId) {
+        return new BulkItemResultDTO(index, productPublicId, true, null);
+    }
+
+    /**
+     * Creates a result for a line that was rejected.
+     * * @param index The position of the line in the request.
+     * @param productPublicId The public ID of the product.
+     * @param error The rejection reason.
+     * @return The failure result.
+     */
+    public static BulkItemResultDTO failed(int index, String productPublicId, String error) {
+        return new BulkItemResultDTO(index, productPublicId, false, error);
+    }
+
+    // Getters and Setters
+
+    /**
+     * Provides accessor and mutator methods for all fields:
+     * (index, productPublicId, success, error).
+     * <p>
+     * {@code getIndex()}, {@code setIndex(int index)}
+     * <p>
+     * {@code getProductPublicId()}, {@code setProductPublicId(String productPublicId)}
+     * <p>
+     * {@code isSuccess()}, {@code setSuccess(boolean success)}
+     * <p>
+     * {@code getError()}, {@code setError(String error)}
+     * </p>
+     */
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public String getProductPublicId() { return productPublicId; }
+    public void setProductPublicId(String productPublicId) { this.productPublicId = productPublicId; }
+
+    public boolean isSuccess() { return success; }
+    public void setSuccess(boolean success) { this.success = success; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
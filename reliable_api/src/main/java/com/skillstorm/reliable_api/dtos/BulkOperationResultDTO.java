@@ -0,0 +1,78 @@
+package com.skillstorm.reliable_api.dtos;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) summarizing a bulk inventory operation, with one
+ * {@code BulkItemResultDTO} per request line in request order.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public class BulkOperationResultDTO {
+
+    /**
+     * The number of lines in the request.
+     */
+    private int requested;
+
+    /**
+     * The number of lines that were applied.
+     */
+    private int succeeded;
+
+    /**
+     * The number of lines that were rejected.
+     */
+    private int failed;
+
+    /**
+     * The per-line outcomes, in request order.
+     */
+    private List<BulkItemResultDTO> items;
+
+    // Constructors
+
+    /**
+     * Default constructor.
+     */
+    public BulkOperationResultDTO() {}
+
+    /**
+     * Creates a summary from the per-line outcomes, deriving the counts.
+     * * @param items The per-line outcomes, in request order.
+     */
+    public BulkOperationResultDTO(List<BulkItemResultDTO> items) {
+        this.items = items;
+        this.requested = items.size();
+        this.succeeded = (int) items.stream().filter(BulkItemResultDTO::isSuccess).count();
+        this.failed = requested - succeeded;
+    }
+
+    // Getters and Setters
+
+    /**
+     * Provides accessor and mutator methods for all fields:
+     * (requested, succeeded, failed, items).
+     * <p>
+     * {@code getRequested()}, {@code setRequested(int requested)}
+     * <p>
+     * {@code getSucceeded()}, {@code setSucceeded(int succeeded)}
+     * <p>
+     * {@code getFailed()}, {@code setFailed(int failed)}
+     * <p>
+     * {@code getItems()}, {@code setItems(List<BulkItemResultDTO> items)}
+     * </p>
+     */
+    public int getRequested() { return requested; }
+    public void setRequested(int requested) { this.requested = requested; }
+
+    public int getSucceeded() { return succeeded; }
+    public void setSucceeded(int succeeded) { this.succeeded = succeeded; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public List<BulkItemResultDTO> getItems() { return items; }
+    public void setItems(List<BulkItemResultDTO> items) { this.items = items; }
+}
@@ -0,0 +1,74 @@
+package com.skillstorm.reliable_api.dtos;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Data Transfer Object (DTO) for moving many products from one source warehouse to one destination
+ * warehouse in a single request. Items are validated individually by the service so that one bad
+ * line is reported instead of failing the whole request.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public class BulkTransferDTO {
+
+    /**
+     * The maximum number of items accepted in one request.
+     */
+    public static final int MAX_ITEMS = 5_000;
+
+    /**
+     * The ID of the warehouse the products are moved out of.
+     */
+    @NotNull
+    private Long sourceWarehouseId;
+
+    /**
+     * The ID of the warehouse the products are moved into.
+     */
+    @NotNull
+    private Long destinationWarehouseId;
+
+    /**
+     * Optional notes recorded on every transfer log entry created by this request.
+     */
+    private String transferNotes;
+
+    /**
+     * The products to transfer.
+     */
+    @NotEmpty
+    @Size(max = MAX_ITEMS)
+    private List<BulkTransferItemDTO> items;
+
+    // Getters and Setters
+
+    /**
+     * Provides accessor and mutator methods for all fields:
+     * (sourceWarehouseId, destinationWarehouseId, transferNotes, items).
+     * <p>
+     * {@code getSourceWarehouseId()}, {@code setSourceWarehouseId(Long sourceWarehouseId)}
+     * <p>
+     * {@code getDestinationWarehouseId()}, {@code setDestinationWarehouseId(Long destinationWarehouseId)}
+     * <p>
+     * {@code getTransferNotes()}, {@code setTransferNotes(String transferNotes)}
+     * <p>
+     * {@code getItems()}, {@code setItems(List<BulkTransferItemDTO> items)}
+     * </p>
+     */
+    public Long getSourceWarehouseId() { return sourceWarehouseId; }
+    public void setSourceWarehouseId(Long sourceWarehouseId) { this.sourceWarehouseId = sourceWarehouseId; }
+
+    public Long getDestinationWarehouseId() { return destinationWarehouseId; }
+    public void setDestinationWarehouseId(Long destinationWarehouseId) { this.destinationWarehouseId = destinationWarehouseId; }
+
+    public String getTransferNotes() { return transferNotes; }
+    public void setTransferNotes(String transferNotes) { this.transferNotes = transferNotes; }
+
+    public List<BulkTransferItemDTO> getItems() { return items; }
+    public void setItems(List<BulkTransferItemDTO> items) { this.items = items; }
+}
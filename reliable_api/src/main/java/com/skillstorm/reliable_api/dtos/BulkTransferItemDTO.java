@@ -0,0 +1,43 @@
+package com.skillstorm.reliable_api.dtos;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Data Transfer Object (DTO) describing one product to move as part of a {@code BulkTransferDTO}.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public class BulkTransferItemDTO {
+
+    /**
+     * The public ID of the product to transfer.
+     */
+    @NotBlank
+    private String productPublicId;
+
+    /**
+     * The number of units to move. Optional; when omitted the entire quantity stocked in the
+     * source warehouse is transferred.
+     */
+    @Positive
+    private Integer quantity;
+
+    // Getters and Setters
+
+    /**
+     * Provides accessor and mutator methods for all fields:
+     * (productPublicId, quantity).
+     * <p>
+     * {@code getProductPublicId()}, {@code setProductPublicId(String productPublicId)}
+     * <p>
+     * {@code getQuantity()}, {@code setQuantity(Integer quantity)}
+     * </p>
+     */
+    public String getProductPublicId() { return productPublicId; }
+    public void setProductPublicId(String productPublicId) { this.productPublicId = productPublicId; }
+
+    public Integer getQuantity() { return quantity; }
+    public void setQuantity(Integer quantity) { this.quantity = quantity; }
+}
@@ -0,0 +1,42 @@
+package com.skillstorm.reliable_api.dtos;
+
+/**
+ * Data Transfer Object (DTO) reporting the outcome of a set-based bulk update.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public class BulkUpdateResultDTO {
+
+    /**
+     * The number of rows changed by the update. Rows that were already in the requested state are not counted.
+     */
+    private int affected;
+
+    // Constructors
+
+    /**
+     * Default constructor.
+     */
+    public BulkUpdateResultDTO() {}
+
+    /**
+     * Constructor for creating a result with the given row count.
+     * * @param affected The number of rows changed.
+     */
+    public BulkUpdateResultDTO(int affected) {
+        this.affected = affected;
+    }
+
+    // Getters and Setters
+
+    /**
+     * Provides accessor and mutator methods for all fields:
+     * (affected).
+     * <p>
+     * {@code getAffected()}, {@code setAffected(int affected)}
+     * </p>
+     */
+    public int getAffected() { return affected; }
+    public void setAffected(int affected) { this.affected = affected; }
+}
@@ -0,0 +1,66 @@
+package com.skillstorm.reliable_api.dtos;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of the complete category catalog, sorted by name.
+ * The snapshot is shared by every request until a category write or a periodic refresh replaces it, so the list is
+ * unmodifiable and its {@code CategoryDTO}s must be treated as read-only.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public final class CategoryCatalogDTO {
+
+    /**
+     * The monotonically increasing version of this instance's catalog; bumped only when its content changes.
+     */
+    private final long version;
+
+    /**
+     * The hex-encoded hash (truncated SHA-256) of the catalog content.
+     */
+    private final String contentHash;
+
+    /**
+     * The strong HTTP entity tag derived from the content hash only, so every instance serving the same
+     * catalog returns the same tag.
+     */
+    private final String eTag;
+
+    /**
+     * The unmodifiable list of categories, sorted alphabetically by name.
+     */
+    private final List<CategoryDTO> categories;
+
+    /**
+     * Full parameterized constructor. The entity tag is derived from the content hash,
+     * and the list is copied into an unmodifiable list.
+     * * @param version The catalog version.
+     * @param contentHash The hash of the catalog content.
+     * @param categories The categories, sorted by name.
+     */
+    public CategoryCatalogDTO(long version, String contentHash, List<CategoryDTO> categories) {
+        this.version = version;
+        this.contentHash = contentHash;
+        this.eTag = "\"" + contentHash + "\"";
+        this.categories = List.copyOf(categories);
+    }
+
+    // Getters
+
+    /**
+     * Provides accessor methods for all fields:
+     * (version, contentHash, eTag, categories).
+     * <p>
+     * {@code getVersion()}, {@code getContentHash()}, {@code getETag()}, {@code getCategories()}
+     * </p>
+     */
+    public long getVersion() { return version; }
+
+    public String getContentHash() { return contentHash; }
+
+    public String getETag() { return eTag; }
+
+    public List<CategoryDTO> getCategories() { return categories; }
+}
@@ -0,0 +1,72 @@
+package com.skillstorm.reliable_api.dtos;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing a single page of a keyset (cursor) paginated listing.
+ * Instead of an offset, the client passes back {@code nextCursor} to fetch the following page,
+ * which keeps every page query an index range scan regardless of how deep the client pages.
+ *
+ * @param <T> The type of the items contained in the page.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public class CursorPageDTO<T> {
+
+    /**
+     * The items contained in this page, in cursor order.
+     */
+    private List<T> items;
+
+    /**
+     * The cursor to pass back to retrieve the next page, or {@code null} if this is the last page.
+     */
+    private Long nextCursor;
+
+    /**
+     * Flag indicating whether more items exist after this page.
+     */
+    private boolean hasMore;
+
+    // Constructors
+
+    /**
+     * Default constructor.
+     */
+    public CursorPageDTO() {}
+
+    /**
+     * Full parameterized constructor for creating a complete {@code CursorPageDTO} instance.
+     * * @param items The items contained in this page.
+     * @param nextCursor The cursor for the next page, or {@code null} if there is none.
+     * @param hasMore Whether more items exist after this page.
+     */
+    public CursorPageDTO(List<T> items, Long nextCursor, boolean hasMore) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+
+    /**
+     * Provides accessor and mutator methods for all fields:
+     * (items, nextCursor, hasMore).
+     * <p>
+     * {@code getItems()}, {@code setItems(List<T> items)}
+     * <p>
+     * {@code getNextCursor()}, {@code setNextCursor(Long nextCursor)}
+     * <p>
+     * {@code isHasMore()}, {@code setHasMore(boolean hasMore)}
+     * </p>
+     */
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public Long getNextCursor() { return nextCursor; }
+    public void setNextCursor(Long nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
@@ -0,0 +1,90 @@
+package com.skillstorm.reliable_api.dtos;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing the expiration alerts of one warehouse: how many of its inventory
+ * records match, and the first of them. The remaining alerts are retrieved from the flat alert listing with
+ * the {@code warehouseId} filter and {@code nextCursor} as the {@code after} parameter.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public class ExpirationAlertGroupDTO {
+
+    /**
+     * The ID of the warehouse.
+     */
+    private Long warehouseId;
+
+    /**
+     * The name of the warehouse.
+     */
+    private String warehouseName;
+
+    /**
+     * The total number of matching inventory records in the warehouse.
+     */
+    private long itemCount;
+
+    /**
+     * The first matching inventory records, soonest expiration first.
+     */
+    private List<WarehouseInventoryDTO> items;
+
+    /**
+     * The cursor of the last item in {@code items}, or {@code null} if the group holds every matching record.
+     */
+    private String nextCursor;
+
+    // Constructors
+
+    /**
+     * Default constructor.
+     */
+    public ExpirationAlertGroupDTO() {}
+
+    /**
+     * Constructor used by the grouped count query; the items are filled in afterwards.
+     * * @param warehouseId The ID of the warehouse.
+     * @param warehouseName The name of the warehouse.
+     * @param itemCount The total number of matching inventory records.
+     */
+    public ExpirationAlertGroupDTO(Long warehouseId, String warehouseName, long itemCount) {
+        this.warehouseId = warehouseId;
+        this.warehouseName = warehouseName;
+        this.itemCount = itemCount;
+    }
+
+    // Getters and Setters
+
+    /**
+     * Provides accessor and mutator methods for all fields:
+     * (warehouseId, warehouseName, itemCount, items, nextCursor).
+     * <p>
+     * {@code getWarehouseId()}, {@code setWarehouseId(Long warehouseId)}
+     * <p>
+     * {@code getWarehouseName()}, {@code setWarehouseName(String warehouseName)}
+     * <p>
+     * {@code getItemCount()}, {@code setItemCount(long itemCount)}
+     * <p>
+     * {@code getItems()}, {@code setItems(List<WarehouseInventoryDTO> items)}
+     * <p>
+     * {@code getNextCursor()}, {@code setNextCursor(String nextCursor)}
+     * </p>
+     */
+    public Long getWarehouseId() { return warehouseId; }
+    public void setWarehouseId(Long warehouseId) { this.warehouseId = warehouseId; }
+
+    public String getWarehouseName() { return warehouseName; }
+    public void setWarehouseName(String warehouseName) { this.warehouseName = warehouseName; }
+
+    public long getItemCount() { return itemCount; }
+    public void setItemCount(long itemCount) { this.itemCount = itemCount; }
+
+    public List<WarehouseInventoryDTO> getItems() { return items; }
+    public void setItems(List<WarehouseInventoryDTO> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
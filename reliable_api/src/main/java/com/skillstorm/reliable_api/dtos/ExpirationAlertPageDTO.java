@@ -0,0 +1,70 @@
+package com.skillstorm.reliable_api.dtos;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing a single page of expiration alerts, ordered by expiration date
+ * and then inventory ID. The client passes back {@code nextCursor} as the {@code after} parameter to fetch
+ * the following page.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public class ExpirationAlertPageDTO {
+
+    /**
+     * The alerts contained in this page, soonest expiration first.
+     */
+    private List<WarehouseInventoryDTO> items;
+
+    /**
+     * The cursor to pass back to retrieve the next page, or {@code null} if this is the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * Flag indicating whether more alerts exist after this page.
+     */
+    private boolean hasMore;
+
+    // Constructors
+
+    /**
+     * Default constructor.
+     */
+    public ExpirationAlertPageDTO() {}
+
+    /**
+     * Full parameterized constructor for creating a complete {@code ExpirationAlertPageDTO} instance.
+     * * @param items The alerts contained in this page.
+     * @param nextCursor The cursor for the next page, or {@code null} if there is none.
+     * @param hasMore Whether more alerts exist after this page.
+     */
+    public ExpirationAlertPageDTO(List<WarehouseInventoryDTO> items, String nextCursor, boolean hasMore) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+
+    /**
+     * Provides accessor and mutator methods for all fields:
+     * (items, nextCursor, hasMore).
+     * <p>
+     * {@code getItems()}, {@code setItems(List<WarehouseInventoryDTO> items)}
+     * <p>
+     * {@code getNextCursor()}, {@code setNextCursor(String nextCursor)}
+     * <p>
+     * {@code isHasMore()}, {@code setHasMore(boolean hasMore)}
+     * </p>
+     */
+    public List<WarehouseInventoryDTO> getItems() { return items; }
+    public void setItems(List<WarehouseInventoryDTO> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
@@ -0,0 +1,101 @@
+package com.skillstorm.reliable_api.dtos;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * Data Transfer Object (DTO) binding the query parameters of the paginated inventory listing
+ * ({@code GET /warehouses/inventory}). All fields are optional; omitted filters are not applied.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public class InventoryPageRequestDTO {
+
+    /**
+     * The default number of inventory records returned per page when {@code size} is omitted.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * The largest page size a client may request.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * The cursor returned as {@code nextCursor} by the previous page. Only records with an
+     * inventory ID greater than this value are returned.
+     */
+    @Min(0)
+    private Long after;
+
+    /**
+     * The number of records to return. Must be between 1 and {@value #MAX_PAGE_SIZE}.
+     */
+    @Min(1)
+    @Max(MAX_PAGE_SIZE)
+    private Integer size;
+
+    /**
+     * Restricts the results to inventory held in the given warehouse.
+     */
+    private Long warehouseId;
+
+    /**
+     * Restricts the results to inventory whose product belongs to the given category.
+     */
+    private Long categoryId;
+
+    /**
+     * Restricts the results to inventory expiring on or after this date (ISO format, e.g. 2025-01-31).
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate expiresFrom;
+
+    /**
+     * Restricts the results to inventory expiring on or before this date (ISO format, e.g. 2025-01-31).
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate expiresTo;
+
+    // Getters and Setters
+
+    /**
+     * Provides accessor and mutator methods for all fields:
+     * (after, size, warehouseId, categoryId, expiresFrom, expiresTo).
+     * <p>
+     * {@code getAfter()}, {@code setAfter(Long after)}
+     * <p>
+     * {@code getSize()}, {@code setSize(Integer size)}
+     * <p>
+     * {@code getWarehouseId()}, {@code setWarehouseId(Long warehouseId)}
+     * <p>
+     * {@code getCategoryId()}, {@code setCategoryId(Long categoryId)}
+     * <p>
+     * {@code getExpiresFrom()}, {@code setExpiresFrom(LocalDate expiresFrom)}
+     * <p>
+     * {@code getExpiresTo()}, {@code setExpiresTo(LocalDate expiresTo)}
+     * </p>
+     */
+    public Long getAfter() { return after; }
+    public void setAfter(Long after) { this.after = after; }
+
+    public Integer getSize() { return size; }
+    public void setSize(Integer size) { this.size = size; }
+
+    public Long getWarehouseId() { return warehouseId; }
+    public void setWarehouseId(Long warehouseId) { this.warehouseId = warehouseId; }
+
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+
+    public LocalDate getExpiresFrom() { return expiresFrom; }
+    public void setExpiresFrom(LocalDate expiresFrom) { this.expiresFrom = expiresFrom; }
+
+    public LocalDate getExpiresTo() { return expiresTo; }
+    public void setExpiresTo(LocalDate expiresTo) { this.expiresTo = expiresTo; }
+}
@@ -2,6 +2,7 @@ package com.skillstorm.reliable_api.dtos;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
 /**
  * Data Transfer Object (DTO) used for initiating the transfer of inventory
@@ -30,7 +31,13 @@ public class InventoryTransferDTO {
      */
     @NotNull
     private Long destinationWarehouseId;
-   
+
+    /**
+     * The number of units to move. Optional; when omitted the entire quantity stocked in the
+     * source warehouse is transferred. Must be positive when present.
+     */
+    @Positive
+    private Integer quantity;
 
     /**
      * Optional notes or justification for the inventory transfer.
@@ -41,7 +48,7 @@ public class InventoryTransferDTO {
 
     /**
      * Provides accessor and mutator methods for all fields (productPublicId, sourceWarehouseId, 
-     * destinationWarehouseId, transferNotes).
+     * destinationWarehouseId, quantity, transferNotes).
      * <p>
      * {@code getProductPublicId()}, {@code setProductPublicId(String productPublicId)}
      * <p>
@@ -49,6 +56,8 @@ public class InventoryTransferDTO {
      * <p>
      * {@code getDestinationWarehouseId()}, {@code setDestinationWarehouseId(Long destinationWarehouseId)}
      * <p>
+     * {@code getQuantity()}, {@code setQuantity(Integer quantity)}
+     * <p>
      * {@code getTransferNotes()}, {@code setTransferNotes(String transferNotes)}
      * </p>
      */
@@ -58,7 +67,9 @@ public class InventoryTransferDTO {
     public void setSourceWarehouseId(Long sourceWarehouseId) { this.sourceWarehouseId = sourceWarehouseId; }
     public Long getDestinationWarehouseId() { return destinationWarehouseId; }
     public void setDestinationWarehouseId(Long destinationWarehouseId) { this.destinationWarehouseId = destinationWarehouseId; }
-  
+    public Integer getQuantity() { return quantity; }
+    public void setQuantity(Integer quantity) { this.quantity = quantity; }
+
     public String getTransferNotes() { return transferNotes; }
     public void setTransferNotes(String transferNotes) { this.transferNotes = transferNotes; }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.skillstorm.reliable_api.dtos;
+
+/**
+ * Immutable Data Transfer Object (DTO) holding the minimal reference data needed to link an active
+ * product to inventory records: its internal primary key.
+ * Instances are shared through the {@code productRefs} cache, so they expose no mutators.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public final class ProductRefDTO {
+
+    /**
+     * The internal primary key of the product.
+     */
+    private final Long productId;
+
+    /**
+     * Full parameterized constructor, also used by the JPQL constructor expression in {@code ProductRepo}.
+     * * @param productId The internal primary key of the product.
+     */
+    public ProductRefDTO(Long productId) {
+        this.productId = productId;
+    }
+
+    // Getters
+
+    /**
+     * Provides accessor methods for all fields:
+     * (productId).
+     * <p>
+     * {@code getProductId()}
+     * </p>
+     */
+    public Long getProductId() { return productId; }
+}
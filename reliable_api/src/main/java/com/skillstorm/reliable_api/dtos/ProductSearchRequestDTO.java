@@ -0,0 +1,77 @@
+package com.skillstorm.reliable_api.dtos;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Data Transfer Object (DTO) binding the query parameters of the product search
+ * ({@code GET /api/warehouse/products/search}).
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public class ProductSearchRequestDTO {
+
+    /**
+     * The default number of products returned per page when {@code size} is omitted.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /**
+     * The largest page size a client may request.
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * The deepest position a client may page to. Relevance-ordered results are only useful near the top,
+     * and the limit keeps every page cheap.
+     */
+    public static final int MAX_OFFSET = 1_000;
+
+    /**
+     * The search text, matched against product name, SKU and description. Supports web-search syntax
+     * ({@code "quoted phrases"}, {@code or}, {@code -excluded}). At least 3 characters, the shortest text
+     * the trigram indexes can serve.
+     */
+    @NotBlank
+    @Size(min = 3, max = 100)
+    private String q;
+
+    /**
+     * The number of results to skip; the {@code nextCursor} returned by the previous page.
+     */
+    @Min(0)
+    @Max(MAX_OFFSET)
+    private Long offset;
+
+    /**
+     * The number of products to return. Must be between 1 and {@value #MAX_PAGE_SIZE}.
+     */
+    @Min(1)
+    @Max(MAX_PAGE_SIZE)
+    private Integer size;
+
+    // Getters and Setters
+
+    /**
+     * Provides accessor and mutator methods for all fields:
+     * (q, offset, size).
+     * <p>
+     * {@code getQ()}, {@code setQ(String q)}
+     * <p>
+     * {@code getOffset()}, {@code setOffset(Long offset)}
+     * <p>
+     * {@code getSize()}, {@code setSize(Integer size)}
+     * </p>
+     */
+    public String getQ() { return q; }
+    public void setQ(String q) { this.q = q; }
+
+    public Long getOffset() { return offset; }
+    public void setOffset(Long offset) { this.offset = offset; }
+
+    public Integer getSize() { return size; }
+    public void setSize(Integer size) { this.size = size; }
+}
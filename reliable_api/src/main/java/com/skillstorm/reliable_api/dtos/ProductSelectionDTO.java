@@ -0,0 +1,58 @@
+package com.skillstorm.reliable_api.dtos;
+
+import java.util.List;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Data Transfer Object (DTO) selecting the products of a bulk product operation, either by an explicit
+ * list of public IDs or by category. Exactly one of the two must be given.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public class ProductSelectionDTO {
+
+    /**
+     * Maximum number of public IDs accepted in one request.
+     */
+    public static final int MAX_PUBLIC_IDS = 10_000;
+
+    /**
+     * The public IDs of the selected products.
+     */
+    @Size(min = 1, max = MAX_PUBLIC_IDS)
+    private List<String> publicIds;
+
+    /**
+     * The ID of the category whose products are selected.
+     */
+    private Long categoryId;
+
+    /**
+     * Checks that exactly one selection criterion is present.
+     * * @return {@code true} if either {@code publicIds} or {@code categoryId} is set, but not both.
+     */
+    @AssertTrue(message = "exactly one of publicIds or categoryId must be given")
+    public boolean isSingleCriterion() {
+        return (publicIds != null) != (categoryId != null);
+    }
+
+    // Getters and Setters
+
+    /**
+     * Provides accessor and mutator methods for all fields:
+     * (publicIds, categoryId).
+     * <p>
+     * {@code getPublicIds()}, {@code setPublicIds(List<String> publicIds)}
+     * <p>
+     * {@code getCategoryId()}, {@code setCategoryId(Long categoryId)}
+     * </p>
+     */
+    public List<String> getPublicIds() { return publicIds; }
+    public void setPublicIds(List<String> publicIds) { this.publicIds = publicIds; }
+
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+}
@@ -0,0 +1,118 @@
+package com.skillstorm.reliable_api.dtos;
+
+import java.time.LocalDateTime;
+
+import com.skillstorm.reliable_api.models.TransferJobStatus;
+
+/**
+ * Data Transfer Object (DTO) reporting the state of an asynchronous inventory transfer.
+ * It is returned when a transfer is accepted and by the job status endpoint.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public class TransferJobDTO {
+
+    /**
+     * The unique ID of the job.
+     */
+    private Long jobId;
+
+    /**
+     * The public ID of the product being transferred.
+     */
+    private String productPublicId;
+
+    /**
+     * The ID of the warehouse the inventory is moved from.
+     */
+    private Long sourceWarehouseId;
+
+    /**
+     * The ID of the warehouse the inventory is moved to.
+     */
+    private Long destinationWarehouseId;
+
+    /**
+     * The number of units to move, or {@code null} for the entire stocked quantity.
+     */
+    private Integer quantity;
+
+    /**
+     * Optional notes or justification for the transfer.
+     */
+    private String transferNotes;
+
+    /**
+     * The current state of the job.
+     */
+    private TransferJobStatus status;
+
+    /**
+     * The reason the transfer failed, or {@code null}.
+     */
+    private String error;
+
+    /**
+     * The number of queued jobs accepted before this one, or {@code null} once the job has left the queue.
+     */
+    private Long jobsAhead;
+
+    /**
+     * Timestamp indicating when the job was accepted.
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * Timestamp indicating when a worker picked the job up.
+     */
+    private LocalDateTime startedAt;
+
+    /**
+     * Timestamp indicating when the job succeeded or failed.
+     */
+    private LocalDateTime completedAt;
+
+    // Getters and Setters
+
+    /**
+     * Provides accessor and mutator methods for all fields:
+     * (jobId, productPublicId, sourceWarehouseId, destinationWarehouseId, quantity, transferNotes,
+     * status, error, jobsAhead, createdAt, startedAt, completedAt).
+     */
+    public Long getJobId() { return jobId; }
+    public void setJobId(Long jobId) { this.jobId = jobId; }
+
+    public String getProductPublicId() { return productPublicId; }
+    public void setProductPublicId(String productPublicId) { this.productPublicId = productPublicId; }
+
+    public Long getSourceWarehouseId() { return sourceWarehouseId; }
+    public void setSourceWarehouseId(Long sourceWarehouseId) { this.sourceWarehouseId = sourceWarehouseId; }
+
+    public Long getDestinationWarehouseId() { return destinationWarehouseId; }
+    public void setDestinationWarehouseId(Long destinationWarehouseId) { this.destinationWarehouseId = destinationWarehouseId; }
+
+    public Integer getQuantity() { return quantity; }
+    public void setQuantity(Integer quantity) { this.quantity = quantity; }
+
+    public String getTransferNotes() { return transferNotes; }
+    public void setTransferNotes(String transferNotes) { this.transferNotes = transferNotes; }
+
+    public TransferJobStatus getStatus() { return status; }
+    public void setStatus(TransferJobStatus status) { this.status = status; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+
+    public Long getJobsAhead() { return jobsAhead; }
+    public void setJobsAhead(Long jobsAhead) { this.jobsAhead = jobsAhead; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+}
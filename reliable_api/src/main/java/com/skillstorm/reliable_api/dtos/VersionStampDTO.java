@@ -0,0 +1,87 @@
+package com.skillstorm.reliable_api.dtos;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Immutable Data Transfer Object (DTO) summarizing the state of a set of rows for conditional GET
+ * requests: the latest {@code updatedAt} timestamp and the number of rows.
+ * <p>
+ * Updates move the timestamp forward, while inserts and deletes change the count, so the pair changes
+ * whenever the listing it describes changes. It is produced by cheap {@code MAX/COUNT} queries and
+ * rendered as the {@code ETag} and {@code Last-Modified} response headers.
+ * </p>
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public final class VersionStampDTO {
+
+    /**
+     * The latest {@code updatedAt} of the rows, or {@code null} if there are none.
+     */
+    private final LocalDateTime lastModified;
+
+    /**
+     * The number of rows.
+     */
+    private final long count;
+
+    /**
+     * Full parameterized constructor, also used by the JPQL constructor expressions in the repositories.
+     * * @param lastModified The latest update timestamp, or {@code null} if there are no rows.
+     * @param count The number of rows.
+     */
+    public VersionStampDTO(LocalDateTime lastModified, Long count) {
+        this.lastModified = lastModified;
+        this.count = count != null ? count : 0L;
+    }
+
+    /**
+     * Combines this stamp with another one describing a related set of rows (e.g. warehouses and their inventory).
+     * * @param other The other stamp.
+     * @return A stamp with the later of the two timestamps and the sum of the counts.
+     */
+    public VersionStampDTO combine(VersionStampDTO other) {
+        LocalDateTime latest = lastModified;
+        if (latest == null || (other.lastModified != null && other.lastModified.isAfter(latest))) {
+            latest = other.lastModified;
+        }
+        return new VersionStampDTO(latest, count + other.count);
+    }
+
+    /**
+     * Retrieves the quoted strong entity tag for this stamp. Unlike {@code Last-Modified}, it keeps
+     * sub-second precision and includes the row count.
+     * * @return The entity tag.
+     */
+    public String getETag() {
+        long micros = lastModified == null ? 0L
+                : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() * 1000L
+                  + (lastModified.getNano() / 1000) % 1000;
+        return "\"" + Long.toHexString(micros) + "-" + Long.toHexString(count) + "\"";
+    }
+
+    /**
+     * Retrieves the latest update timestamp in epoch milliseconds, as expected by
+     * {@code WebRequest.checkNotModified}.
+     * * @return The epoch milliseconds, or {@code -1} if there are no rows.
+     */
+    public long getLastModifiedMillis() {
+        return lastModified == null ? -1L
+                : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // Getters
+
+    /**
+     * Provides accessor methods for all fields:
+     * (lastModified, count).
+     * <p>
+     * {@code getLastModified()}, {@code getCount()}
+     * </p>
+     */
+    public LocalDateTime getLastModified() { return lastModified; }
+
+    public long getCount() { return count; }
+}
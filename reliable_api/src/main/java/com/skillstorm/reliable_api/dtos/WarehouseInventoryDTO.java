@@ -1,6 +1,7 @@
 package com.skillstorm.reliable_api.dtos;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -22,6 +23,11 @@ public class WarehouseInventoryDTO {
     @NotBlank
     private String productPublicId;
 
+    /**
+     * The ID of the warehouse holding this inventory record.
+     */
+    private Long warehouseId;
+
     /**
      * The quantity of this product currently in stock. Must not be null and must be at least 1.
      */
@@ -39,6 +45,11 @@ public class WarehouseInventoryDTO {
      */
     private LocalDate expirationDate;
 
+    /**
+     * Timestamp of when the expiry sweeper quarantined this record, or {@code null} if it is not quarantined.
+     */
+    private LocalDateTime quarantinedAt;
+
     /**
      * The detailed metadata for the product associated with this inventory record.
      */
@@ -48,16 +59,20 @@ public class WarehouseInventoryDTO {
     
     /**
      * Provides accessor and mutator methods for all fields:
-     * (productPublicId, quantity, storageLocation, expirationDate, product).
+     * (productPublicId, warehouseId, quantity, storageLocation, expirationDate, quarantinedAt, product).
      * <p>
      * {@code getProductPublicId()}, {@code setProductPublicId(String productPublicId)}
      * <p>
+     * {@code getWarehouseId()}, {@code setWarehouseId(Long warehouseId)}
+     * <p>
      * {@code getQuantity()}, {@code setQuantity(Integer quantity)}
      * <p>
      * {@code getStorageLocation()}, {@code setStorageLocation(String storageLocation)}
      * <p>
      * {@code getExpirationDate()}, {@code setExpirationDate(LocalDate expirationDate)}
      * <p>
+     * {@code getQuarantinedAt()}, {@code setQuarantinedAt(LocalDateTime quarantinedAt)}
+     * <p>
      * {@code getProduct()}, {@code setProduct(ProductDTO product)}
      * </p>
      */
@@ -68,6 +83,13 @@ public class WarehouseInventoryDTO {
         this.productPublicId = productPublicId;
     }
 
+    public Long getWarehouseId() {
+        return warehouseId;
+    }
+    public void setWarehouseId(Long warehouseId) {
+        this.warehouseId = warehouseId;
+    }
+
     public Integer getQuantity() {
         return quantity;
     }
@@ -91,6 +113,13 @@ public class WarehouseInventoryDTO {
         this.expirationDate = expirationDate;
     }
 
+    public LocalDateTime getQuarantinedAt() {
+        return quarantinedAt;
+    }
+    public void setQuarantinedAt(LocalDateTime quarantinedAt) {
+        this.quarantinedAt = quarantinedAt;
+    }
+
     public ProductDTO getProduct() {
         return product;
     }
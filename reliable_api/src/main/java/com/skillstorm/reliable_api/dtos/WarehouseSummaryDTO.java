@@ -0,0 +1,149 @@
+package com.skillstorm.reliable_api.dtos;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Data Transfer Object (DTO) representing a lightweight summary of a warehouse.
+ * This class carries the basic warehouse attributes together with inventory aggregates
+ * (SKU count, total units, utilization and stock value) instead of the full inventory list,
+ * so a listing of summaries is produced by a single aggregate query.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public class WarehouseSummaryDTO {
+
+    /**
+     * The unique database ID of the warehouse.
+     */
+    private Long warehouseId;
+
+    /**
+     * The name of the warehouse (e.g., "Main Distribution Center").
+     */
+    private String name;
+
+    /**
+     * The physical location or address of the warehouse.
+     */
+    private String location;
+
+    /**
+     * The maximum total capacity (units/volume) the warehouse can hold.
+     */
+    private int maxCapacity;
+
+    /**
+     * The current utilized capacity (units/volume) in the warehouse.
+     */
+    private int currentCapacity;
+
+    /**
+     * The number of distinct products (inventory records) stocked in the warehouse.
+     */
+    private long skuCount;
+
+    /**
+     * The sum of the quantities of all inventory records in the warehouse.
+     */
+    private long totalUnits;
+
+    /**
+     * The current capacity as a percentage of the maximum capacity, rounded to two decimal places.
+     */
+    private BigDecimal utilizationPercent;
+
+    /**
+     * The total stock value of the warehouse (sum of quantity times product price).
+     */
+    private BigDecimal totalValue;
+
+    // Constructors
+
+    /**
+     * Default constructor.
+     */
+    public WarehouseSummaryDTO() {}
+
+    /**
+     * Constructor used by the aggregate JPQL constructor expression in {@code WarehouseRepo}.
+     * Aggregates of a warehouse with no inventory arrive as {@code null} and are normalized to zero;
+     * the utilization percentage is derived from the capacity fields.
+     * * @param warehouseId The unique ID of the warehouse.
+     * @param name The name of the warehouse.
+     * @param location The location of the warehouse.
+     * @param maxCapacity The maximum storage capacity.
+     * @param currentCapacity The currently used capacity.
+     * @param skuCount The number of inventory records in the warehouse.
+     * @param totalUnits The sum of inventory quantities, or {@code null} if there is no inventory.
+     * @param totalValue The sum of quantity times price, or {@code null} if there is no inventory.
+     */
+    public WarehouseSummaryDTO(Long warehouseId, String name, String location, int maxCapacity, int currentCapacity,
+                               Long skuCount, Long totalUnits, BigDecimal totalValue) {
+        this.warehouseId = warehouseId;
+        this.name = name;
+        this.location = location;
+        this.maxCapacity = maxCapacity;
+        this.currentCapacity = currentCapacity;
+        this.skuCount = skuCount != null ? skuCount : 0L;
+        this.totalUnits = totalUnits != null ? totalUnits : 0L;
+        this.totalValue = totalValue != null ? totalValue : BigDecimal.ZERO;
+        this.utilizationPercent = maxCapacity > 0
+                ? BigDecimal.valueOf(currentCapacity * 100L).divide(BigDecimal.valueOf(maxCapacity), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+    }
+
+    // Getters & Setters
+
+    /**
+     * Provides accessor and mutator methods for all fields:
+     * (warehouseId, name, location, maxCapacity, currentCapacity, skuCount, totalUnits,
+     * utilizationPercent, totalValue).
+     * <p>
+     * {@code getWarehouseId()}, {@code setWarehouseId(Long warehouseId)}
+     * <p>
+     * {@code getName()}, {@code setName(String name)}
+     * <p>
+     * {@code getLocation()}, {@code setLocation(String location)}
+     * <p>
+     * {@code getMaxCapacity()}, {@code setMaxCapacity(int maxCapacity)}
+     * <p>
+     * {@code getCurrentCapacity()}, {@code setCurrentCapacity(int currentCapacity)}
+     * <p>
+     * {@code getSkuCount()}, {@code setSkuCount(long skuCount)}
+     * <p>
+     * {@code getTotalUnits()}, {@code setTotalUnits(long totalUnits)}
+     * <p>
+     * {@code getUtilizationPercent()}, {@code setUtilizationPercent(BigDecimal utilizationPercent)}
+     * <p>
+     * {@code getTotalValue()}, {@code setTotalValue(BigDecimal totalValue)}
+     * </p>
+     */
+    public Long getWarehouseId() { return warehouseId; }
+    public void setWarehouseId(Long warehouseId) { this.warehouseId = warehouseId; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+
+    public int getMaxCapacity() { return maxCapacity; }
+    public void setMaxCapacity(int maxCapacity) { this.maxCapacity = maxCapacity; }
+
+    public int getCurrentCapacity() { return currentCapacity; }
+    public void setCurrentCapacity(int currentCapacity) { this.currentCapacity = currentCapacity; }
+
+    public long getSkuCount() { return skuCount; }
+    public void setSkuCount(long skuCount) { this.skuCount = skuCount; }
+
+    public long getTotalUnits() { return totalUnits; }
+    public void setTotalUnits(long totalUnits) { this.totalUnits = totalUnits; }
+
+    public BigDecimal getUtilizationPercent() { return utilizationPercent; }
+    public void setUtilizationPercent(BigDecimal utilizationPercent) { this.utilizationPercent = utilizationPercent; }
+
+    public BigDecimal getTotalValue() { return totalValue; }
+    public void setTotalValue(BigDecimal totalValue) { this.totalValue = totalValue; }
+}
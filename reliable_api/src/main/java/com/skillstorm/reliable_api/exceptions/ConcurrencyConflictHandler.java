@@ -0,0 +1,55 @@
+package com.skillstorm.reliable_api.exceptions;
+
+import java.io.IOException;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Translates optimistic and pessimistic locking failures, and repeats of an {@code Idempotency-Key} that is
+ * still in progress, into HTTP 409 Conflict responses.
+ * <p>
+ * Optimistic failures are raised by Hibernate when an entity's {@code @Version} changed underneath a write;
+ * pessimistic ones when a transfer found a warehouse row locked ({@code NOWAIT}). Either reaches the client
+ * after the inventory services have exhausted their retries, or on a conflicting product or warehouse update.
+ * The response goes through {@code sendError}, so clients receive the same error body as for the
+ * {@code @ResponseStatus} exceptions in this package, and may simply retry the request. For an in-progress
+ * idempotency key the response also carries a {@code Retry-After} header.
+ * </p>
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@RestControllerAdvice
+public class ConcurrencyConflictHandler {
+
+    /**
+     * Handles a locking failure by responding with 409 Conflict.
+     * * @param ex The locking failure.
+     * @param response The current HTTP response.
+     * @throws IOException if the error response cannot be written.
+     */
+    @ExceptionHandler({OptimisticLockingFailureException.class, PessimisticLockingFailureException.class})
+    public void handleConflict(RuntimeException ex, HttpServletResponse response) throws IOException {
+        response.sendError(HttpStatus.CONFLICT.value(),
+                "The resource was modified concurrently; please retry the request");
+    }
+
+    /**
+     * Handles a repeat of an in-progress idempotency key by responding with 409 Conflict and {@code Retry-After}.
+     * * @param ex The exception carrying the suggested retry delay.
+     * @param response The current HTTP response.
+     * @throws IOException if the error response cannot be written.
+     */
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public void handleInProgress(IdempotencyKeyInProgressException ex, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()));
+        response.sendError(HttpStatus.CONFLICT.value(), ex.getMessage());
+    }
+}
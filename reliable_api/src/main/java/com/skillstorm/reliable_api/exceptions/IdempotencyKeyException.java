@@ -0,0 +1,28 @@
+package com.skillstorm.reliable_api.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom runtime exception used to indicate that an {@code Idempotency-Key} header cannot be honoured,
+ * because it is malformed or was already used for a different request.
+ *
+ * This exception is automatically translated by Spring into an HTTP 422 Unprocessable Entity response
+ * due to the {@code @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)} annotation.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class IdempotencyKeyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor that accepts a message describing why the key was rejected.
+     * * @param message The detail message.
+     */
+    public IdempotencyKeyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,39 @@
+package com.skillstorm.reliable_api.exceptions;
+
+/**
+ * Custom runtime exception used to indicate that a request repeats an {@code Idempotency-Key} whose first
+ * request is still being processed.
+ *
+ * This exception is translated into an HTTP 409 Conflict response with a {@code Retry-After} header by
+ * {@link ConcurrencyConflictHandler}; retrying after that delay replays the outcome of the first request.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of seconds the client should wait before retrying.
+     */
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructor that accepts a message and the suggested retry delay.
+     * * @param message The detail message.
+     * @param retryAfterSeconds The number of seconds the client should wait before retrying.
+     */
+    public IdempotencyKeyInProgressException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Retrieves the suggested retry delay.
+     * * @return The number of seconds the client should wait before retrying.
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,75 @@
+package com.skillstorm.reliable_api.listeners;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.skillstorm.reliable_api.models.Product;
+import com.skillstorm.reliable_api.models.WarehouseInventory;
+import com.skillstorm.reliable_api.services.ExpirationIndexService;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener that reports inventory and product writes to the {@link ExpirationIndexService}.
+ * Registered on {@code WarehouseInventory} and {@code Product}, so every write path (including cascades)
+ * keeps the expiration index in sync.
+ * <p>
+ * Bulk JPQL updates bypass entity listeners. The only ones on these entities are the soft-delete and
+ * restore updates of {@code ProductRepo} ({@code updateDeletedByPublicIds}, {@code updateDeletedByCategoryId}),
+ * which change {@code isDeleted}, {@code updatedAt} and {@code version}. The indexed DTOs expose none of
+ * these, and the index, like the expiration alert queries, keeps the inventory of soft-deleted products,
+ * so it stays correct without them. A bulk update that changes an indexed field must report the affected
+ * products through {@link ExpirationIndexService#productChanged}.
+ * </p>
+ * <p>
+ * Hibernate creates the listener through Spring while the {@code EntityManagerFactory} is being built,
+ * so the service (which depends on a repository) is looked up lazily.
+ * </p>
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public class ExpirationIndexListener {
+
+    private final ObjectProvider<ExpirationIndexService> expirationIndex;
+
+    /**
+     * Constructs the ExpirationIndexListener.
+     * * @param expirationIndex A lazy provider of the expiration index service.
+     */
+    public ExpirationIndexListener(ObjectProvider<ExpirationIndexService> expirationIndex) {
+        this.expirationIndex = expirationIndex;
+    }
+
+    /**
+     * Reports an inserted or removed inventory record. New products have no inventory yet, and removing a
+     * product cascades to its inventory records, so product inserts and removals are not reported.
+     * * @param entity The inserted or removed entity.
+     */
+    @PostPersist
+    @PostRemove
+    public void insertedOrRemoved(Object entity) {
+        ExpirationIndexService index = expirationIndex.getIfAvailable();
+        if (index != null && entity instanceof WarehouseInventory inventory) {
+            index.inventoryChanged(inventory.getId());
+        }
+    }
+
+    /**
+     * Reports an updated inventory record or product.
+     * * @param entity The updated entity.
+     */
+    @PostUpdate
+    public void updated(Object entity) {
+        ExpirationIndexService index = expirationIndex.getIfAvailable();
+        if (index == null) {
+            return;
+        }
+        if (entity instanceof WarehouseInventory inventory) {
+            index.inventoryChanged(inventory.getId());
+        } else if (entity instanceof Product product) {
+            index.productChanged(product.getProductId());
+        }
+    }
+}
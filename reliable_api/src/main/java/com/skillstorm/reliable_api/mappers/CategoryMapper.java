@@ -0,0 +1,61 @@
+package com.skillstorm.reliable_api.mappers;
+
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+import com.skillstorm.reliable_api.dtos.CategoryDTO;
+import com.skillstorm.reliable_api.dtos.CategoryPatchDTO;
+import com.skillstorm.reliable_api.dtos.CategoryUpdateDTO;
+import com.skillstorm.reliable_api.models.Category;
+
+/**
+ * Compile-time generated mapper between {@code Category} entities and their DTOs.
+ * MapStruct generates plain getter/setter code for this interface at build time, so no reflection
+ * is involved at runtime.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Mapper(config = MappingConfig.class)
+public interface CategoryMapper {
+
+    /**
+     * Converts a {@code Category} entity to a {@code CategoryDTO}.
+     * * @param entity The source entity.
+     * @return The mapped DTO.
+     */
+    CategoryDTO toDTO(Category entity);
+
+    /**
+     * Creates a new, unsaved {@code Category} entity from a {@code CategoryDTO}.
+     * The identifier is never taken from the DTO.
+     * * @param dto The source DTO.
+     * @return The new entity.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "products", ignore = true)
+    Category toEntity(CategoryDTO dto);
+
+    /**
+     * Applies a full replacement update (PUT) to an existing category. Every editable field is
+     * overwritten, including with {@code null}.
+     * * @param dto The source DTO.
+     * @param entity The entity to update.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "products", ignore = true)
+    void update(CategoryUpdateDTO dto, @MappingTarget Category entity);
+
+    /**
+     * Applies a partial update (PATCH) to an existing category. Only non-null DTO fields are copied.
+     * * @param dto The source DTO.
+     * @param entity The entity to update.
+     */
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "products", ignore = true)
+    void patch(CategoryPatchDTO dto, @MappingTarget Category entity);
+}
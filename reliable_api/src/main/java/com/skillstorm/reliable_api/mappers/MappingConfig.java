@@ -0,0 +1,32 @@
+package com.skillstorm.reliable_api.mappers;
+
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Central MapStruct configuration shared by every mapper in this package.
+ * <p>
+ * Each mapping operation gets its own fixed strategy when the code is compiled. Nothing can switch
+ * it at runtime, so concurrent requests cannot affect each other's mapping behavior:
+ * <ul>
+ * <li>PUT methods ({@code update}) overwrite every editable field, including with {@code null}.</li>
+ * <li>PATCH methods ({@code patch}) set {@link NullValuePropertyMappingStrategy#IGNORE} and copy
+ * only non-null fields.</li>
+ * </ul>
+ * Unmapped target properties fail the build, so a new entity field must be mapped or ignored on
+ * purpose in every operation. Otherwise a PUT could silently leave it untouched.
+ * </p>
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@MapperConfig(
+    componentModel = MappingConstants.ComponentModel.SPRING,
+    injectionStrategy = InjectionStrategy.CONSTRUCTOR,
+    unmappedTargetPolicy = ReportingPolicy.ERROR
+)
+public interface MappingConfig {
+}
@@ -0,0 +1,83 @@
+package com.skillstorm.reliable_api.mappers;
+
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValueCheckStrategy;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+import com.skillstorm.reliable_api.dtos.ProductDTO;
+import com.skillstorm.reliable_api.dtos.ProductPatchDTO;
+import com.skillstorm.reliable_api.dtos.ProductUpdateDTO;
+import com.skillstorm.reliable_api.models.Product;
+
+/**
+ * Compile-time generated mapper between {@code Product} entities and their DTOs.
+ * <p>
+ * The internal primary key, public ID, category association, soft-delete flag and audit timestamps
+ * are never written from a DTO; the category is resolved and linked by {@code ProductService}.
+ * </p>
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Mapper(config = MappingConfig.class)
+public interface ProductMapper {
+
+    /**
+     * Converts a {@code Product} entity to a {@code ProductDTO}, exposing the category by its ID.
+     * Reading the ID of a lazy category proxy does not initialize it.
+     * * @param entity The source entity.
+     * @return The mapped DTO.
+     */
+    @Mapping(target = "categoryId", source = "category.id")
+    ProductDTO toDTO(Product entity);
+
+    /**
+     * Creates a new, unsaved {@code Product} entity from a {@code ProductDTO}.
+     * Null DTO fields are skipped so the entity's defaults (e.g. {@code isHazardous = false}) are kept.
+     * * @param dto The source DTO.
+     * @return The new entity.
+     */
+    @BeanMapping(nullValueCheckStrategy = NullValueCheckStrategy.ALWAYS)
+    @Mapping(target = "productId", ignore = true)
+    @Mapping(target = "publicId", ignore = true)
+    @Mapping(target = "category", ignore = true)
+    @Mapping(target = "warehouseInventory", ignore = true)
+    @Mapping(target = "isDeleted", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Product toEntity(ProductDTO dto);
+
+    /**
+     * Applies a partial update (PATCH) to an existing product. Only non-null DTO fields are copied.
+     * * @param dto The source DTO.
+     * @param entity The entity to update.
+     */
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "productId", ignore = true)
+    @Mapping(target = "publicId", ignore = true)
+    @Mapping(target = "category", ignore = true)
+    @Mapping(target = "warehouseInventory", ignore = true)
+    @Mapping(target = "isDeleted", ignore = true)
+    @Mapping(target = "expirationRequired", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    void patch(ProductPatchDTO dto, @MappingTarget Product entity);
+
+    /**
+     * Applies a full replacement update (PUT) to an existing product. Every editable field is
+     * overwritten, including with {@code null}.
+     * * @param dto The source DTO.
+     * @param entity The entity to update.
+     */
+    @Mapping(target = "productId", ignore = true)
+    @Mapping(target = "publicId", ignore = true)
+    @Mapping(target = "category", ignore = true)
+    @Mapping(target = "warehouseInventory", ignore = true)
+    @Mapping(target = "isDeleted", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    void update(ProductUpdateDTO dto, @MappingTarget Product entity);
+}
@@ -0,0 +1,50 @@
+package com.skillstorm.reliable_api.mappers;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.skillstorm.reliable_api.dtos.InventoryTransferDTO;
+import com.skillstorm.reliable_api.dtos.TransferJobDTO;
+import com.skillstorm.reliable_api.models.TransferJob;
+
+/**
+ * Compile-time generated mapper between queued {@code TransferJob} entities, the transfer requests
+ * they are created from and the job status DTO.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Mapper(config = MappingConfig.class)
+public interface TransferJobMapper {
+
+    /**
+     * Converts a {@code TransferJob} entity to a {@code TransferJobDTO}. The queue position is
+     * filled in by the caller.
+     * * @param entity The source entity.
+     * @return The mapped DTO.
+     */
+    @Mapping(target = "jobId", source = "id")
+    @Mapping(target = "jobsAhead", ignore = true)
+    TransferJobDTO toDTO(TransferJob entity);
+
+    /**
+     * Creates a new, unsaved {@code QUEUED} job from a transfer request.
+     * * @param dto The transfer request.
+     * @return The new entity.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "error", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "startedAt", ignore = true)
+    @Mapping(target = "owner", ignore = true)
+    @Mapping(target = "completedAt", ignore = true)
+    TransferJob toEntity(InventoryTransferDTO dto);
+
+    /**
+     * Recreates the transfer request a job was created from.
+     * * @param entity The job.
+     * @return The transfer request.
+     */
+    InventoryTransferDTO toTransferDTO(TransferJob entity);
+}
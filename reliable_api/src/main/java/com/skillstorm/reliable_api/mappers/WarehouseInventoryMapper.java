@@ -0,0 +1,52 @@
+package com.skillstorm.reliable_api.mappers;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.skillstorm.reliable_api.dtos.WarehouseInventoryCreateDTO;
+import com.skillstorm.reliable_api.dtos.WarehouseInventoryDTO;
+import com.skillstorm.reliable_api.models.WarehouseInventory;
+
+/**
+ * Compile-time generated mapper between {@code WarehouseInventory} entities and their DTOs.
+ * The nested product is mapped through {@link ProductMapper}.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Mapper(config = MappingConfig.class, uses = ProductMapper.class)
+public interface WarehouseInventoryMapper {
+
+    /**
+     * Converts a {@code WarehouseInventory} entity to a {@code WarehouseInventoryDTO},
+     * including the nested {@code ProductDTO}. Reading the warehouse ID does not initialize a lazy warehouse.
+     * * @param entity The source entity.
+     * @return The mapped DTO.
+     */
+    @Mapping(target = "productPublicId", source = "product.publicId")
+    @Mapping(target = "warehouseId", source = "warehouse.warehouseId")
+    WarehouseInventoryDTO toDTO(WarehouseInventory entity);
+
+    /**
+     * Converts a list of {@code WarehouseInventory} entities to DTOs.
+     * * @param entities The source entities.
+     * @return The mapped DTOs, in the same order.
+     */
+    List<WarehouseInventoryDTO> toDTOs(List<WarehouseInventory> entities);
+
+    /**
+     * Creates a new, unsaved {@code WarehouseInventory} entity from a creation DTO.
+     * The warehouse and product associations are resolved and linked by the service.
+     * * @param dto The source DTO.
+     * @return The new entity.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "warehouse", ignore = true)
+    @Mapping(target = "product", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "quarantinedAt", ignore = true)
+    WarehouseInventory toEntity(WarehouseInventoryCreateDTO dto);
+}
@@ -0,0 +1,70 @@
+package com.skillstorm.reliable_api.mappers;
+
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+import com.skillstorm.reliable_api.dtos.WarehouseDTO;
+import com.skillstorm.reliable_api.dtos.WarehousePatchDTO;
+import com.skillstorm.reliable_api.dtos.WarehouseUpdateDTO;
+import com.skillstorm.reliable_api.models.Warehouse;
+
+/**
+ * Compile-time generated mapper between {@code Warehouse} entities and their DTOs.
+ * <p>
+ * {@code currentCapacity} is derived from the stocked inventory and is therefore never written from a DTO.
+ * </p>
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Mapper(config = MappingConfig.class, uses = WarehouseInventoryMapper.class)
+public interface WarehouseMapper {
+
+    /**
+     * Converts a {@code Warehouse} entity to a {@code WarehouseDTO}, including its inventory list.
+     * * @param entity The source entity.
+     * @return The mapped DTO.
+     */
+    WarehouseDTO toDTO(Warehouse entity);
+
+    /**
+     * Creates a new, unsaved {@code Warehouse} entity from a {@code WarehouseDTO}.
+     * * @param dto The source DTO.
+     * @return The new entity.
+     */
+    @Mapping(target = "warehouseId", ignore = true)
+    @Mapping(target = "currentCapacity", ignore = true)
+    @Mapping(target = "inventory", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Warehouse toEntity(WarehouseDTO dto);
+
+    /**
+     * Applies a full replacement update (PUT) to an existing warehouse. Every editable field is
+     * overwritten, including with {@code null}.
+     * * @param dto The source DTO.
+     * @param entity The entity to update.
+     */
+    @Mapping(target = "warehouseId", ignore = true)
+    @Mapping(target = "currentCapacity", ignore = true)
+    @Mapping(target = "inventory", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    void update(WarehouseUpdateDTO dto, @MappingTarget Warehouse entity);
+
+    /**
+     * Applies a partial update (PATCH) to an existing warehouse. Only non-null DTO fields are copied.
+     * * @param dto The source DTO.
+     * @param entity The entity to update.
+     */
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "warehouseId", ignore = true)
+    @Mapping(target = "currentCapacity", ignore = true)
+    @Mapping(target = "inventory", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    void patch(WarehousePatchDTO dto, @MappingTarget Warehouse entity);
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 
@@ -25,10 +26,12 @@ public class Category {
     
     /**
      * The unique identifier (Primary Key) for the category.
-     * Uses database identity generation strategy. Maps to the {@code category_id} column.
+     * Generated from the {@code categories_seq} sequence with a pooled optimizer (50 IDs per round trip).
+     * Maps to the {@code category_id} column.
      */
     @Id
-    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categories_seq")
+    @SequenceGenerator(name = "categories_seq", sequenceName = "categories_seq", allocationSize = 50)
     @Column(name="category_id")
     private Long id;
     
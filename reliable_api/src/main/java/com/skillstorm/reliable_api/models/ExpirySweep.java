@@ -0,0 +1,133 @@
+package com.skillstorm.reliable_api.models;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * Records one run of the expiry sweeper: which cutoff it applied, when it ran and how much expired
+ * stock it quarantined. This entity maps to the 'expiry_sweeps' table and is written once, when the
+ * run finishes. The quarantined rows themselves carry the sweep time in {@code quarantined_at}.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Entity
+@Table(name = "expiry_sweeps")
+public class ExpirySweep {
+
+    /**
+     * The unique identifier (Primary Key) of the run.
+     * Generated from the {@code expiry_sweeps_seq} sequence with a pooled optimizer.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expiry_sweeps_seq")
+    @SequenceGenerator(name = "expiry_sweeps_seq", sequenceName = "expiry_sweeps_seq", allocationSize = 50)
+    @Column(name = "expiry_sweep_id")
+    private Long id;
+
+    /**
+     * Inventory expiring before this date was swept.
+     */
+    @Column(nullable = false)
+    private LocalDate cutoffDate;
+
+    /**
+     * Timestamp indicating when the run started.
+     */
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    /**
+     * Timestamp indicating when the run finished.
+     */
+    @Column(nullable = false)
+    private LocalDateTime completedAt;
+
+    /**
+     * The number of chunks (short transactions) the run committed.
+     */
+    @Column(nullable = false)
+    private int chunks;
+
+    /**
+     * The number of inventory records quarantined.
+     */
+    @Column(nullable = false)
+    private int rowsQuarantined;
+
+    /**
+     * The total quantity of the quarantined records.
+     */
+    @Column(nullable = false)
+    private long unitsQuarantined;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public ExpirySweep() {}
+
+    /**
+     * Full parameterized constructor for recording a finished run.
+     * * @param cutoffDate Inventory expiring before this date was swept.
+     * @param startedAt When the run started.
+     * @param completedAt When the run finished.
+     * @param chunks The number of chunks committed.
+     * @param rowsQuarantined The number of records quarantined.
+     * @param unitsQuarantined The total quantity of the quarantined records.
+     */
+    public ExpirySweep(LocalDate cutoffDate, LocalDateTime startedAt, LocalDateTime completedAt,
+                       int chunks, int rowsQuarantined, long unitsQuarantined) {
+        this.cutoffDate = cutoffDate;
+        this.startedAt = startedAt;
+        this.completedAt = completedAt;
+        this.chunks = chunks;
+        this.rowsQuarantined = rowsQuarantined;
+        this.unitsQuarantined = unitsQuarantined;
+    }
+
+    /**
+     * Generates a string representation of the ExpirySweep entity.
+     * * @return A string containing the field values.
+     */
+    @Override
+    public String toString() {
+        return "ExpirySweep [id=" + id + ", cutoffDate=" + cutoffDate + ", startedAt=" + startedAt
+                + ", completedAt=" + completedAt + ", chunks=" + chunks + ", rowsQuarantined="
+                + rowsQuarantined + ", unitsQuarantined=" + unitsQuarantined + "]";
+    }
+
+    // Getters and Setters
+
+    /**
+     * Provides accessor and mutator methods for all fields:
+     * (id, cutoffDate, startedAt, completedAt, chunks, rowsQuarantined, unitsQuarantined).
+     */
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public LocalDate getCutoffDate() { return cutoffDate; }
+    public void setCutoffDate(LocalDate cutoffDate) { this.cutoffDate = cutoffDate; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+
+    public int getChunks() { return chunks; }
+    public void setChunks(int chunks) { this.chunks = chunks; }
+
+    public int getRowsQuarantined() { return rowsQuarantined; }
+    public void setRowsQuarantined(int rowsQuarantined) { this.rowsQuarantined = rowsQuarantined; }
+
+    public long getUnitsQuarantined() { return unitsQuarantined; }
+    public void setUnitsQuarantined(long unitsQuarantined) { this.unitsQuarantined = unitsQuarantined; }
+}
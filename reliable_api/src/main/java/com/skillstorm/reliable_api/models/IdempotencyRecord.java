@@ -0,0 +1,151 @@
+package com.skillstorm.reliable_api.models;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+/**
+ * Represents an {@code Idempotency-Key} used on a write endpoint, together with the response of the
+ * first request that carried it. This entity maps to the 'idempotency_keys' table, which all instances
+ * share. A row is inserted before the request runs and has no status while the request is in progress;
+ * once the request succeeds, its status, headers and body are stored for replays.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Entity
+@Table(name = "idempotency_keys")
+@IdClass(IdempotencyRecord.Key.class)
+public class IdempotencyRecord {
+
+    /**
+     * The composite primary key of an idempotency record: the operation and the client's key.
+     */
+    public static class Key implements Serializable {
+
+        private String operation;
+        private String idempotencyKey;
+
+        /**
+         * Default constructor required by JPA.
+         */
+        public Key() {}
+
+        /**
+         * Constructs the key of a record.
+         * * @param operation The name of the operation.
+         * @param idempotencyKey The client-chosen key.
+         */
+        public Key(String operation, String idempotencyKey) {
+            this.operation = operation;
+            this.idempotencyKey = idempotencyKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other
+                    && Objects.equals(operation, other.operation)
+                    && Objects.equals(idempotencyKey, other.idempotencyKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(operation, idempotencyKey);
+        }
+    }
+
+    /**
+     * The name of the operation, which scopes the key (e.g. {@code "transferInventory"}).
+     */
+    @Id
+    @Column(length = 100)
+    private String operation;
+
+    /**
+     * The client-chosen value of the {@code Idempotency-Key} header.
+     */
+    @Id
+    @Column(length = 128)
+    private String idempotencyKey;
+
+    /**
+     * SHA-256 fingerprint of the operation and its request data, which the key is bound to.
+     */
+    @Column(nullable = false)
+    private byte[] fingerprint;
+
+    /**
+     * The HTTP status of the stored response, or {@code null} while the first request is in progress.
+     */
+    private Integer status;
+
+    /**
+     * The headers of the stored response, as a JSON object of header names to value lists.
+     */
+    @Column(columnDefinition = "TEXT")
+    private String headers;
+
+    /**
+     * The JSON body of the stored response, or {@code null} if there was none or it exceeded the size cap.
+     */
+    private byte[] body;
+
+    /**
+     * Timestamp indicating when the request that holds the key started.
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Timestamp after which the key is forgotten and may be swept.
+     */
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Generates a string representation of the IdempotencyRecord entity. Response headers and body are
+     * left out.
+     * * @return A string containing the key, status and timestamps.
+     */
+    @Override
+    public String toString() {
+        return "IdempotencyRecord [operation=" + operation + ", idempotencyKey=" + idempotencyKey + ", status="
+                + status + ", createdAt=" + createdAt + ", expiresAt=" + expiresAt + "]";
+    }
+
+    // Getters and Setters
+
+    /**
+     * Provides accessor and mutator methods for all fields:
+     * (operation, idempotencyKey, fingerprint, status, headers, body, createdAt, expiresAt).
+     */
+    public String getOperation() { return operation; }
+    public void setOperation(String operation) { this.operation = operation; }
+
+    public String getIdempotencyKey() { return idempotencyKey; }
+    public void setIdempotencyKey(String idempotencyKey) { this.idempotencyKey = idempotencyKey; }
+
+    public byte[] getFingerprint() { return fingerprint; }
+    public void setFingerprint(byte[] fingerprint) { this.fingerprint = fingerprint; }
+
+    public Integer getStatus() { return status; }
+    public void setStatus(Integer status) { this.status = status; }
+
+    public String getHeaders() { return headers; }
+    public void setHeaders(String headers) { this.headers = headers; }
+
+    public byte[] getBody() { return body; }
+    public void setBody(byte[] body) { this.body = body; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+}
@@ -6,9 +6,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import com.skillstorm.reliable_api.listeners.ExpirationIndexListener;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -18,7 +21,9 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 /**
  * Represents a product master data entity that maps to the 'products' table in the database.
@@ -29,14 +34,17 @@ import jakarta.persistence.Table;
  * @version 1.0
  */
 @Entity
+@EntityListeners(ExpirationIndexListener.class)
 @Table(name = "products")
 public class Product {
 
     /**
-     * The unique internal database identifier (Primary Key). Uses identity generation.
+     * The unique internal database identifier (Primary Key). Generated from the {@code products_seq}
+     * sequence with a pooled optimizer (50 IDs per round trip).
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_seq")
+    @SequenceGenerator(name = "products_seq", sequenceName = "products_seq", allocationSize = 50)
     private Long productId; // internal DB ID
 
     /**
@@ -108,6 +116,15 @@ public class Product {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Optimistic locking version, incremented by Hibernate on every update. A concurrent update
+     * based on a stale version fails instead of silently overwriting the other write.
+     * Existing rows start at 0.
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     /**
      * Many-to-One relationship to the {@code Category} entity. Maps to the {@code category_id} foreign key column.
      * Fetch type is lazy.
@@ -368,4 +385,12 @@ public class Product {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    /**
+     * Retrieves the optimistic locking version. Managed by Hibernate, so there is no setter.
+     * * @return The current version.
+     */
+    public Long getVersion() {
+        return version;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.skillstorm.reliable_api.models;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * Represents an inventory transfer accepted for asynchronous processing.
+ * This entity maps to the 'transfer_jobs' table, which acts as a durable local queue: jobs are
+ * inserted as {@code QUEUED}, picked up in ID order by the transfer workers and finally marked
+ * {@code SUCCEEDED} or {@code FAILED}. Warehouses and the product are stored by ID so that a job
+ * can be accepted without loading them.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Entity
+@Table(
+    name = "transfer_jobs",
+    indexes = @Index(name = "idx_transfer_jobs_status_id", columnList = "status, transfer_job_id")
+)
+public class TransferJob {
+
+    /**
+     * The unique identifier (Primary Key) of the job, which also defines the processing order.
+     * Generated from the {@code transfer_jobs_seq} sequence one ID at a time, not pooled, so that IDs
+     * follow the acceptance order across all instances.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transfer_jobs_seq")
+    @SequenceGenerator(name = "transfer_jobs_seq", sequenceName = "transfer_jobs_seq", allocationSize = 1)
+    @Column(name = "transfer_job_id")
+    private Long id;
+
+    /**
+     * The public ID of the product to transfer.
+     */
+    @Column(nullable = false)
+    private String productPublicId;
+
+    /**
+     * The ID of the warehouse the inventory is moved from.
+     */
+    @Column(nullable = false)
+    private Long sourceWarehouseId;
+
+    /**
+     * The ID of the warehouse the inventory is moved to.
+     */
+    @Column(nullable = false)
+    private Long destinationWarehouseId;
+
+    /**
+     * The number of units to move, or {@code null} to move the entire stocked quantity.
+     */
+    private Integer quantity;
+
+    /**
+     * Optional notes or justification for the transfer.
+     */
+    private String transferNotes;
+
+    /**
+     * The current state of the job.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private TransferJobStatus status = TransferJobStatus.QUEUED;
+
+    /**
+     * The reason the transfer failed, or {@code null}.
+     */
+    @Column(length = 1000)
+    private String error;
+
+    /**
+     * Timestamp indicating when the job was accepted.
+     */
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    /**
+     * Timestamp indicating when a worker picked the job up.
+     */
+    private LocalDateTime startedAt;
+
+    /**
+     * The node ID of the instance running the job, or {@code null} while it is not running.
+     */
+    private String owner;
+
+    /**
+     * Timestamp indicating when the job succeeded or failed.
+     */
+    private LocalDateTime completedAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public TransferJob() {}
+
+    /**
+     * Generates a string representation of the TransferJob entity.
+     * * @return A string containing the field values.
+     */
+    @Override
+    public String toString() {
+        return "TransferJob [id=" + id + ", productPublicId=" + productPublicId + ", sourceWarehouseId="
+                + sourceWarehouseId + ", destinationWarehouseId=" + destinationWarehouseId + ", quantity="
+                + quantity + ", status=" + status + ", createdAt=" + createdAt + "]";
+    }
+
+    // Getters and Setters
+
+    /**
+     * Provides accessor and mutator methods for all fields:
+     * (id, productPublicId, sourceWarehouseId, destinationWarehouseId, quantity, transferNotes,
+     * status, error, createdAt, startedAt, owner, completedAt).
+     */
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getProductPublicId() { return productPublicId; }
+    public void setProductPublicId(String productPublicId) { this.productPublicId = productPublicId; }
+
+    public Long getSourceWarehouseId() { return sourceWarehouseId; }
+    public void setSourceWarehouseId(Long sourceWarehouseId) { this.sourceWarehouseId = sourceWarehouseId; }
+
+    public Long getDestinationWarehouseId() { return destinationWarehouseId; }
+    public void setDestinationWarehouseId(Long destinationWarehouseId) { this.destinationWarehouseId = destinationWarehouseId; }
+
+    public Integer getQuantity() { return quantity; }
+    public void setQuantity(Integer quantity) { this.quantity = quantity; }
+
+    public String getTransferNotes() { return transferNotes; }
+    public void setTransferNotes(String transferNotes) { this.transferNotes = transferNotes; }
+
+    public TransferJobStatus getStatus() { return status; }
+    public void setStatus(TransferJobStatus status) { this.status = status; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public String getOwner() { return owner; }
+    public void setOwner(String owner) { this.owner = owner; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+}
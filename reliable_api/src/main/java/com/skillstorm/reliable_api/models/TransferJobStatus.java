@@ -0,0 +1,30 @@
+package com.skillstorm.reliable_api.models;
+
+/**
+ * Lifecycle states of a queued {@code TransferJob}.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+public enum TransferJobStatus {
+
+    /**
+     * Accepted and waiting to be picked up by a worker.
+     */
+    QUEUED,
+
+    /**
+     * Handed to a worker; the transfer is in progress.
+     */
+    RUNNING,
+
+    /**
+     * The transfer was applied.
+     */
+    SUCCEEDED,
+
+    /**
+     * The transfer was rejected or could not be applied; see the job's error.
+     */
+    FAILED
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import jakarta.persistence.CascadeType;
@@ -16,28 +17,38 @@ import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Min;
 
 /**
  * Represents a warehouse entity that maps to the 'warehouses' table in the database.
  * This entity stores master data about a physical location and tracks its capacity and inventory.
  * {@code AuditingEntityListener} is used here, although the callbacks are explicitly defined.
+ * <p>
+ * {@code @DynamicUpdate} limits entity updates to the changed columns, so editing a warehouse's
+ * master data never writes back a stale {@code current_capacity} that was changed by the atomic
+ * reserve/release statements in {@code WarehouseRepo}.
+ * </p>
  *
  * @author Jevaughn Stewart
  * @version 1.0
  */
 @Entity
+@DynamicUpdate
 @Table(name = "warehouses")
 @EntityListeners(AuditingEntityListener.class)
 public class Warehouse {
 
     /**
-     * The unique identifier (Primary Key) for the warehouse. Uses database identity generation.
+     * The unique identifier (Primary Key) for the warehouse. Generated from the {@code warehouses_seq}
+     * sequence with a pooled optimizer (50 IDs per round trip).
      * Maps to the {@code warehouse_id} column.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "warehouses_seq")
+    @SequenceGenerator(name = "warehouses_seq", sequenceName = "warehouses_seq", allocationSize = 50)
     @Column(name = "warehouse_id")
     private Long warehouseId;
 
@@ -79,6 +90,17 @@ public class Warehouse {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Optimistic locking version, incremented by Hibernate on every entity update. A concurrent update
+     * based on a stale version fails instead of silently overwriting the other write.
+     * The atomic capacity statements in {@code WarehouseRepo} deliberately do not bump it, since they
+     * only touch {@code current_capacity}, which entity updates never write.
+     * Existing rows start at 0.
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     /**
      * One-to-Many relationship with {@code WarehouseInventory}. Represents all products stocked
      * in this specific warehouse.
@@ -214,6 +236,12 @@ public class Warehouse {
      */
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
 
+    /**
+     * Retrieves the optimistic locking version. Managed by Hibernate, so there is no setter.
+     * * @return The current version.
+     */
+    public Long getVersion() { return version; }
+
     /**
      * Retrieves the list of inventory records (products and stock) currently in this warehouse.
      * * @return The list of {@code WarehouseInventory} entities.
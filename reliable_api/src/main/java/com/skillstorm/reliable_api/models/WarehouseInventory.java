@@ -3,8 +3,11 @@ package com.skillstorm.reliable_api.models;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import com.skillstorm.reliable_api.listeners.ExpirationIndexListener;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -13,8 +16,10 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 
 /**
  * Represents a single inventory record, tracking the quantity of a specific product
@@ -26,6 +31,7 @@ import jakarta.persistence.UniqueConstraint;
  * @version 1.0
  */
 @Entity
+@EntityListeners(ExpirationIndexListener.class)
 @Table(
     name = "warehouse_inventory",
     uniqueConstraints = @UniqueConstraint(columnNames = {"warehouse_id", "product_id"})
@@ -33,11 +39,14 @@ import jakarta.persistence.UniqueConstraint;
 public class WarehouseInventory {
 
     /**
-     * The unique identifier (Primary Key) for the inventory record. Uses database identity generation.
+     * The unique identifier (Primary Key) for the inventory record. Generated from the
+     * {@code warehouse_inventory_seq} sequence with a pooled optimizer (50 IDs per round trip), so
+     * inserts can be sent as JDBC batches.
      * Maps to the {@code inventory_id} column.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "warehouse_inventory_seq")
+    @SequenceGenerator(name = "warehouse_inventory_seq", sequenceName = "warehouse_inventory_seq", allocationSize = 50)
     @Column(name = "inventory_id")
     private Long id;
 
@@ -75,6 +84,13 @@ public class WarehouseInventory {
     @Column(name = "storage_location")
     private String storageLocation;
 
+    /**
+     * Timestamp of when the expiry sweeper quarantined this record because it passed its expiration date,
+     * or {@code null} if the record is not quarantined. Quarantined stock cannot be transferred.
+     */
+    @Column(name = "quarantined_at")
+    private LocalDateTime quarantinedAt;
+
     /**
      * Timestamp of when the inventory record was created. Must be non-null and immutable.
      */
@@ -87,6 +103,15 @@ public class WarehouseInventory {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Optimistic locking version, incremented by Hibernate on every update. A concurrent update
+     * based on a stale version fails instead of silently overwriting the other write.
+     * Existing rows start at 0.
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     // Constructors
     
     /**
@@ -195,6 +220,18 @@ public class WarehouseInventory {
      */
     public void setStorageLocation(String storageLocation) { this.storageLocation = storageLocation; }
 
+    /**
+     * Retrieves the quarantine timestamp of the record.
+     * * @return When the record was quarantined, or {@code null} if it is not quarantined.
+     */
+    public LocalDateTime getQuarantinedAt() { return quarantinedAt; }
+
+    /**
+     * Sets the quarantine timestamp of the record.
+     * * @param quarantinedAt When the record was quarantined, or {@code null} to release it.
+     */
+    public void setQuarantinedAt(LocalDateTime quarantinedAt) { this.quarantinedAt = quarantinedAt; }
+
     /**
      * Retrieves the creation timestamp of the record.
      * * @return The creation timestamp.
@@ -219,6 +256,12 @@ public class WarehouseInventory {
      */
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
 
+    /**
+     * Retrieves the optimistic locking version. Managed by Hibernate, so there is no setter.
+     * * @return The current version.
+     */
+    public Long getVersion() { return version; }
+
     // Lifecycle callbacks
     
     /**
@@ -0,0 +1,16 @@
+package com.skillstorm.reliable_api.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.skillstorm.reliable_api.models.ExpirySweep;
+
+/**
+ * Repository interface for managing {@code ExpirySweep} entities, the log of expiry sweeper runs.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Repository
+public interface ExpirySweepRepo extends JpaRepository<ExpirySweep, Long> {
+}
@@ -0,0 +1,102 @@
+package com.skillstorm.reliable_api.repositories;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.skillstorm.reliable_api.models.IdempotencyRecord;
+
+/**
+ * Repository interface for managing {@code IdempotencyRecord} entities, the shared store of
+ * {@code Idempotency-Key}s. Every state change is a single statement in its own short transaction, so a
+ * claimed key is visible to the other instances before the request that holds it runs. The request holding
+ * a key is identified by the {@code createdAt} it claimed the key with.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Repository
+public interface IdempotencyRecordRepo extends JpaRepository<IdempotencyRecord, IdempotencyRecord.Key> {
+
+    /**
+     * Claims a key for a request that is about to run by inserting its in-progress row. A row that already
+     * exists is only taken over if it has expired, or if its request has been in progress since before
+     * {@code abandonedBefore} (its instance is gone). Concurrent claims of the same key collide on the
+     * primary key, so exactly one of them succeeds.
+     * * @param operation The name of the operation.
+     * @param idempotencyKey The client-chosen key.
+     * @param fingerprint The fingerprint of the request.
+     * @param now The claim time, recorded as {@code createdAt}.
+     * @param expiresAt When the key is forgotten.
+     * @param abandonedBefore In-progress rows created before this time are taken over.
+     * @return 1 if the key was claimed, 0 if another request holds it.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (operation, idempotency_key, fingerprint, created_at, expires_at) " +
+                   "VALUES (:operation, :idempotencyKey, :fingerprint, :now, :expiresAt) " +
+                   "ON CONFLICT (operation, idempotency_key) DO UPDATE SET fingerprint = EXCLUDED.fingerprint, " +
+                   "status = NULL, headers = NULL, body = NULL, " +
+                   "created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at " +
+                   "WHERE idempotency_keys.expires_at <= :now " +
+                   "OR (idempotency_keys.status IS NULL AND idempotency_keys.created_at < :abandonedBefore)",
+           nativeQuery = true)
+    int claim(@Param("operation") String operation,
+              @Param("idempotencyKey") String idempotencyKey,
+              @Param("fingerprint") byte[] fingerprint,
+              @Param("now") LocalDateTime now,
+              @Param("expiresAt") LocalDateTime expiresAt,
+              @Param("abandonedBefore") LocalDateTime abandonedBefore);
+
+    /**
+     * Stores the response of the request holding a key.
+     * * @param operation The name of the operation.
+     * @param idempotencyKey The client-chosen key.
+     * @param claimedAt The {@code createdAt} the request claimed the key with.
+     * @param status The HTTP status of the response.
+     * @param headers The response headers as JSON.
+     * @param body The JSON body, or {@code null}.
+     * @return 1 if the response was stored, 0 if the request no longer holds the key.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = :status, r.headers = :headers, r.body = :body " +
+           "WHERE r.operation = :operation AND r.idempotencyKey = :idempotencyKey " +
+           "AND r.createdAt = :claimedAt AND r.status IS NULL")
+    int complete(@Param("operation") String operation,
+                 @Param("idempotencyKey") String idempotencyKey,
+                 @Param("claimedAt") LocalDateTime claimedAt,
+                 @Param("status") Integer status,
+                 @Param("headers") String headers,
+                 @Param("body") byte[] body);
+
+    /**
+     * Releases a key whose request failed, so it can be retried.
+     * * @param operation The name of the operation.
+     * @param idempotencyKey The client-chosen key.
+     * @param claimedAt The {@code createdAt} the request claimed the key with.
+     * @return 1 if the key was released, 0 if the request no longer holds it.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.operation = :operation AND r.idempotencyKey = :idempotencyKey " +
+           "AND r.createdAt = :claimedAt AND r.status IS NULL")
+    int release(@Param("operation") String operation,
+                @Param("idempotencyKey") String idempotencyKey,
+                @Param("claimedAt") LocalDateTime claimedAt);
+
+    /**
+     * Deletes the keys that have expired.
+     * * @param now The current time.
+     * @return The number of keys deleted.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,6 +1,12 @@
 package com.skillstorm.reliable_api.repositories;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.skillstorm.reliable_api.models.InventoryTransfer;
@@ -15,4 +21,21 @@ import com.skillstorm.reliable_api.models.InventoryTransfer;
  */
 @Repository
 public interface InventoryTransferRepo extends JpaRepository<InventoryTransfer, Long> {
-}
\ No newline at end of file
+
+    /**
+     * Retrieves a page of the transfers created at or after a point in time, with their product and
+     * warehouses fetched, ordered by creation time and ID. Keyset pagination: each page resumes after the
+     * {@code (createdAt, transferId)} of the previous page's last row, served by the {@code created_at} index.
+     * * @param afterTime The creation time of the last transfer already read, or the start of the scan.
+     * @param afterId The ID of the last transfer already read, or 0 to include every transfer at {@code afterTime}.
+     * @param limit The maximum number of transfers to return.
+     * @return The next page of transfers.
+     */
+    @Query("SELECT t FROM InventoryTransfer t JOIN FETCH t.product " +
+           "LEFT JOIN FETCH t.sourceWarehouse LEFT JOIN FETCH t.destinationWarehouse " +
+           "WHERE t.createdAt > :afterTime OR (t.createdAt = :afterTime AND t.transferId > :afterId) " +
+           "ORDER BY t.createdAt, t.transferId")
+    List<InventoryTransfer> findPageCreatedAfter(@Param("afterTime") LocalDateTime afterTime,
+                                                 @Param("afterId") Long afterId,
+                                                 Limit limit);
+}
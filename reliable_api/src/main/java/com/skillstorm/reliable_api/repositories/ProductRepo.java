@@ -1,11 +1,18 @@
 package com.skillstorm.reliable_api.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.skillstorm.reliable_api.dtos.ProductRefDTO;
+import com.skillstorm.reliable_api.dtos.VersionStampDTO;
 import com.skillstorm.reliable_api.models.Product;
 
 /**
@@ -27,6 +34,27 @@ public interface ProductRepo extends JpaRepository<Product, Long> {
      * @return An {@code Optional} containing the found {@code Product}, or {@code Optional.empty()} if not found or deleted.
      */
     Optional<Product>  findByPublicIdAndIsDeletedFalse(String publicId);
+
+    /**
+     * Retrieves only the internal primary key of an active product by its public ID, without loading
+     * the entity. Used to populate the {@code productRefs} cache.
+     * * @param publicId The unique public identifier (UUID string) of the product.
+     * @return An {@code Optional} containing the product reference, or {@code Optional.empty()} if not found or deleted.
+     */
+    @Query("SELECT new com.skillstorm.reliable_api.dtos.ProductRefDTO(p.productId) " +
+           "FROM Product p WHERE p.publicId = :publicId AND p.isDeleted = false")
+    Optional<ProductRefDTO> findRefByPublicId(@Param("publicId") String publicId);
+
+    /**
+     * Checks that a product is still active and holds a shared row lock on it until the transaction ends,
+     * so a concurrent soft-delete waits for the inventory write that referenced the product to commit.
+     * Used by inventory writes to re-check a product resolved through the {@code productRefs} cache.
+     * * @param productId The internal primary key of the product.
+     * @return An {@code Optional} containing the product ID, or {@code Optional.empty()} if not found or deleted.
+     */
+    @Query(value = "SELECT product_id FROM products WHERE product_id = :productId AND is_deleted = false FOR SHARE",
+           nativeQuery = true)
+    Optional<Long> lockActiveById(@Param("productId") Long productId);
     
     /**
      * Retrieves a list of all {@code Product} entities that have not been logically deleted
@@ -34,4 +62,99 @@ public interface ProductRepo extends JpaRepository<Product, Long> {
      * * @return A list of all active {@code Product} entities.
      */
     List<Product>  findAllByIsDeletedFalse();
+
+    /**
+     * Searches active products by name, SKU and description, most relevant first, in a single native query.
+     * A product matches if its full-text document ({@code search_vector}) matches the query as web-search
+     * syntax, its name is trigram-similar to the query (tolerating typos), or its SKU contains the query.
+     * Each branch is served by a GIN index, so only matching rows are read. To bound the ranking work of
+     * broad queries, only the {@code candidates} matches with the lowest product IDs are ranked, plus the
+     * product whose SKU equals the query, which is always kept. The candidate set is therefore the same on
+     * every call, so consecutive pages neither repeat nor skip results. Relevance adds an exact SKU bonus,
+     * the full-text rank and the name similarity; ties are ordered by product ID.
+     * * @param query The search text.
+     * @param skuLiteral The search text as an {@code ILIKE} literal, with {@code %}, {@code _} and
+     * {@code \} escaped by a backslash.
+     * @param candidates The maximum number of matches ranked besides the exact SKU match.
+     * @param offset The number of results to skip.
+     * @param limit The maximum number of results to return.
+     * @return The matching products in relevance order.
+     */
+    @Query(nativeQuery = true, value =
+           "SELECT p.* FROM (" +
+           "    SELECT c.product_id FROM products c " +
+           "    WHERE c.is_deleted = false AND c.sku ILIKE :skuLiteral ESCAPE '\\' " +
+           "    UNION " +
+           "    (SELECT c.product_id FROM products c, websearch_to_tsquery('english', :query) cq " +
+           "     WHERE c.is_deleted = false " +
+           "     AND (c.search_vector @@ cq OR c.name % :query " +
+           "          OR c.sku ILIKE ('%' || :skuLiteral || '%') ESCAPE '\\') " +
+           "     ORDER BY c.product_id " +
+           "     LIMIT :candidates)" +
+           ") m JOIN products p ON p.product_id = m.product_id, websearch_to_tsquery('english', :query) q " +
+           "ORDER BY (CASE WHEN p.sku ILIKE :skuLiteral ESCAPE '\\' THEN 1 ELSE 0 END) " +
+           "       + ts_rank(p.search_vector, q) + similarity(p.name, :query) DESC, " +
+           "       p.product_id ASC " +
+           "LIMIT :limit OFFSET :offset")
+    List<Product> search(@Param("query") String query,
+                         @Param("skuLiteral") String skuLiteral,
+                         @Param("candidates") int candidates,
+                         @Param("offset") int offset,
+                         @Param("limit") int limit);
+
+    /**
+     * Retrieves all active products whose public IDs are in the given collection, in a single IN query.
+     * * @param publicIds The public IDs to look up.
+     * @return The matching active {@code Product} entities; unknown or deleted IDs are simply absent.
+     */
+    List<Product> findAllByPublicIdInAndIsDeletedFalse(Collection<String> publicIds);
+
+    /**
+     * Retrieves which of the given SKUs are already used by a product, including soft-deleted ones
+     * (the SKU column is unique across all products), with a single query.
+     * * @param skus The SKUs to check.
+     * @return The SKUs that already exist.
+     */
+    @Query("SELECT p.sku FROM Product p WHERE p.sku IN :skus")
+    List<String> findExistingSkus(@Param("skus") Collection<String> skus);
+
+    /**
+     * Soft-deletes or restores the given products with a single set-based UPDATE. Only products whose
+     * flag actually changes are touched; their {@code updatedAt} is set and their {@code version} bumped
+     * so that concurrent edits of a loaded product fail with an optimistic locking conflict.
+     * * @param publicIds The public IDs of the products.
+     * @param deleted {@code true} to soft-delete, {@code false} to restore.
+     * @param now The timestamp to record as {@code updatedAt} (bulk updates bypass {@code @PreUpdate}).
+     * @return The number of products changed.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.isDeleted = :deleted, p.updatedAt = :now, p.version = p.version + 1 " +
+           "WHERE p.publicId IN :publicIds AND p.isDeleted <> :deleted")
+    int updateDeletedByPublicIds(@Param("publicIds") Collection<String> publicIds,
+                                 @Param("deleted") boolean deleted,
+                                 @Param("now") LocalDateTime now);
+
+    /**
+     * Soft-deletes or restores every product of a category with a single set-based UPDATE, with the
+     * same semantics as {@link #updateDeletedByPublicIds}.
+     * * @param categoryId The ID of the category.
+     * @param deleted {@code true} to soft-delete, {@code false} to restore.
+     * @param now The timestamp to record as {@code updatedAt}.
+     * @return The number of products changed.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.isDeleted = :deleted, p.updatedAt = :now, p.version = p.version + 1 " +
+           "WHERE p.category.id = :categoryId AND p.isDeleted <> :deleted")
+    int updateDeletedByCategoryId(@Param("categoryId") Long categoryId,
+                                  @Param("deleted") boolean deleted,
+                                  @Param("now") LocalDateTime now);
+
+    /**
+     * Retrieves the latest update timestamp and the number of active products, used to answer
+     * conditional GET requests on the product listing without loading it.
+     * * @return The version stamp of the active product listing.
+     */
+    @Query("SELECT new com.skillstorm.reliable_api.dtos.VersionStampDTO(MAX(p.updatedAt), COUNT(p)) " +
+           "FROM Product p WHERE p.isDeleted = false")
+    VersionStampDTO findVersionStamp();
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+package com.skillstorm.reliable_api.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.skillstorm.reliable_api.models.TransferJob;
+import com.skillstorm.reliable_api.models.TransferJobStatus;
+
+/**
+ * Repository interface for managing {@code TransferJob} entities, the durable queue of
+ * asynchronous inventory transfers. Claims are serialized across instances by a transaction-level
+ * advisory lock; the other state changes are single conditional UPDATE statements, each running in its
+ * own short transaction.
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Repository
+public interface TransferJobRepo extends JpaRepository<TransferJob, Long> {
+
+    /**
+     * Counts the jobs in a given state.
+     * * @param status The job state.
+     * @return The number of jobs.
+     */
+    long countByStatus(TransferJobStatus status);
+
+    /**
+     * Counts the jobs in a given state that were accepted before the given job.
+     * * @param status The job state.
+     * @param id The ID of the job.
+     * @return The number of earlier jobs.
+     */
+    long countByStatusAndIdLessThan(TransferJobStatus status, Long id);
+
+    /**
+     * Retrieves the acceptance time of the oldest job in a given state.
+     * * @param status The job state.
+     * @return The oldest {@code createdAt}, or {@code null} if there is no such job.
+     */
+    @Query("SELECT MIN(j.createdAt) FROM TransferJob j WHERE j.status = :status")
+    LocalDateTime findOldestCreatedAt(@Param("status") TransferJobStatus status);
+
+    /**
+     * Takes the claim lock, a transaction-level advisory lock that only one dispatcher at a time can hold.
+     * It is released when the surrounding transaction ends. Must run inside a transaction.
+     * * @param key The advisory lock key.
+     * @return {@code true} if the lock was taken, {@code false} if another dispatcher holds it.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryLockClaims(@Param("key") long key);
+
+    /**
+     * Retrieves all jobs in a given state.
+     * * @param status The job state.
+     * @return The jobs.
+     */
+    List<TransferJob> findByStatus(TransferJobStatus status);
+
+    /**
+     * Retrieves the oldest jobs in a given state, in processing (ID) order.
+     * * @param status The job state.
+     * @param limit The maximum number of jobs to return.
+     * @return The jobs ordered by ID.
+     */
+    List<TransferJob> findByStatusOrderByIdAsc(TransferJobStatus status, Limit limit);
+
+    /**
+     * Returns a running job to the queue, keeping its position (ID). Used when the transfer could not
+     * lock its warehouses because another instance is working on them.
+     * * @param id The ID of the job.
+     * @param queued The {@code QUEUED} state.
+     * @param running The {@code RUNNING} state.
+     * @param owner The node ID of the instance running the job.
+     * @return 1 if the job was requeued, 0 if it is no longer running on that node.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE TransferJob j SET j.status = :queued, j.startedAt = NULL, j.owner = NULL " +
+           "WHERE j.id = :id AND j.status = :running AND j.owner = :owner")
+    int requeue(@Param("id") Long id,
+                @Param("queued") TransferJobStatus queued,
+                @Param("running") TransferJobStatus running,
+                @Param("owner") String owner);
+
+    /**
+     * Records the outcome of a job, unless the job was meanwhile closed as stale by another instance;
+     * a job that was already failed keeps its state.
+     * * @param id The ID of the job.
+     * @param running The {@code RUNNING} state.
+     * @param owner The node ID of the instance running the job.
+     * @param status The final state ({@code SUCCEEDED} or {@code FAILED}).
+     * @param error The failure reason, or {@code null}.
+     * @param now The timestamp to record as {@code completedAt}.
+     * @return 1 if the job was updated, 0 if it is no longer running on that node.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE TransferJob j SET j.status = :status, j.error = :error, j.completedAt = :now " +
+           "WHERE j.id = :id AND j.status = :running AND j.owner = :owner")
+    int complete(@Param("id") Long id,
+                 @Param("running") TransferJobStatus running,
+                 @Param("owner") String owner,
+                 @Param("status") TransferJobStatus status,
+                 @Param("error") String error,
+                 @Param("now") LocalDateTime now);
+
+    /**
+     * Closes running jobs that can no longer finish: those owned by the given node (which was restarted)
+     * and those of any node that have been running since before {@code staleBefore} (whose node is gone).
+     * Jobs of other live instances are left alone.
+     * * @param running The {@code RUNNING} state.
+     * @param failed The {@code FAILED} state.
+     * @param error The reason to record.
+     * @param owner The node ID of this instance.
+     * @param staleBefore Jobs of other nodes started before this time are closed.
+     * @param now The timestamp to record as {@code completedAt}.
+     * @return The number of jobs closed.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE TransferJob j SET j.status = :failed, j.error = :error, j.completedAt = :now " +
+           "WHERE j.status = :running AND (j.owner = :owner OR j.owner IS NULL OR j.startedAt < :staleBefore)")
+    int failInterrupted(@Param("running") TransferJobStatus running,
+                        @Param("failed") TransferJobStatus failed,
+                        @Param("error") String error,
+                        @Param("owner") String owner,
+                        @Param("staleBefore") LocalDateTime staleBefore,
+                        @Param("now") LocalDateTime now);
+
+    /**
+     * Closes running jobs of any node that have been running since before {@code staleBefore}, whose node
+     * is gone. Until they are closed they hold back the queued jobs on their warehouses.
+     * * @param running The {@code RUNNING} state.
+     * @param failed The {@code FAILED} state.
+     * @param error The reason to record.
+     * @param staleBefore Jobs started before this time are closed.
+     * @param now The timestamp to record as {@code completedAt}.
+     * @return The number of jobs closed.
+     */
+    @Modifying
+    @Query("UPDATE TransferJob j SET j.status = :failed, j.error = :error, j.completedAt = :now " +
+           "WHERE j.status = :running AND j.startedAt < :staleBefore")
+    int failStale(@Param("running") TransferJobStatus running,
+                  @Param("failed") TransferJobStatus failed,
+                  @Param("error") String error,
+                  @Param("staleBefore") LocalDateTime staleBefore,
+                  @Param("now") LocalDateTime now);
+}
@@ -1,18 +1,27 @@
 package com.skillstorm.reliable_api.repositories;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.skillstorm.reliable_api.dtos.ExpirationAlertGroupDTO;
+import com.skillstorm.reliable_api.dtos.VersionStampDTO;
 import com.skillstorm.reliable_api.models.Product;
 import com.skillstorm.reliable_api.models.Warehouse;
 import com.skillstorm.reliable_api.models.WarehouseInventory;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for managing {@code WarehouseInventory} entities.
  * Extends {@code JpaRepository} and defines custom query methods essential for 
@@ -36,22 +45,40 @@ public interface WarehouseInventoryRepo extends JpaRepository<WarehouseInventory
     Optional<WarehouseInventory> findByWarehouseAndProduct(Warehouse warehouse, Product product);
 
     /**
-     * Finds a single {@code WarehouseInventory} record by the internal primary key of the product.
-     * This assumes a product ID will only correspond to one inventory record, which may not be the case 
-     * if a product is stocked in multiple warehouses. Use {@code findByWarehouseAndProduct} for uniqueness.
-     * * @param productId The internal primary key of the product.
-     * @return An {@code Optional} containing the inventory record.
+     * Retrieves the {@code WarehouseInventory} records of the given products within one warehouse, in a single query.
+     * * @param warehouseId The ID of the warehouse.
+     * @param productIds The internal primary keys of the products.
+     * @return The matching inventory records.
      */
-    Optional<WarehouseInventory> findByProduct_ProductId(Long productId);
+    List<WarehouseInventory> findAllByWarehouse_WarehouseIdAndProduct_ProductIdIn(Long warehouseId,
+                                                                                  Collection<Long> productIds);
     
     /**
-     * Retrieves all {@code WarehouseInventory} records using a JPQL query with JOIN FETCH 
-     * to eagerly load the associated {@code Warehouse} and {@code Product} entities.
-     * This avoids N+1 query problems when accessing these relationships.
-     * * @return A list of all inventory records with their warehouse and product details eagerly loaded.
+     * Retrieves one keyset page of {@code WarehouseInventory} records ordered by inventory ID,
+     * eagerly fetching the associated {@code Product} via JOIN FETCH.
+     * Only records with an ID greater than {@code after} are returned, so each page is a primary key
+     * range scan no matter how deep the client pages. Every filter is optional and ignored when {@code null}.
+     * * @param after The last inventory ID of the previous page (use 0 for the first page).
+     * @param warehouseId Optional warehouse ID filter.
+     * @param categoryId Optional product category ID filter.
+     * @param expiresFrom Optional inclusive lower bound on the expiration date.
+     * @param expiresTo Optional inclusive upper bound on the expiration date.
+     * @param limit The maximum number of records to return.
+     * @return A list of at most {@code limit} inventory records in ascending ID order.
      */
-    @Query("SELECT wi FROM WarehouseInventory wi JOIN FETCH wi.warehouse w JOIN FETCH wi.product p")
-    List<WarehouseInventory> findAllWithWarehouseAndProduct();
+    @Query("SELECT wi FROM WarehouseInventory wi JOIN FETCH wi.product p " +
+           "WHERE wi.id > :after " +
+           "AND (:warehouseId IS NULL OR wi.warehouse.warehouseId = :warehouseId) " +
+           "AND (:categoryId IS NULL OR p.category.id = :categoryId) " +
+           "AND (:expiresFrom IS NULL OR wi.expirationDate >= :expiresFrom) " +
+           "AND (:expiresTo IS NULL OR wi.expirationDate <= :expiresTo) " +
+           "ORDER BY wi.id ASC")
+    List<WarehouseInventory> findPageAfter(@Param("after") Long after,
+                                           @Param("warehouseId") Long warehouseId,
+                                           @Param("categoryId") Long categoryId,
+                                           @Param("expiresFrom") LocalDate expiresFrom,
+                                           @Param("expiresTo") LocalDate expiresTo,
+                                           Limit limit);
 
     /**
      * Retrieves all {@code WarehouseInventory} records for a specific warehouse ID, 
@@ -79,19 +106,108 @@ public interface WarehouseInventoryRepo extends JpaRepository<WarehouseInventory
      */
    List<WarehouseInventory> findAllByWarehouse_WarehouseId(Long warehouseId);
 
-   /**
-    * Retrieves all inventory records whose expiration date falls within a specified date range (inclusive).
-    * * @param dateFrom The start date of the range.
-    * @param dateTo The end date of the range.
-    * @return A list of inventory records expiring between the two dates.
-    */
-   List<WarehouseInventory> findByExpirationDateBetween(LocalDate dateFrom, LocalDate dateTo);
+    /**
+     * Retrieves one keyset page of inventory records whose expiration date falls within a range, with the
+     * product fetched in the same statement. Records are ordered by expiration date, then inventory ID, and
+     * the page starts after the {@code (afterDate, afterId)} cursor, so each page is a range scan of the
+     * {@code (expiration_date, inventory_id)} index no matter how deep the client pages.
+     * * @param from Optional inclusive lower bound on the expiration date; {@code null} for no lower bound.
+     * @param to The inclusive upper bound on the expiration date.
+     * @param afterDate The expiration date of the previous page's last record, or {@code null} for the first page.
+     * @param afterId The inventory ID of the previous page's last record (ignored on the first page).
+     * @param warehouseId Optional warehouse ID filter.
+     * @param limit The maximum number of records to return.
+     * @return A list of at most {@code limit} inventory records.
+     */
+    @Query("SELECT wi FROM WarehouseInventory wi JOIN FETCH wi.product p " +
+           "WHERE wi.expirationDate <= :to " +
+           "AND (:from IS NULL OR wi.expirationDate >= :from) " +
+           "AND (:afterDate IS NULL OR wi.expirationDate > :afterDate " +
+           "     OR (wi.expirationDate = :afterDate AND wi.id > :afterId)) " +
+           "AND (:warehouseId IS NULL OR wi.warehouse.warehouseId = :warehouseId) " +
+           "ORDER BY wi.expirationDate ASC, wi.id ASC")
+    List<WarehouseInventory> findExpiringPage(@Param("from") LocalDate from,
+                                              @Param("to") LocalDate to,
+                                              @Param("afterDate") LocalDate afterDate,
+                                              @Param("afterId") Long afterId,
+                                              @Param("warehouseId") Long warehouseId,
+                                              Limit limit);
+
+    /**
+     * Counts the inventory records whose expiration date falls within a range, per warehouse, in a single
+     * aggregate query. Warehouses without matching records are omitted.
+     * * @param from Optional inclusive lower bound on the expiration date; {@code null} for no lower bound.
+     * @param to The inclusive upper bound on the expiration date.
+     * @return One group per warehouse with its name and count (items not filled in), ordered by warehouse name.
+     */
+    @Query("SELECT new com.skillstorm.reliable_api.dtos.ExpirationAlertGroupDTO(w.warehouseId, w.name, COUNT(wi)) " +
+           "FROM WarehouseInventory wi JOIN wi.warehouse w " +
+           "WHERE wi.expirationDate <= :to AND (:from IS NULL OR wi.expirationDate >= :from) " +
+           "GROUP BY w.warehouseId, w.name " +
+           "ORDER BY w.name")
+    List<ExpirationAlertGroupDTO> countExpiringByWarehouse(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Locks one chunk of inventory records that expired before a cutoff date and are not quarantined yet
+     * ({@code SELECT ... FOR UPDATE SKIP LOCKED}), ordered by expiration date, then inventory ID, starting
+     * after the {@code (afterDate, afterId)} cursor. Rows locked by a concurrent write are skipped rather
+     * than waited for, and are picked up by a later sweep. Served by the partial index on unquarantined rows.
+     * * @param cutoff Records expiring before this date are returned.
+     * @param afterDate The expiration date of the previous chunk's last record, or {@code null} for the first chunk.
+     * @param afterId The inventory ID of the previous chunk's last record (ignored on the first chunk).
+     * @param limit The maximum number of records to lock.
+     * @return The locked records.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT wi FROM WarehouseInventory wi " +
+           "WHERE wi.expirationDate < :cutoff AND wi.quarantinedAt IS NULL " +
+           "AND (:afterDate IS NULL OR wi.expirationDate > :afterDate " +
+           "     OR (wi.expirationDate = :afterDate AND wi.id > :afterId)) " +
+           "ORDER BY wi.expirationDate ASC, wi.id ASC")
+    List<WarehouseInventory> lockExpiredChunk(@Param("cutoff") LocalDate cutoff,
+                                              @Param("afterDate") LocalDate afterDate,
+                                              @Param("afterId") Long afterId,
+                                              Limit limit);
+
+    /**
+     * Retrieves one page of the inventory records that have an expiration date, in ID order, with their
+     * products fetched in the same query. Used to build the in-memory expiration index page by page.
+     * * @param afterId The ID of the previous page's last record, or 0 for the first page.
+     * @param limit The maximum number of records to return.
+     * @return The next records with an expiration date, ordered by ID.
+     */
+    @Query("SELECT wi FROM WarehouseInventory wi JOIN FETCH wi.product p " +
+           "WHERE wi.expirationDate IS NOT NULL AND wi.id > :afterId ORDER BY wi.id")
+    List<WarehouseInventory> findPageWithProductByExpirationDateNotNull(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Retrieves the given inventory records with their products fetched in the same query.
+     * Used to refresh the expiration index after the records were written.
+     * * @param ids The IDs of the inventory records.
+     * @return The records that still exist.
+     */
+    @Query("SELECT wi FROM WarehouseInventory wi JOIN FETCH wi.product p WHERE wi.id IN :ids")
+    List<WarehouseInventory> findAllWithProductByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves the inventory records of the given products that have an expiration date, with the products
+     * fetched in the same query. Used to refresh the expiration index after the products were updated.
+     * * @param productIds The internal primary keys of the products.
+     * @return The matching inventory records.
+     */
+    @Query("SELECT wi FROM WarehouseInventory wi JOIN FETCH wi.product p " +
+           "WHERE p.productId IN :productIds AND wi.expirationDate IS NOT NULL")
+    List<WarehouseInventory> findAllWithProductByProductIdIn(@Param("productIds") Collection<Long> productIds);
 
     /**
-     * Retrieves all inventory records whose expiration date is before the specified date.
-     * This is useful for identifying inventory that is already expired or nearing expiration.
-     * * @param date The date to check against (exclusive).
-     * @return A list of inventory records with an expiration date before the given date.
+     * Retrieves the latest update timestamp across inventory records and their products, together with
+     * the number of inventory records, used to answer conditional GET requests without loading the inventory.
+     * * @param warehouseId Optional warehouse ID filter; {@code null} covers every warehouse.
+     * @return The version stamp of the (optionally filtered) inventory.
      */
-    List<WarehouseInventory> findByExpirationDateBefore(LocalDate date);
-}
\ No newline at end of file
+    @Query("SELECT new com.skillstorm.reliable_api.dtos.VersionStampDTO(GREATEST(MAX(wi.updatedAt), MAX(p.updatedAt)), COUNT(wi)) " +
+           "FROM WarehouseInventory wi JOIN wi.product p " +
+           "WHERE (:warehouseId IS NULL OR wi.warehouse.warehouseId = :warehouseId)")
+    VersionStampDTO findVersionStamp(@Param("warehouseId") Long warehouseId);
+}
@@ -1,10 +1,25 @@
 package com.skillstorm.reliable_api.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.skillstorm.reliable_api.dtos.VersionStampDTO;
+import com.skillstorm.reliable_api.dtos.WarehouseSummaryDTO;
 import com.skillstorm.reliable_api.models.Warehouse;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for managing {@code Warehouse} entities.
  * Extends {@code JpaRepository} to provide standard CRUD operations (Create, Read, Update, Delete)
@@ -16,6 +31,89 @@ import com.skillstorm.reliable_api.models.Warehouse;
 @Repository
 public interface WarehouseRepo extends JpaRepository<Warehouse, Long> {
 
-    
-    
-}
\ No newline at end of file
+    /**
+     * Retrieves a summary of every warehouse in a single aggregate query: the warehouse fields plus
+     * the SKU count, total units and total stock value of its inventory. No entity or inventory
+     * collection is loaded. Warehouses without inventory are included via the LEFT JOIN.
+     * * @return A list of warehouse summaries ordered by name.
+     */
+    @Query("SELECT new com.skillstorm.reliable_api.dtos.WarehouseSummaryDTO(" +
+           "w.warehouseId, w.name, w.location, w.maxCapacity, w.currentCapacity, " +
+           "COUNT(wi.id), SUM(wi.quantity), SUM(wi.quantity * p.price)) " +
+           "FROM Warehouse w LEFT JOIN w.inventory wi LEFT JOIN wi.product p " +
+           "GROUP BY w.warehouseId, w.name, w.location, w.maxCapacity, w.currentCapacity " +
+           "ORDER BY w.name")
+    List<WarehouseSummaryDTO> findAllSummaries();
+
+    /**
+     * Retrieves all warehouses with their inventory records and products fetched in one query,
+     * so mapping the full {@code WarehouseDTO} does not initialize each lazy collection separately.
+     * * @return A list of all warehouses with inventory and products eagerly loaded.
+     */
+    @EntityGraph(attributePaths = {"inventory", "inventory.product"})
+    @Query("SELECT w FROM Warehouse w")
+    List<Warehouse> findAllWithInventory();
+
+    /**
+     * Retrieves the warehouses whose current capacity has reached a share of their maximum capacity.
+     * The threshold is applied in SQL, so only the warehouses on alert are loaded; their inventory
+     * collections are not.
+     * * @param ratio The share of {@code maxCapacity} to compare against (e.g. 0.9).
+     * @return The warehouses at or above the threshold.
+     */
+    @Query("SELECT w FROM Warehouse w WHERE w.maxCapacity > 0 AND w.currentCapacity >= :ratio * w.maxCapacity")
+    List<Warehouse> findAtOrAboveCapacityRatio(@Param("ratio") double ratio);
+
+    /**
+     * Retrieves the latest update timestamp and the number of warehouses, used to answer
+     * conditional GET requests on warehouse listings without loading them.
+     * * @return The version stamp of the warehouse table.
+     */
+    @Query("SELECT new com.skillstorm.reliable_api.dtos.VersionStampDTO(MAX(w.updatedAt), COUNT(w)) FROM Warehouse w")
+    VersionStampDTO findVersionStamp();
+
+    /**
+     * Locks the given warehouse rows ({@code SELECT ... FOR UPDATE NOWAIT}) in ascending ID order.
+     * Every caller locking several warehouses goes through this query, so two transactions can never
+     * hold one of the rows each while waiting for the other. {@code NOWAIT} makes a row that is already
+     * locked fail immediately with a {@code PessimisticLockingFailureException} instead of queueing.
+     * * @param ids The IDs of the warehouses to lock.
+     * @return The locked warehouses ordered by ID; IDs that do not exist are absent.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "0"))
+    @Query("SELECT w FROM Warehouse w WHERE w.warehouseId IN :ids ORDER BY w.warehouseId")
+    List<Warehouse> lockAllInIdOrder(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Atomically reserves capacity in a warehouse with a single conditional UPDATE. The increment only
+     * applies while the new total stays within {@code max_capacity}, so concurrent stock-ins cannot lose
+     * updates or overfill the warehouse. The row lock is taken by this statement and held until the
+     * transaction commits; no read-modify-write round trip happens while it is held.
+     * * @param warehouseId The ID of the warehouse.
+     * @param quantity The number of units to reserve.
+     * @param now The timestamp to record as {@code updatedAt} (bulk updates bypass {@code @PreUpdate}).
+     * @return 1 if the capacity was reserved, 0 if the warehouse does not exist or lacks the capacity.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Warehouse w SET w.currentCapacity = w.currentCapacity + :quantity, w.updatedAt = :now " +
+           "WHERE w.warehouseId = :warehouseId AND w.currentCapacity + :quantity <= w.maxCapacity")
+    int reserveCapacity(@Param("warehouseId") Long warehouseId,
+                        @Param("quantity") int quantity,
+                        @Param("now") LocalDateTime now);
+
+    /**
+     * Atomically releases capacity in a warehouse with a single conditional UPDATE that never lets
+     * {@code current_capacity} become negative.
+     * * @param warehouseId The ID of the warehouse.
+     * @param quantity The number of units to release.
+     * @param now The timestamp to record as {@code updatedAt} (bulk updates bypass {@code @PreUpdate}).
+     * @return 1 if the capacity was released, 0 if the warehouse does not exist or holds fewer units.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Warehouse w SET w.currentCapacity = w.currentCapacity - :quantity, w.updatedAt = :now " +
+           "WHERE w.warehouseId = :warehouseId AND w.currentCapacity >= :quantity")
+    int releaseCapacity(@Param("warehouseId") Long warehouseId,
+                        @Param("quantity") int quantity,
+                        @Param("now") LocalDateTime now);
+}
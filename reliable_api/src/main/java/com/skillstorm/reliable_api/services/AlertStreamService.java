@@ -0,0 +1,463 @@
+package com.skillstorm.reliable_api.services;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.skillstorm.reliable_api.dtos.AlertEventDTO;
+import com.skillstorm.reliable_api.dtos.WarehouseInventoryDTO;
+import com.skillstorm.reliable_api.models.InventoryTransfer;
+import com.skillstorm.reliable_api.models.Warehouse;
+import com.skillstorm.reliable_api.repositories.InventoryTransferRepo;
+import com.skillstorm.reliable_api.repositories.WarehouseRepo;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Service class pushing alert events to every open alert stream (Server-Sent Events), so dashboards do not
+ * have to poll the alert endpoints.
+ * <p>
+ * A single scheduled evaluator runs for all subscribers. On each run it compares the current state with
+ * the previous run and broadcasts what changed:
+ * </p>
+ * <ul>
+ *   <li>{@code expiring} / {@code expired}: an inventory record entered the nearing-expiration window or
+ *   passed its expiration date (read from the in-memory {@link ExpirationIndexService});</li>
+ *   <li>{@code capacity}: a warehouse's {@code currentCapacity} reached the configured share of its
+ *   {@code maxCapacity} (one query returning only the warehouses at or above that share);</li>
+ *   <li>{@code transfer}: a transfer committed since the previous run, on any instance (read from the
+ *   {@code inventory_transfers} table);</li>
+ *   <li>{@code cleared}: a record that was on alert was removed, moved to another warehouse, quarantined,
+ *   or no longer expires within the window. The event carries the last state of the record.</li>
+ * </ul>
+ * <p>
+ * Events are incremental: clients load the current alerts once through the REST endpoints and then apply
+ * the stream. The first run after a subscriber connects only records the state. While nobody is
+ * subscribed the evaluator does no work. Only records expired within the last
+ * {@code alert-stream.expired-lookback-days} are scanned; older ones have been quarantined by the
+ * {@link ExpirySweeperService} and stop being tracked silently, so the scan stays proportional to the
+ * window rather than to the whole history.
+ * </p>
+ * <p>
+ * Transfers are read past a creation-time watermark. A transfer's {@code createdAt} is set before its
+ * transaction commits, so each run re-reads {@code alert-stream.transfer-commit-lag} before the previous
+ * run and skips the transfer IDs it has already sent; a transfer whose transaction takes longer than the
+ * lag to commit is not reported.
+ * </p>
+ * <p>
+ * The evaluator never writes to a connection itself. Each subscriber has its own queue of pending events,
+ * drained in order by a small pool of sender threads, so a slow client delays only its own stream and
+ * scheduled work is never blocked on the network. A subscriber whose queue exceeds
+ * {@code alert-stream.max-pending-events} is disconnected. Runs without events send a comment line as a
+ * keep-alive, which also detects closed connections. The number of open streams is published as the
+ * {@code alerts.stream.subscribers} gauge.
+ * </p>
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Service
+public class AlertStreamService {
+
+    /**
+     * Number of index entries or transfers read per page.
+     */
+    private static final int SCAN_PAGE_SIZE = 1000;
+
+    /**
+     * An event waiting to be sent to one subscriber.
+     * * @param id The SSE event ID, shared by all subscribers.
+     * @param event The event, or {@code null} for a keep-alive comment.
+     */
+    private record Outgoing(long id, AlertEventDTO event) {}
+
+    /**
+     * An inventory record on alert in the previous run.
+     * * @param level {@code EXPIRING} or {@code EXPIRED}.
+     * @param item The record as last seen.
+     */
+    private record Tracked(AlertEventDTO.Type level, WarehouseInventoryDTO item) {}
+
+    /**
+     * An open stream and the events not yet written to it. At most one sender thread drains it at a time.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<Outgoing> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void enqueue(List<Outgoing> events) {
+            if (pendingCount.addAndGet(events.size()) > maxPendingEvents) {
+                // The client does not keep up; drop it rather than buffer without bound
+                close(new IllegalStateException("Alert stream client is too slow"));
+                return;
+            }
+            pending.addAll(events);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                for (Outgoing outgoing; (outgoing = pending.poll()) != null; ) {
+                    pendingCount.decrementAndGet();
+                    if (outgoing.event() == null) {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .id(Long.toString(outgoing.id()))
+                                .name(outgoing.event().getType().name().toLowerCase(Locale.ROOT))
+                                .data(outgoing.event()));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away; drop the stream
+                close(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // Events queued after the last poll but before the flag was cleared
+            if (!pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close(Throwable cause) {
+            subscribers.remove(this);
+            pending.clear();
+            emitter.completeWithError(cause);
+        }
+    }
+
+    private final ExpirationIndexService expirationIndex;
+    private final WarehouseRepo warehouseRepo;
+    private final InventoryTransferRepo inventoryTransferRepo;
+    private final int expiringDays;
+    private final int expiredLookbackDays;
+    private final double capacityRatio;
+    private final int maxSubscribers;
+    private final int maxPendingEvents;
+    private final Duration timeout;
+    private final Duration transferCommitLag;
+    private final ExecutorService senders;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicLong eventIds = new AtomicLong();
+
+    // State of the previous run; only touched by the evaluator
+    private Map<Long, Tracked> expirationLevels = new HashMap<>();
+    private Set<Long> warehousesNearCapacity = new HashSet<>();
+    private Map<Long, LocalDateTime> sentTransfers = new HashMap<>();
+    private LocalDateTime transfersReadUntil;
+    private boolean expirationsBaselined;
+    private boolean capacityBaselined;
+
+    /**
+     * Constructs the AlertStreamService and registers the subscriber gauge.
+     * * @param expirationIndex The in-memory expiration index.
+     * @param warehouseRepo The repository the warehouse capacities are read from.
+     * @param inventoryTransferRepo The repository the committed transfers are read from.
+     * @param meterRegistry The registry the gauge is published to.
+     * @param expiringDays The nearing-expiration window in days.
+     * @param expiredLookbackDays How many days back expired records are still scanned.
+     * @param capacityRatio The share of {@code maxCapacity} at which a capacity event fires (e.g. 0.9).
+     * @param maxSubscribers The maximum number of open streams.
+     * @param maxPendingEvents The maximum number of unsent events per stream before it is dropped.
+     * @param senderThreads The number of threads writing events to the streams.
+     * @param timeout How long a stream stays open before the client has to reconnect.
+     * @param transferCommitLag How far back each run re-reads transfers that may have committed late.
+     */
+    public AlertStreamService(ExpirationIndexService expirationIndex,
+                              WarehouseRepo warehouseRepo,
+                              InventoryTransferRepo inventoryTransferRepo,
+                              MeterRegistry meterRegistry,
+                              @Value("${alert-stream.expiring-days:30}") int expiringDays,
+                              @Value("${alert-stream.expired-lookback-days:7}") int expiredLookbackDays,
+                              @Value("${alert-stream.capacity-ratio:0.9}") double capacityRatio,
+                              @Value("${alert-stream.max-subscribers:1000}") int maxSubscribers,
+                              @Value("${alert-stream.max-pending-events:1000}") int maxPendingEvents,
+                              @Value("${alert-stream.sender-threads:4}") int senderThreads,
+                              @Value("${alert-stream.timeout:30m}") Duration timeout,
+                              @Value("${alert-stream.transfer-commit-lag:30s}") Duration transferCommitLag) {
+        this.expirationIndex = expirationIndex;
+        this.warehouseRepo = warehouseRepo;
+        this.inventoryTransferRepo = inventoryTransferRepo;
+        this.expiringDays = expiringDays;
+        this.expiredLookbackDays = expiredLookbackDays;
+        this.capacityRatio = capacityRatio;
+        this.maxSubscribers = maxSubscribers;
+        this.maxPendingEvents = maxPendingEvents;
+        this.timeout = timeout;
+        this.transferCommitLag = transferCommitLag;
+
+        AtomicInteger threadIds = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads,
+                task -> new Thread(task, "alert-stream-" + threadIds.getAndIncrement()));
+
+        Gauge.builder("alerts.stream.subscribers", subscribers, List::size)
+                .description("Open alert streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a new alert stream.
+     * * @return The emitter of the stream, or {@code null} if the maximum number of streams is open.
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Evaluates the alert conditions and queues the changes since the previous run for every subscriber.
+     */
+    @Scheduled(fixedDelayString = "${alert-stream.interval-ms:5000}")
+    public void evaluate() {
+        if (subscribers.isEmpty()) {
+            expirationLevels = new HashMap<>();
+            warehousesNearCapacity = new HashSet<>();
+            sentTransfers = new HashMap<>();
+            transfersReadUntil = null;
+            expirationsBaselined = false;
+            capacityBaselined = false;
+            return;
+        }
+
+        List<AlertEventDTO> events = detectChanges();
+        List<Outgoing> outgoing = new ArrayList<>();
+        if (events.isEmpty()) {
+            outgoing.add(new Outgoing(0, null));
+        }
+        for (AlertEventDTO event : events) {
+            outgoing.add(new Outgoing(eventIds.incrementAndGet(), event));
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(outgoing);
+        }
+    }
+
+    /**
+     * Compares the alert conditions with the previous run and records the current state.
+     * * @return The events describing what changed, empty on the first run.
+     */
+    List<AlertEventDTO> detectChanges() {
+        List<AlertEventDTO> events = new ArrayList<>();
+        if (expirationIndex.isReady()) {
+            evaluateExpirations(events);
+        }
+        evaluateCapacity(events);
+        evaluateTransfers(events);
+        return events;
+    }
+
+    /**
+     * Completes every open stream so clients reconnect to another instance, and stops the sender threads.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+        senders.shutdown();
+        try {
+            senders.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Classifies the indexed records from the expired lookback up to the end of the nearing-expiration
+     * window and adds an event for each record whose classification changed since the previous run.
+     * Quarantined records are no longer on alert.
+     * * @param events The list the events are added to.
+     */
+    private void evaluateExpirations(List<AlertEventDTO> events) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(expiredLookbackDays);
+        LocalDate horizon = today.plusDays(expiringDays);
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Tracked> levels = new HashMap<>();
+        Set<Long> quarantined = new HashSet<>();
+
+        LocalDate afterDate = null;
+        Long afterId = 0L;
+        List<ExpirationIndexService.Entry> page;
+        do {
+            page = expirationIndex.findPage(from, horizon, afterDate, afterId, null, SCAN_PAGE_SIZE);
+            for (ExpirationIndexService.Entry entry : page) {
+                WarehouseInventoryDTO item = entry.item();
+                if (item.getQuarantinedAt() != null) {
+                    quarantined.add(entry.inventoryId());
+                    continue;
+                }
+                AlertEventDTO.Type level = entry.expirationDate().isBefore(today)
+                        ? AlertEventDTO.Type.EXPIRED : AlertEventDTO.Type.EXPIRING;
+                levels.put(entry.inventoryId(), new Tracked(level, item));
+                if (!expirationsBaselined) {
+                    continue;
+                }
+                Tracked previous = expirationLevels.get(entry.inventoryId());
+                boolean moved = previous != null && !previous.item().getWarehouseId().equals(item.getWarehouseId());
+                if (moved) {
+                    events.add(cleared(previous.item(), "moved to warehouse " + item.getWarehouseId(), now));
+                }
+                if (previous == null || moved || previous.level() != level) {
+                    String message = level == AlertEventDTO.Type.EXPIRED
+                            ? "Product " + item.getProductPublicId() + " expired on " + entry.expirationDate()
+                            : "Product " + item.getProductPublicId() + " expires on " + entry.expirationDate();
+                    events.add(new AlertEventDTO(level, item.getWarehouseId(), item, message, now));
+                }
+            }
+            if (!page.isEmpty()) {
+                ExpirationIndexService.Entry last = page.get(page.size() - 1);
+                afterDate = last.expirationDate();
+                afterId = last.inventoryId();
+            }
+        } while (page.size() == SCAN_PAGE_SIZE);
+
+        if (expirationsBaselined) {
+            for (Map.Entry<Long, Tracked> previous : expirationLevels.entrySet()) {
+                WarehouseInventoryDTO item = previous.getValue().item();
+                // Records that aged out of the lookback are still expired, just no longer scanned
+                if (levels.containsKey(previous.getKey()) || item.getExpirationDate().isBefore(from)) {
+                    continue;
+                }
+                events.add(cleared(item, quarantined.contains(previous.getKey())
+                        ? "was quarantined" : "is no longer on alert", now));
+            }
+        }
+        expirationLevels = levels;
+        expirationsBaselined = true;
+    }
+
+    /**
+     * Builds the event for a record that left the alerts.
+     * * @param item The last state of the record.
+     * @param reason Why the record left, completing the message.
+     * @param now The detection timestamp.
+     * @return The cleared event.
+     */
+    private static AlertEventDTO cleared(WarehouseInventoryDTO item, String reason, LocalDateTime now) {
+        return new AlertEventDTO(AlertEventDTO.Type.CLEARED, item.getWarehouseId(), item,
+                "Product " + item.getProductPublicId() + " in warehouse " + item.getWarehouseId() + " " + reason, now);
+    }
+
+    /**
+     * Adds an event for each warehouse whose current capacity reached the configured share of its maximum
+     * capacity since the previous run. A warehouse that drops below the threshold fires again when it
+     * next reaches it.
+     * * @param events The list the events are added to.
+     */
+    private void evaluateCapacity(List<AlertEventDTO> events) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> nearCapacity = new HashSet<>();
+        for (Warehouse warehouse : warehouseRepo.findAtOrAboveCapacityRatio(capacityRatio)) {
+            int max = warehouse.getMaxCapacity();
+            int current = warehouse.getCurrentCapacity();
+            nearCapacity.add(warehouse.getWarehouseId());
+            if (capacityBaselined && !warehousesNearCapacity.contains(warehouse.getWarehouseId())) {
+                events.add(new AlertEventDTO(AlertEventDTO.Type.CAPACITY, warehouse.getWarehouseId(), null,
+                        "Warehouse " + warehouse.getName() + " is at " + (100L * current / max) +
+                        "% of its capacity (" + current + "/" + max + ")", now));
+            }
+        }
+        warehousesNearCapacity = nearCapacity;
+        capacityBaselined = true;
+    }
+
+    /**
+     * Adds an event for each transfer committed since the previous run. Reads the transfers created since
+     * the commit lag before the previous run and skips those already sent, so a transfer that committed
+     * after the previous run read past its creation time is still reported, once. The first run only
+     * records the transfers already there.
+     * * @param events The list the events are added to.
+     */
+    private void evaluateTransfers(List<AlertEventDTO> events) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean baselined = transfersReadUntil != null;
+        LocalDateTime from = (baselined ? transfersReadUntil : now).minus(transferCommitLag);
+        // Transfers created before the scan start are never read again
+        sentTransfers.values().removeIf(createdAt -> createdAt.isBefore(from));
+
+        LocalDateTime afterTime = from;
+        Long afterId = 0L;
+        List<InventoryTransfer> page;
+        do {
+            page = inventoryTransferRepo.findPageCreatedAfter(afterTime, afterId, Limit.of(SCAN_PAGE_SIZE));
+            for (InventoryTransfer transfer : page) {
+                if (sentTransfers.putIfAbsent(transfer.getTransferId(), transfer.getCreatedAt()) != null || !baselined) {
+                    continue;
+                }
+                Long sourceId = warehouseIdOf(transfer.getSourceWarehouse());
+                Long destinationId = warehouseIdOf(transfer.getDestinationWarehouse());
+                events.add(new AlertEventDTO(AlertEventDTO.Type.TRANSFER, destinationId, null,
+                        "Transferred " + transfer.getQuantity() + " unit(s) of product " +
+                        transfer.getProduct().getPublicId() + " from warehouse " + sourceId +
+                        " to warehouse " + destinationId, now));
+            }
+            if (!page.isEmpty()) {
+                InventoryTransfer last = page.get(page.size() - 1);
+                afterTime = last.getCreatedAt();
+                afterId = last.getTransferId();
+            }
+        } while (page.size() == SCAN_PAGE_SIZE);
+
+        transfersReadUntil = now;
+    }
+
+    /**
+     * Returns the ID of a transfer's warehouse.
+     * * @param warehouse The warehouse, or {@code null}.
+     * @return The warehouse ID, or {@code null}.
+     */
+    private static Long warehouseIdOf(Warehouse warehouse) {
+        return warehouse == null ? null : warehouse.getWarehouseId();
+    }
+}
@@ -0,0 +1,378 @@
+package com.skillstorm.reliable_api.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.skillstorm.reliable_api.dtos.BulkItemResultDTO;
+import com.skillstorm.reliable_api.dtos.BulkOperationResultDTO;
+import com.skillstorm.reliable_api.dtos.BulkTransferDTO;
+import com.skillstorm.reliable_api.dtos.BulkTransferItemDTO;
+import com.skillstorm.reliable_api.dtos.WarehouseInventoryCreateDTO;
+import com.skillstorm.reliable_api.exceptions.ResourceNotFoundException;
+import com.skillstorm.reliable_api.mappers.WarehouseInventoryMapper;
+import com.skillstorm.reliable_api.models.InventoryTransfer;
+import com.skillstorm.reliable_api.models.Product;
+import com.skillstorm.reliable_api.models.Warehouse;
+import com.skillstorm.reliable_api.models.WarehouseInventory;
+import com.skillstorm.reliable_api.repositories.InventoryTransferRepo;
+import com.skillstorm.reliable_api.repositories.ProductRepo;
+import com.skillstorm.reliable_api.repositories.WarehouseInventoryRepo;
+import com.skillstorm.reliable_api.repositories.WarehouseRepo;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Service class responsible for set-based inventory operations that touch many products at once,
+ * such as stocking a whole truckload into one warehouse or rebalancing stock between two warehouses.
+ * <p>
+ * Instead of repeating the single-item flow per line, each operation resolves all products with one
+ * IN query, checks the one-record-per-warehouse rule with one query, reserves capacity once for the batch total
+ * and persists rows through Hibernate's JDBC batching ({@code hibernate.jdbc.batch_size}), which the
+ * pooled sequence IDs make possible. Invalid lines are reported individually and do not fail the batch.
+ * </p>
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Service
+public class BulkInventoryService {
+
+    /**
+     * Maximum number of lines accepted in a single bulk request.
+     */
+    public static final int MAX_LINES = 5_000;
+
+    private final WarehouseRepo warehouseRepo;
+    private final ProductRepo productRepo;
+    private final WarehouseInventoryRepo warehouseInventoryRepo;
+    private final InventoryTransferRepo inventoryTransferRepo;
+    private final WarehouseInventoryMapper inventoryMapper;
+    private final Validator validator;
+
+    /**
+     * Constructs the BulkInventoryService with all necessary dependencies.
+     * * @param warehouseRepo The repository for accessing warehouse data.
+     * @param productRepo The repository for accessing product data.
+     * @param warehouseInventoryRepo The repository for accessing inventory data.
+     * @param inventoryTransferRepo The repository for recording transfer logs.
+     * @param inventoryMapper The generated mapper for creating inventory entities.
+     * @param validator The bean validator applied to each request line.
+     */
+    public BulkInventoryService(WarehouseRepo warehouseRepo,
+                                ProductRepo productRepo,
+                                WarehouseInventoryRepo warehouseInventoryRepo,
+                                InventoryTransferRepo inventoryTransferRepo,
+                                WarehouseInventoryMapper inventoryMapper,
+                                Validator validator) {
+        this.warehouseRepo = warehouseRepo;
+        this.productRepo = productRepo;
+        this.warehouseInventoryRepo = warehouseInventoryRepo;
+        this.inventoryTransferRepo = inventoryTransferRepo;
+        this.inventoryMapper = inventoryMapper;
+        this.validator = validator;
+    }
+
+    /**
+     * Stocks many products into one warehouse in a single transaction.
+     * <p>
+     * A line is rejected if it is invalid, repeats a product already listed earlier in the request,
+     * refers to an unknown or deleted product, or the product is already stocked in this warehouse.
+     * The remaining lines are accepted together: their summed quantity is reserved with one atomic
+     * capacity update, and if that fails every accepted line is reported as rejected.
+     * </p>
+     *
+     * @param warehouseId The ID of the target warehouse.
+     * @param lines The stock-in lines.
+     * @return The per-line outcome of the operation.
+     * @throws ResourceNotFoundException if the warehouse is not found.
+     */
+    @Transactional
+    public BulkOperationResultDTO stockIn(Long warehouseId, List<WarehouseInventoryCreateDTO> lines) {
+
+        Warehouse warehouse = fetchWarehouse(warehouseId);
+
+        BulkItemResultDTO[] results = new BulkItemResultDTO[lines.size()];
+        Map<String, Integer> lineByPublicId = indexLines(lines, WarehouseInventoryCreateDTO::getProductPublicId, results);
+        Map<String, Product> products = resolveProducts(lineByPublicId.keySet());
+
+        // BUSINESS RULE: one inventory record per product in a warehouse, checked with one query
+        Set<Long> productIds = products.values().stream().map(Product::getProductId).collect(Collectors.toSet());
+        Map<Long, WarehouseInventory> stocked = findRows(warehouse, productIds);
+
+        List<Integer> accepted = new ArrayList<>();
+        long totalQuantity = 0;
+        for (Map.Entry<String, Integer> entry : lineByPublicId.entrySet()) {
+            int i = entry.getValue();
+            Product product = products.get(entry.getKey());
+            if (product == null) {
+                results[i] = BulkItemResultDTO.failed(i, entry.getKey(), "Product not found with publicId: " + entry.getKey());
+            } else if (stocked.containsKey(product.getProductId())) {
+                results[i] = BulkItemResultDTO.failed(i, entry.getKey(),
+                        "Product is already stocked in warehouse with ID: " + warehouseId);
+            } else {
+                accepted.add(i);
+                totalQuantity += lines.get(i).getQuantity();
+            }
+        }
+        accepted.sort(null);
+
+        if (!accepted.isEmpty()) {
+            // Reserve capacity once for the whole batch
+            if (totalQuantity > Integer.MAX_VALUE
+                    || warehouseRepo.reserveCapacity(warehouseId, (int) totalQuantity, LocalDateTime.now()) == 0) {
+                String error = "Warehouse capacity exceeded. Max: " + warehouse.getMaxCapacity() +
+                               ", Requested Additional Quantity: " + totalQuantity;
+                for (int i : accepted) {
+                    results[i] = BulkItemResultDTO.failed(i, lines.get(i).getProductPublicId(), error);
+                }
+            } else {
+                insertInventory(warehouse, accepted, lines, products);
+                for (int i : accepted) {
+                    results[i] = BulkItemResultDTO.succeeded(i, lines.get(i).getProductPublicId());
+                }
+            }
+        }
+
+        return new BulkOperationResultDTO(Arrays.asList(results));
+    }
+
+    /**
+     * Moves many products from one source warehouse to one destination warehouse in a single transaction.
+     * <p>
+     * An item is rejected if it is invalid, repeats a product listed earlier in the request, refers to an
+     * unknown or deleted product, the product is not stocked in the source warehouse, its source or
+     * destination stock is quarantined, or the requested quantity exceeds the stocked one. The source and destination rows of all products are loaded with one
+     * query each. Destination capacity is reserved once for the summed quantity and source capacity released
+     * once; if the reservation fails every accepted item is reported as rejected. Accepted rows are updated
+     * in place as in the single-product transfer and all {@code InventoryTransfer} log rows are persisted
+     * together, so both go out as JDBC batches. Both warehouses are locked first in the same order as the
+     * single-product transfer, and optimistic conflicts or lock contention retry the whole request.
+     * </p>
+     *
+     * @param dto The bulk transfer request.
+     * @return The per-item outcome of the operation.
+     * @throws IllegalArgumentException if source and destination are the same.
+     * @throws ResourceNotFoundException if either warehouse is not found.
+     * @throws IllegalStateException if the source capacity would become negative (inconsistent data).
+     * @throws PessimisticLockingFailureException if a warehouse stayed locked by other transfers on every attempt.
+     */
+    @Retryable(retryFor = {OptimisticLockingFailureException.class, PessimisticLockingFailureException.class},
+               maxAttempts = WarehouseInventoryService.MAX_ATTEMPTS,
+               backoff = @Backoff(delay = 25, multiplier = 2, maxDelay = 200, random = true),
+               listeners = "retryMetricsListener", label = "bulkTransferInventory")
+    @Transactional
+    public BulkOperationResultDTO transfer(BulkTransferDTO dto) {
+
+        if (dto.getSourceWarehouseId().equals(dto.getDestinationWarehouseId())) {
+            throw new IllegalArgumentException("Source and destination warehouses cannot be the same");
+        }
+        Map<Long, Warehouse> locked = WarehouseInventoryService.lockWarehouses(
+                warehouseRepo, dto.getSourceWarehouseId(), dto.getDestinationWarehouseId());
+        Warehouse source = locked.get(dto.getSourceWarehouseId());
+        Warehouse destination = locked.get(dto.getDestinationWarehouseId());
+
+        List<BulkTransferItemDTO> items = dto.getItems();
+        BulkItemResultDTO[] results = new BulkItemResultDTO[items.size()];
+        Map<String, Integer> lineByPublicId = indexLines(items, BulkTransferItemDTO::getProductPublicId, results);
+        Map<String, Product> products = resolveProducts(lineByPublicId.keySet());
+
+        // Source inventory rows of every requested product, with one query
+        Set<Long> productIds = products.values().stream().map(Product::getProductId).collect(Collectors.toSet());
+        Map<Long, WarehouseInventory> sourceRows = findRows(source, productIds);
+        Map<Long, WarehouseInventory> destinationRows = findRows(destination, productIds);
+
+        List<Integer> accepted = new ArrayList<>();
+        long totalQuantity = 0;
+        for (Map.Entry<String, Integer> entry : lineByPublicId.entrySet()) {
+            int i = entry.getValue();
+            Product product = products.get(entry.getKey());
+            WarehouseInventory row = product == null ? null : sourceRows.get(product.getProductId());
+            if (product == null) {
+                results[i] = BulkItemResultDTO.failed(i, entry.getKey(), "Product not found with publicId: " + entry.getKey());
+            } else if (row == null) {
+                results[i] = BulkItemResultDTO.failed(i, entry.getKey(), "Product not found in source warehouse");
+            } else if (row.getQuarantinedAt() != null) {
+                results[i] = BulkItemResultDTO.failed(i, entry.getKey(), "Quarantined stock cannot be transferred");
+            } else if (destinationRows.containsKey(product.getProductId())
+                    && destinationRows.get(product.getProductId()).getQuarantinedAt() != null) {
+                results[i] = BulkItemResultDTO.failed(i, entry.getKey(), "Destination stock of the product is quarantined");
+            } else if (row.getQuantity() == null || row.getQuantity() <= 0) {
+                results[i] = BulkItemResultDTO.failed(i, entry.getKey(), "No quantity available to transfer");
+            } else if (items.get(i).getQuantity() != null && items.get(i).getQuantity() > row.getQuantity()) {
+                results[i] = BulkItemResultDTO.failed(i, entry.getKey(),
+                        "Requested quantity exceeds available quantity. Available: " + row.getQuantity() +
+                        ", Requested: " + items.get(i).getQuantity());
+            } else {
+                accepted.add(i);
+                totalQuantity += quantityOf(items.get(i), row);
+            }
+        }
+        accepted.sort(null);
+
+        if (accepted.isEmpty()) {
+            return new BulkOperationResultDTO(Arrays.asList(results));
+        }
+
+        // Reserve destination capacity and release source capacity once for the whole batch
+        LocalDateTime now = LocalDateTime.now();
+        if (totalQuantity > Integer.MAX_VALUE
+                || warehouseRepo.reserveCapacity(destination.getWarehouseId(), (int) totalQuantity, now) == 0) {
+            String error = "Warehouse capacity exceeded. Max: " + destination.getMaxCapacity() +
+                           ", Requested Additional Quantity: " + totalQuantity;
+            for (int i : accepted) {
+                results[i] = BulkItemResultDTO.failed(i, items.get(i).getProductPublicId(), error);
+            }
+            return new BulkOperationResultDTO(Arrays.asList(results));
+        }
+        if (warehouseRepo.releaseCapacity(source.getWarehouseId(), (int) totalQuantity, now) == 0) {
+            throw new IllegalStateException("Source warehouse capacity would become negative");
+        }
+
+        List<InventoryTransfer> transfers = new ArrayList<>(accepted.size());
+        for (int i : accepted) {
+            String publicId = items.get(i).getProductPublicId();
+            Product product = products.get(publicId);
+            WarehouseInventory row = sourceRows.get(product.getProductId());
+            int quantity = quantityOf(items.get(i), row);
+
+            WarehouseInventoryService.moveQuantity(row, destinationRows.get(product.getProductId()),
+                    destination, quantity, warehouseInventoryRepo);
+
+            InventoryTransfer transfer = new InventoryTransfer(product, source, destination, quantity);
+            transfer.setTransferNotes(dto.getTransferNotes());
+            transfers.add(transfer);
+            results[i] = BulkItemResultDTO.succeeded(i, publicId);
+        }
+        inventoryTransferRepo.saveAll(transfers);
+
+        return new BulkOperationResultDTO(Arrays.asList(results));
+    }
+
+    /**
+     * Persists the accepted lines as {@code WarehouseInventory} rows. IDs come from the pooled sequence
+     * without a round trip per row, and the inserts are flushed as JDBC batches at commit.
+     * * @param warehouse The target warehouse.
+     * @param accepted The indexes of the accepted lines, in request order.
+     * @param lines All request lines.
+     * @param products The resolved products, keyed by public ID.
+     */
+    private void insertInventory(Warehouse warehouse, List<Integer> accepted,
+                                 List<WarehouseInventoryCreateDTO> lines, Map<String, Product> products) {
+        List<WarehouseInventory> rows = new ArrayList<>(accepted.size());
+        for (int i : accepted) {
+            WarehouseInventoryCreateDTO line = lines.get(i);
+            WarehouseInventory inventory = inventoryMapper.toEntity(line);
+            inventory.setWarehouse(warehouse);
+            inventory.setProduct(products.get(line.getProductPublicId()));
+            rows.add(inventory);
+        }
+        warehouseInventoryRepo.saveAll(rows);
+    }
+
+    /**
+     * Helper method to retrieve a {@code Warehouse} entity by ID, throwing a {@code ResourceNotFoundException} if not found.
+     * * @param id The ID of the warehouse.
+     * @return The found {@code Warehouse} entity.
+     * @throws ResourceNotFoundException if the warehouse is not found.
+     */
+    private Warehouse fetchWarehouse(Long id) {
+        return warehouseRepo.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Warehouse not found with ID: " + id));
+    }
+
+    /**
+     * Loads the inventory rows of the given products within one warehouse with one IN query.
+     * * @param warehouse The warehouse.
+     * @param productIds The internal primary keys of the products.
+     * @return The inventory rows keyed by product ID.
+     */
+    private Map<Long, WarehouseInventory> findRows(Warehouse warehouse, Set<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return warehouseInventoryRepo.findAllByWarehouse_WarehouseIdAndProduct_ProductIdIn(
+                        warehouse.getWarehouseId(), productIds).stream()
+                .collect(Collectors.toMap(wi -> wi.getProduct().getProductId(), Function.identity()));
+    }
+
+    /**
+     * Determines how many units a transfer item moves: the requested quantity, or the whole source row.
+     * * @param item The transfer item.
+     * @param sourceRow The source inventory row of the item's product.
+     * @return The number of units to move.
+     */
+    private static int quantityOf(BulkTransferItemDTO item, WarehouseInventory sourceRow) {
+        return item.getQuantity() != null ? item.getQuantity() : sourceRow.getQuantity();
+    }
+
+    /**
+     * Validates every request line and indexes the valid ones by product public ID. Invalid lines and
+     * lines repeating a product already listed earlier are recorded as failures in {@code results}.
+     * * @param lines The request lines.
+     * @param publicIdOf Extracts the product public ID from a line.
+     * @param results The per-line results to fill in for rejected lines.
+     * @return The index of the first valid line for each product public ID.
+     */
+    private <T> Map<String, Integer> indexLines(List<T> lines, Function<T, String> publicIdOf,
+                                                BulkItemResultDTO[] results) {
+        Map<String, Integer> lineByPublicId = new HashMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            T line = lines.get(i);
+            String error = validate(line);
+            if (error == null && lineByPublicId.putIfAbsent(publicIdOf.apply(line), i) != null) {
+                error = "Duplicate product in request";
+            }
+            if (error != null) {
+                results[i] = BulkItemResultDTO.failed(i, line == null ? null : publicIdOf.apply(line), error);
+            }
+        }
+        return lineByPublicId;
+    }
+
+    /**
+     * Resolves every active product of a request with one IN query.
+     * * @param publicIds The product public IDs.
+     * @return The active products keyed by public ID; unknown or deleted IDs are absent.
+     */
+    private Map<String, Product> resolveProducts(Set<String> publicIds) {
+        if (publicIds.isEmpty()) {
+            return Map.of();
+        }
+        return productRepo.findAllByPublicIdInAndIsDeletedFalse(publicIds).stream()
+                .collect(Collectors.toMap(Product::getPublicId, Function.identity()));
+    }
+
+    /**
+     * Applies bean validation to a single request line.
+     * * @param line The request line.
+     * @return A description of the constraint violations, or {@code null} if the line is valid.
+     */
+    private String validate(Object line) {
+        if (line == null) {
+            return "Line is empty";
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(line);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+}
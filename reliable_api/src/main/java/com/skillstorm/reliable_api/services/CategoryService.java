@@ -1,15 +1,24 @@
 package com.skillstorm.reliable_api.services;
 
 
-import java.util.LinkedList;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.skillstorm.reliable_api.dtos.CategoryCatalogDTO;
 import com.skillstorm.reliable_api.dtos.CategoryDTO;
 import com.skillstorm.reliable_api.dtos.CategoryPatchDTO;
+import com.skillstorm.reliable_api.dtos.CategoryUpdateDTO;
 import com.skillstorm.reliable_api.exceptions.ResourceNotFoundException;
+import com.skillstorm.reliable_api.mappers.CategoryMapper;
 import com.skillstorm.reliable_api.models.Category;
 import com.skillstorm.reliable_api.repositories.CategoryRepo;
 
@@ -18,7 +27,13 @@ import jakarta.transaction.Transactional;
 /**
  * Service class responsible for handling business logic related to {@code Category} entities.
  * This includes CRUD (Create, Read, Update, Delete) operations, data validation, 
- * and conversion between DTOs and the persistent entity model using {@code ModelMapper}.
+ * and conversion between DTOs and the persistent entity model using {@code CategoryMapper}.
+ * <p>
+ * The sorted catalog is served from an in-memory {@link CategoryCatalogDTO} snapshot. Every write
+ * rebuilds the snapshot once its transaction commits, so reads never query the database. Writes made by
+ * other instances are picked up by a periodic refresh every {@code category-catalog.refresh-interval-ms}.
+ * The snapshot's ETag is derived from its content alone, so all instances agree on it.
+ * </p>
  *
  * @author Jevaughn Stewart
  * @version 1.0
@@ -27,16 +42,21 @@ import jakarta.transaction.Transactional;
 public class CategoryService {
 
     private final CategoryRepo categoryRepo;
-    private final ModelMapper modelMapper;
+    private final CategoryMapper categoryMapper;
+
+    /**
+     * The current catalog snapshot, or {@code null} until it is first loaded. Replaced atomically on rebuild.
+     */
+    private volatile CategoryCatalogDTO catalog;
      
     /**
      * Constructs the CategoryService with required dependencies.
      * * @param categoryRepo The repository for accessing category data.
-     * @param modelMapper The utility for converting between DTOs and entities.
+     * @param categoryMapper The generated mapper for converting between DTOs and entities.
      */
-    public CategoryService(CategoryRepo categoryRepo, ModelMapper modelMapper) {
+    public CategoryService(CategoryRepo categoryRepo, CategoryMapper categoryMapper) {
         this.categoryRepo = categoryRepo;
-        this.modelMapper = modelMapper;
+        this.categoryMapper = categoryMapper;
     }
 
 
@@ -53,55 +73,56 @@ public class CategoryService {
             throw new IllegalArgumentException("Category Already Exists"); 
         }
 
-       Category category = modelMapper.map(categoryDTO, Category.class);
+       Category category = categoryMapper.toEntity(categoryDTO);
        categoryRepo.save(category);
+        refreshCatalogAfterCommit();
         return categoryDTO;
     }
 
     /**
-     * Retrieves all categories, ordered alphabetically by name.
-     * Converts the list of {@code Category} entities to a list of {@code CategoryDTO}s.
-     * * @return A list of all categories as DTOs, sorted by name.
+     * Retrieves all categories, ordered alphabetically by name, from the current catalog snapshot.
+     * * @return An unmodifiable list of all categories as DTOs, sorted by name.
      */
     public List<CategoryDTO> getAllCategory(){
+        return getCatalog().getCategories();
+    }
 
-        List<Category> categories = categoryRepo.findAllByOrderByNameAsc();
-        List<CategoryDTO> categoriesDTOs = new LinkedList<>();
-        for (Category category : categories) {
-            categoriesDTOs.add(modelMapper.map(category, CategoryDTO.class));
-        }
-
-        return categoriesDTOs; 
+    /**
+     * Retrieves the current category catalog snapshot, loading it from the database on first use.
+     * * @return The current immutable catalog snapshot, including its version and ETag.
+     */
+    public CategoryCatalogDTO getCatalog() {
+        CategoryCatalogDTO current = catalog;
+        return current != null ? current : refreshCatalog();
     }
 
     /**
      * Updates an existing category fully (PUT semantics).
-     * This method is generic to support full updates using different DTOs if necessary.
+     * Every editable field is overwritten with the value from the DTO.
      * * @param id The ID of the category to update.
      * @param categoryDTO The DTO containing the new data.
-     * @param <T> The type of the DTO (e.g., {@code CategoryDTO}).
      * @return The DTO of the updated category.
      * @throws ResourceNotFoundException if the category with the given ID does not exist.
      */
     @Transactional   
-    public <T>CategoryDTO updateCategory(Long id, T categoryDTO){
+    public CategoryDTO updateCategory(Long id, CategoryUpdateDTO categoryDTO){
      
         Category category = categoryRepo.findById(id).orElseThrow(
             () -> new ResourceNotFoundException("Category not found with ID: " + id)
         );
         
         // Maps all fields from categoryDTO onto the existing category entity
-        modelMapper.map(categoryDTO, category);
+        categoryMapper.update(categoryDTO, category);
        
         Category updatedCategory = categoryRepo.save(category);
+        refreshCatalogAfterCommit();
      
-        return modelMapper.map(updatedCategory, CategoryDTO.class );
+        return toDTO(updatedCategory);
     }
 
     /**
      * Performs a partial update on an existing category (PATCH semantics).
-     * Only non-null fields from the {@code CategoryPatchDTO} are copied to the entity, 
-     * thanks to the {@code ModelMapper} configuration.
+     * Only non-null fields from the {@code CategoryPatchDTO} are copied to the entity.
      * * @param id The ID of the category to update.
      * @param categoryDTO The DTO containing the fields to update.
      * @return The DTO of the partially updated category.
@@ -114,11 +135,11 @@ public class CategoryService {
             () -> new ResourceNotFoundException("Category not found with ID: " + id)
         );
         
-        // Map the partial DTO onto the existing entity.
-        // Because SkipNullEnabled is TRUE in ModelMapperConfig, ONLY non-null fields from the DTO are copied.
-        modelMapper.map(categoryDTO, existingCategory); 
+        // Map the partial DTO onto the existing entity; ONLY non-null fields from the DTO are copied.
+        categoryMapper.patch(categoryDTO, existingCategory); 
         
         Category updatedEntity = categoryRepo.save(existingCategory);
+        refreshCatalogAfterCommit();
         return toDTO(updatedEntity);
     }
 
@@ -133,6 +154,7 @@ public class CategoryService {
         );
     
         categoryRepo.deleteById(id);
+        refreshCatalogAfterCommit();
     }
 
     /**
@@ -141,9 +163,64 @@ public class CategoryService {
      * @return The mapped DTO.
      */
     private CategoryDTO toDTO(Category entity) {
-        return modelMapper.map(entity, CategoryDTO.class);
+        return categoryMapper.toDTO(entity);
     }
 
-  
-    
+    /**
+     * Reloads the catalog on a fixed delay, so writes made by other instances reach this one's snapshot.
+     * The snapshot is only replaced if the content changed.
+     */
+    @Scheduled(fixedDelayString = "${category-catalog.refresh-interval-ms:30000}",
+               initialDelayString = "${category-catalog.refresh-interval-ms:30000}")
+    public void refreshPeriodically() {
+        refreshCatalog();
+    }
+
+    /**
+     * Rebuilds the catalog snapshot once the current transaction commits, or immediately when no
+     * transaction is active, so the snapshot never reflects uncommitted or rolled-back writes.
+     */
+    private void refreshCatalogAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshCatalog();
+                }
+            });
+        } else {
+            refreshCatalog();
+        }
+    }
+
+    /**
+     * Reloads the sorted catalog from the database and publishes it as a new snapshot.
+     * The version is only bumped when the content hash changes, so no-op writes keep clients' ETags valid.
+     * * @return The published snapshot.
+     */
+    private synchronized CategoryCatalogDTO refreshCatalog() {
+        List<CategoryDTO> categories = new ArrayList<>();
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        for (Category category : categoryRepo.findAllByOrderByNameAsc()) {
+            CategoryDTO dto = categoryMapper.toDTO(category);
+            categories.add(dto);
+            String row = dto.getId() + "\u0000" + dto.getName() + "\u0000" + dto.getDescription() + "\n";
+            digest.update(row.getBytes(StandardCharsets.UTF_8));
+        }
+        String hash = HexFormat.of().formatHex(digest.digest(), 0, 16);
+
+        CategoryCatalogDTO current = catalog;
+        if (current != null && current.getContentHash().equals(hash)) {
+            return current;
+        }
+        long version = current != null ? current.getVersion() + 1 : 1;
+        CategoryCatalogDTO refreshed = new CategoryCatalogDTO(version, hash, categories);
+        catalog = refreshed;
+        return refreshed;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,207 @@
+package com.skillstorm.reliable_api.services;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.skillstorm.reliable_api.dtos.AlertPageRequestDTO;
+import com.skillstorm.reliable_api.dtos.ExpirationAlertGroupDTO;
+import com.skillstorm.reliable_api.dtos.ExpirationAlertPageDTO;
+import com.skillstorm.reliable_api.dtos.WarehouseInventoryDTO;
+import com.skillstorm.reliable_api.mappers.WarehouseInventoryMapper;
+import com.skillstorm.reliable_api.models.Warehouse;
+import com.skillstorm.reliable_api.repositories.WarehouseInventoryRepo;
+import com.skillstorm.reliable_api.repositories.WarehouseRepo;
+
+/**
+ * Service class answering the expiration alert queries: inventory nearing its expiration date and
+ * inventory that has already expired.
+ * <p>
+ * Alerts are ordered by expiration date, then inventory ID, and returned one keyset page at a time
+ * (at most {@value AlertPageRequestDTO#MAX_PAGE_SIZE} per page), or grouped by warehouse with a per-warehouse
+ * count and the first few alerts of each. Pages are read from the in-memory {@link ExpirationIndexService}
+ * when it is ready; otherwise from the database with a single fetch-joined keyset query per page.
+ * </p>
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExpirationAlertService {
+
+    /**
+     * The largest number of alerts a client may request per warehouse in the grouped view.
+     */
+    public static final int MAX_GROUP_SIZE = 100;
+
+    private final WarehouseInventoryRepo inventoryRepo;
+    private final WarehouseRepo warehouseRepo;
+    private final WarehouseInventoryMapper inventoryMapper;
+    private final ExpirationIndexService expirationIndex;
+
+    /**
+     * Constructs the ExpirationAlertService.
+     * * @param inventoryRepo The repository queried while the expiration index is not ready.
+     * @param warehouseRepo The repository providing warehouse names for the grouped view.
+     * @param inventoryMapper The mapper between inventory entities and DTOs.
+     * @param expirationIndex The in-memory expiration index.
+     */
+    public ExpirationAlertService(WarehouseInventoryRepo inventoryRepo,
+                                  WarehouseRepo warehouseRepo,
+                                  WarehouseInventoryMapper inventoryMapper,
+                                  ExpirationIndexService expirationIndex) {
+        this.inventoryRepo = inventoryRepo;
+        this.warehouseRepo = warehouseRepo;
+        this.inventoryMapper = inventoryMapper;
+        this.expirationIndex = expirationIndex;
+    }
+
+    /**
+     * Retrieves one page of inventory items expiring from today through {@code today + days}.
+     * * @param days The number of days out to check for expiration.
+     * @param request The page cursor, page size and optional warehouse filter.
+     * @return A page of alerts, soonest expiration first.
+     * @throws IllegalArgumentException if the cursor is not a valid date and ID.
+     */
+    public ExpirationAlertPageDTO getNearingExpirationAlerts(int days, AlertPageRequestDTO request) {
+        LocalDate today = LocalDate.now();
+        return page(today, today.plusDays(days), request);
+    }
+
+    /**
+     * Retrieves one page of inventory items that have already expired (expiration date before today).
+     * * @param request The page cursor, page size and optional warehouse filter.
+     * @return A page of alerts, oldest expiration first.
+     * @throws IllegalArgumentException if the cursor is not a valid date and ID.
+     */
+    public ExpirationAlertPageDTO getExpiredInventory(AlertPageRequestDTO request) {
+        return page(null, LocalDate.now().minusDays(1), request);
+    }
+
+    /**
+     * Retrieves the inventory items expiring from today through {@code today + days}, grouped by warehouse.
+     * * @param days The number of days out to check for expiration.
+     * @param groupSize The maximum number of alerts included per warehouse.
+     * @return One group per warehouse with matching items, ordered by warehouse name.
+     */
+    public List<ExpirationAlertGroupDTO> getNearingExpirationAlertsByWarehouse(int days, int groupSize) {
+        LocalDate today = LocalDate.now();
+        return groups(today, today.plusDays(days), groupSize);
+    }
+
+    /**
+     * Retrieves the inventory items that have already expired, grouped by warehouse.
+     * * @param groupSize The maximum number of alerts included per warehouse.
+     * @return One group per warehouse with expired items, ordered by warehouse name.
+     */
+    public List<ExpirationAlertGroupDTO> getExpiredInventoryByWarehouse(int groupSize) {
+        return groups(null, LocalDate.now().minusDays(1), groupSize);
+    }
+
+    /**
+     * Reads one page of alerts within a date range, starting after the request's cursor. One extra alert
+     * is read to tell whether another page exists.
+     * * @param from Optional inclusive lower bound on the expiration date.
+     * @param to The inclusive upper bound on the expiration date.
+     * @param request The page request.
+     * @return The page of alerts.
+     */
+    private ExpirationAlertPageDTO page(LocalDate from, LocalDate to, AlertPageRequestDTO request) {
+        int size = request.getSize() != null ? request.getSize() : AlertPageRequestDTO.DEFAULT_PAGE_SIZE;
+
+        LocalDate afterDate = null;
+        Long afterId = 0L;
+        if (request.getAfter() != null) {
+            int separator = request.getAfter().indexOf(':');
+            try {
+                afterDate = LocalDate.parse(request.getAfter().substring(0, separator));
+                afterId = Long.parseLong(request.getAfter().substring(separator + 1));
+            } catch (DateTimeException | IndexOutOfBoundsException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + request.getAfter());
+            }
+        }
+
+        List<ExpirationIndexService.Entry> rows =
+                findAlerts(from, to, afterDate, afterId, request.getWarehouseId(), size + 1);
+        boolean hasMore = rows.size() > size;
+        List<ExpirationIndexService.Entry> page = hasMore ? rows.subList(0, size) : rows;
+
+        List<WarehouseInventoryDTO> items = page.stream()
+                .map(ExpirationIndexService.Entry::item)
+                .collect(Collectors.toList());
+        String nextCursor = hasMore ? cursorOf(page.get(page.size() - 1)) : null;
+        return new ExpirationAlertPageDTO(items, nextCursor, hasMore);
+    }
+
+    /**
+     * Builds the per-warehouse alert groups within a date range: the counts come from the index (plus one
+     * lookup of the warehouse names) or a single aggregate query, and each group holds its first alerts.
+     * * @param from Optional inclusive lower bound on the expiration date.
+     * @param to The inclusive upper bound on the expiration date.
+     * @param groupSize The maximum number of alerts included per warehouse.
+     * @return The groups, ordered by warehouse name.
+     */
+    private List<ExpirationAlertGroupDTO> groups(LocalDate from, LocalDate to, int groupSize) {
+        List<ExpirationAlertGroupDTO> groups;
+        if (expirationIndex.isReady()) {
+            Map<Long, Long> counts = expirationIndex.countByWarehouse(from, to);
+            Map<Long, String> names = warehouseRepo.findAllById(counts.keySet()).stream()
+                    .collect(Collectors.toMap(Warehouse::getWarehouseId, Warehouse::getName));
+            groups = new ArrayList<>();
+            counts.forEach((warehouseId, count) ->
+                    groups.add(new ExpirationAlertGroupDTO(warehouseId, names.get(warehouseId), count)));
+            groups.sort(Comparator.comparing(ExpirationAlertGroupDTO::getWarehouseName,
+                    Comparator.nullsLast(Comparator.naturalOrder())));
+        } else {
+            groups = inventoryRepo.countExpiringByWarehouse(from, to);
+        }
+
+        for (ExpirationAlertGroupDTO group : groups) {
+            List<ExpirationIndexService.Entry> first =
+                    findAlerts(from, to, null, 0L, group.getWarehouseId(), groupSize);
+            group.setItems(first.stream().map(ExpirationIndexService.Entry::item).collect(Collectors.toList()));
+            if (group.getItemCount() > first.size() && !first.isEmpty()) {
+                group.setNextCursor(cursorOf(first.get(first.size() - 1)));
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Reads alerts from the expiration index when it is ready, otherwise from the database.
+     * * @param from Optional inclusive lower bound on the expiration date.
+     * @param to The inclusive upper bound on the expiration date.
+     * @param afterDate The expiration date of the cursor, or {@code null} to start at the beginning.
+     * @param afterId The inventory ID of the cursor.
+     * @param warehouseId Optional warehouse ID filter.
+     * @param limit The maximum number of alerts to read.
+     * @return The alerts in (expiration date, inventory ID) order.
+     */
+    private List<ExpirationIndexService.Entry> findAlerts(LocalDate from, LocalDate to, LocalDate afterDate,
+                                                          Long afterId, Long warehouseId, int limit) {
+        if (expirationIndex.isReady()) {
+            return expirationIndex.findPage(from, to, afterDate, afterId, warehouseId, limit);
+        }
+        return inventoryRepo.findExpiringPage(from, to, afterDate, afterId, warehouseId, Limit.of(limit)).stream()
+                .map(row -> new ExpirationIndexService.Entry(row.getExpirationDate(), row.getId(), inventoryMapper.toDTO(row)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Builds the page cursor pointing after an alert.
+     * * @param entry The last alert of a page.
+     * @return The cursor in the form {@code <expirationDate>:<inventoryId>}.
+     */
+    private static String cursorOf(ExpirationIndexService.Entry entry) {
+        return entry.expirationDate() + ":" + entry.inventoryId();
+    }
+}
@@ -0,0 +1,417 @@
+package com.skillstorm.reliable_api.services;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.skillstorm.reliable_api.dtos.WarehouseInventoryDTO;
+import com.skillstorm.reliable_api.mappers.WarehouseInventoryMapper;
+import com.skillstorm.reliable_api.models.WarehouseInventory;
+import com.skillstorm.reliable_api.repositories.WarehouseInventoryRepo;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Service class holding an in-memory index of inventory records by expiration date, used to answer the
+ * expiration alert queries without touching the database.
+ * <p>
+ * Records are kept in one bucket per calendar day, in a sorted map keyed by the expiration date, so an
+ * alert over any horizon is a range view over the buckets it spans. Buckets hold ready-made
+ * {@code WarehouseInventoryDTO}s ordered by inventory ID, so pages in (expiration date, inventory ID) order are
+ * read without sorting. Because buckets are keyed by absolute dates,
+ * nothing has to rotate when the day changes.
+ * </p>
+ * <p>
+ * The index is built from the database when the application is ready. Afterwards it is kept in sync by
+ * {@link com.skillstorm.reliable_api.listeners.ExpirationIndexListener}, which reports every inserted, updated or removed inventory record and
+ * every updated product. The affected rows are reloaded once their transaction commits, on a single worker
+ * thread, so refreshes apply in order and never slow down the writing request. Until the index is ready
+ * (or after a refresh failed) {@link #isReady()} is {@code false} and callers query the database instead;
+ * a stale index is rebuilt on a fixed delay.
+ * </p>
+ * <p>
+ * The listener only sees writes made by this instance. Writes by other instances (or directly in the
+ * database) reach the index through a full rebuild every {@code expiration-index.full-rebuild-interval-ms},
+ * which bounds how long the index can lag behind them. A rebuild reads the records in pages of
+ * {@value #LOAD_PAGE_SIZE} by inventory ID, each page in its own short transaction, so only one page of
+ * entities is held at a time. The rebuilt buckets are swapped in at once, and refreshes queued meanwhile
+ * run after it on the same worker, so none of them is lost.
+ * </p>
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Service
+public class ExpirationIndexService {
+
+    /**
+     * Maximum number of IDs per reload query.
+     */
+    private static final int RELOAD_BATCH_SIZE = 1000;
+
+    /**
+     * Number of records read per page while the index is built.
+     */
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    /**
+     * The day buckets: expiration date to the records expiring that day, keyed by inventory ID.
+     * Only the worker thread writes; queries read concurrently.
+     */
+    private static final class DayBuckets {
+
+        private final ConcurrentSkipListMap<LocalDate, ConcurrentSkipListMap<Long, WarehouseInventoryDTO>> days =
+                new ConcurrentSkipListMap<>();
+        private final Map<Long, LocalDate> dayOf = new ConcurrentHashMap<>();
+
+        void put(Long inventoryId, WarehouseInventoryDTO dto) {
+            LocalDate day = dto.getExpirationDate();
+            if (day == null) {
+                remove(inventoryId);
+                return;
+            }
+            days.computeIfAbsent(day, d -> new ConcurrentSkipListMap<>()).put(inventoryId, dto);
+            LocalDate previous = dayOf.put(inventoryId, day);
+            if (previous != null && !previous.equals(day)) {
+                removeFromBucket(previous, inventoryId);
+            }
+        }
+
+        void remove(Long inventoryId) {
+            LocalDate day = dayOf.remove(inventoryId);
+            if (day != null) {
+                removeFromBucket(day, inventoryId);
+            }
+        }
+
+        private void removeFromBucket(LocalDate day, Long inventoryId) {
+            Map<Long, WarehouseInventoryDTO> bucket = days.get(day);
+            if (bucket != null) {
+                bucket.remove(inventoryId);
+                if (bucket.isEmpty()) {
+                    days.remove(day, bucket);
+                }
+            }
+        }
+    }
+
+    /**
+     * An indexed record together with its position in the index, from which a page cursor is built.
+     * * @param expirationDate The expiration date of the record (its bucket).
+     * @param inventoryId The ID of the inventory record.
+     * @param item The record as returned to clients.
+     */
+    public record Entry(LocalDate expirationDate, Long inventoryId, WarehouseInventoryDTO item) {}
+
+    /**
+     * The records and products written by one transaction, reloaded once it commits.
+     */
+    private final class PendingRefresh implements TransactionSynchronization {
+
+        private final Set<Long> inventoryIds = new HashSet<>();
+        private final Set<Long> productIds = new HashSet<>();
+
+        @Override
+        public void afterCommit() {
+            submitRefresh(inventoryIds, productIds);
+        }
+    }
+
+    private final WarehouseInventoryRepo inventoryRepo;
+    private final WarehouseInventoryMapper inventoryMapper;
+    private final TransactionTemplate readOnlyTx;
+    private final ExecutorService worker =
+            Executors.newSingleThreadExecutor(task -> new Thread(task, "expiration-index"));
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    private volatile DayBuckets buckets = new DayBuckets();
+    private volatile boolean ready;
+
+    /**
+     * Constructs the ExpirationIndexService.
+     * * @param inventoryRepo The repository the index is loaded from.
+     * @param inventoryMapper The mapper producing the indexed DTOs.
+     * @param transactionManager The transaction manager for the read-only reload transactions.
+     */
+    public ExpirationIndexService(WarehouseInventoryRepo inventoryRepo,
+                                  WarehouseInventoryMapper inventoryMapper,
+                                  PlatformTransactionManager transactionManager) {
+        this.inventoryRepo = inventoryRepo;
+        this.inventoryMapper = inventoryMapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * Indicates whether the index reflects the database and can answer queries.
+     * * @return {@code true} once the index has been built and no refresh has failed since.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Retrieves one page of indexed records whose expiration date falls within a range, ordered by
+     * expiration date, then inventory ID, starting after a cursor. Only the buckets from the cursor onward
+     * are visited.
+     * * @param from Optional inclusive lower bound on the expiration date; {@code null} for no lower bound.
+     * @param to The inclusive upper bound on the expiration date.
+     * @param afterDate The expiration date of the previous page's last record, or {@code null} for the first page.
+     * @param afterId The inventory ID of the previous page's last record (ignored on the first page).
+     * @param warehouseId Optional warehouse ID filter.
+     * @param limit The maximum number of records to return.
+     * @return A list of at most {@code limit} records.
+     */
+    public List<Entry> findPage(LocalDate from, LocalDate to, LocalDate afterDate, Long afterId,
+                                Long warehouseId, int limit) {
+        LocalDate start = from;
+        if (afterDate != null && (start == null || !afterDate.isBefore(start))) {
+            start = afterDate;
+        }
+        List<Entry> page = new ArrayList<>();
+        if (start != null && start.isAfter(to)) {
+            return page;
+        }
+
+        DayBuckets current = buckets;
+        NavigableMap<LocalDate, ConcurrentSkipListMap<Long, WarehouseInventoryDTO>> range =
+                start == null ? current.days.headMap(to, true) : current.days.subMap(start, true, to, true);
+
+        for (Map.Entry<LocalDate, ConcurrentSkipListMap<Long, WarehouseInventoryDTO>> day : range.entrySet()) {
+            NavigableMap<Long, WarehouseInventoryDTO> bucket = day.getValue();
+            if (day.getKey().equals(afterDate)) {
+                bucket = bucket.tailMap(afterId, false);
+            }
+            for (Map.Entry<Long, WarehouseInventoryDTO> record : bucket.entrySet()) {
+                if (warehouseId != null && !warehouseId.equals(record.getValue().getWarehouseId())) {
+                    continue;
+                }
+                page.add(new Entry(day.getKey(), record.getKey(), record.getValue()));
+                if (page.size() == limit) {
+                    return page;
+                }
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Counts the indexed records whose expiration date falls within a range, per warehouse.
+     * * @param from Optional inclusive lower bound on the expiration date; {@code null} for no lower bound.
+     * @param to The inclusive upper bound on the expiration date.
+     * @return The number of matching records keyed by warehouse ID; warehouses without any are absent.
+     */
+    public Map<Long, Long> countByWarehouse(LocalDate from, LocalDate to) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (from != null && from.isAfter(to)) {
+            return counts;
+        }
+        DayBuckets current = buckets;
+        NavigableMap<LocalDate, ConcurrentSkipListMap<Long, WarehouseInventoryDTO>> range =
+                from == null ? current.days.headMap(to, true) : current.days.subMap(from, true, to, true);
+        for (Map<Long, WarehouseInventoryDTO> bucket : range.values()) {
+            for (WarehouseInventoryDTO record : bucket.values()) {
+                counts.merge(record.getWarehouseId(), 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Records that an inventory record was inserted, updated or removed by the current transaction.
+     * * @param inventoryId The ID of the inventory record.
+     */
+    public void inventoryChanged(Long inventoryId) {
+        if (inventoryId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingRefresh().inventoryIds.add(inventoryId);
+        } else {
+            submitRefresh(Set.of(inventoryId), Set.of());
+        }
+    }
+
+    /**
+     * Records that a product was updated by the current transaction, so its indexed records are reloaded.
+     * * @param productId The internal primary key of the product.
+     */
+    public void productChanged(Long productId) {
+        if (productId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingRefresh().productIds.add(productId);
+        } else {
+            submitRefresh(Set.of(), Set.of(productId));
+        }
+    }
+
+    /**
+     * Builds the index once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            worker.execute(this::load);
+        }
+    }
+
+    /**
+     * Rebuilds the index if it is not ready, e.g. because the initial load or a refresh failed.
+     */
+    @Scheduled(fixedDelayString = "${expiration-index.rebuild-interval-ms:60000}",
+               initialDelayString = "${expiration-index.rebuild-interval-ms:60000}")
+    public void rebuildIfStale() {
+        if (!ready) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuilds the index from the database on a fixed delay, picking up writes made by other instances.
+     */
+    @Scheduled(fixedDelayString = "${expiration-index.full-rebuild-interval-ms:300000}",
+               initialDelayString = "${expiration-index.full-rebuild-interval-ms:300000}")
+    public void rebuildPeriodically() {
+        rebuild();
+    }
+
+    /**
+     * Stops the worker thread.
+     */
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+        try {
+            worker.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the pending refresh of the current transaction, registering it on first use. Synchronizations
+     * are scoped to their transaction, so a nested {@code REQUIRES_NEW} transaction gets its own.
+     * * @return The pending refresh of the current transaction.
+     */
+    private PendingRefresh pendingRefresh() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingRefresh pending) {
+                return pending;
+            }
+        }
+        PendingRefresh pending = new PendingRefresh();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    /**
+     * Queues a reload of the given records and of the indexed records of the given products.
+     * * @param inventoryIds The IDs of written inventory records.
+     * @param productIds The internal primary keys of updated products.
+     */
+    private void submitRefresh(Collection<Long> inventoryIds, Collection<Long> productIds) {
+        if (inventoryIds.isEmpty() && productIds.isEmpty()) {
+            return;
+        }
+        List<Long> inventory = List.copyOf(inventoryIds);
+        List<Long> products = List.copyOf(productIds);
+        worker.execute(() -> refresh(inventory, products));
+    }
+
+    /**
+     * Loads every record with an expiration date into a new set of buckets and swaps it in. Records are
+     * read in pages of {@value #LOAD_PAGE_SIZE} by inventory ID, one transaction per page, so the entities
+     * of a page are released before the next one is read. Runs on the worker thread.
+     */
+    private void load() {
+        rebuildQueued.set(false);
+        try {
+            DayBuckets loaded = new DayBuckets();
+            Long afterId = 0L;
+            while (afterId != null) {
+                Long cursor = afterId;
+                afterId = readOnlyTx.execute(status -> {
+                    List<WarehouseInventory> page = inventoryRepo.findPageWithProductByExpirationDateNotNull(
+                            cursor, Limit.of(LOAD_PAGE_SIZE));
+                    for (WarehouseInventory row : page) {
+                        loaded.put(row.getId(), inventoryMapper.toDTO(row));
+                    }
+                    return page.size() < LOAD_PAGE_SIZE ? null : page.get(page.size() - 1).getId();
+                });
+            }
+            buckets = loaded;
+            ready = true;
+        } catch (RuntimeException e) {
+            ready = false;
+        }
+    }
+
+    /**
+     * Reloads written records from the database and applies them to the buckets; records that no longer
+     * exist are removed. Runs on the worker thread, so each reload reads state at least as new as the
+     * previous one.
+     * * @param inventoryIds The IDs of written inventory records.
+     * @param productIds The internal primary keys of updated products.
+     */
+    private void refresh(List<Long> inventoryIds, List<Long> productIds) {
+        try {
+            Map<Long, WarehouseInventoryDTO> reloaded = readOnlyTx.execute(status -> {
+                Map<Long, WarehouseInventoryDTO> rows = new HashMap<>();
+                reloadInBatches(inventoryIds, inventoryRepo::findAllWithProductByIdIn, rows);
+                reloadInBatches(productIds, inventoryRepo::findAllWithProductByProductIdIn, rows);
+                return rows;
+            });
+            DayBuckets current = buckets;
+            for (Long id : inventoryIds) {
+                if (!reloaded.containsKey(id)) {
+                    current.remove(id);
+                }
+            }
+            reloaded.forEach(current::put);
+        } catch (RuntimeException e) {
+            // The index may have missed this change; answer from the database until it is rebuilt
+            ready = false;
+        }
+    }
+
+    /**
+     * Runs a reload query over the IDs in batches of {@value #RELOAD_BATCH_SIZE}, mapping the results to DTOs.
+     * * @param ids The IDs to query.
+     * @param query The reload query.
+     * @param into The map the DTOs are added to, keyed by inventory ID.
+     */
+    private void reloadInBatches(List<Long> ids, Function<Collection<Long>, List<WarehouseInventory>> query,
+                                 Map<Long, WarehouseInventoryDTO> into) {
+        for (int from = 0; from < ids.size(); from += RELOAD_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + RELOAD_BATCH_SIZE, ids.size()));
+            for (WarehouseInventory row : query.apply(batch)) {
+                into.put(row.getId(), inventoryMapper.toDTO(row));
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.skillstorm.reliable_api.services;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.skillstorm.reliable_api.models.ExpirySweep;
+import com.skillstorm.reliable_api.models.WarehouseInventory;
+import com.skillstorm.reliable_api.repositories.ExpirySweepRepo;
+import com.skillstorm.reliable_api.repositories.WarehouseInventoryRepo;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Service class that periodically quarantines inventory past its expiration date, so expired stock is
+ * taken out of circulation without waiting for someone to notice it on the alerts page.
+ * <p>
+ * Each run pages through the expired, not yet quarantined rows in fixed-size chunks, in
+ * (expiration date, inventory ID) order. Every chunk is its own short transaction: its rows are locked
+ * with {@code SKIP LOCKED}, stamped with {@code quarantinedAt} and committed, so the sweep never holds
+ * locks across chunks and never blocks on rows a user is editing (those are picked up by the next run).
+ * Quarantined stock keeps its capacity, since it still occupies the warehouse until it is removed, but
+ * it can no longer be transferred.
+ * </p>
+ * <p>
+ * Only one instance sweeps at a time: the run holds a session-level Postgres advisory lock on a
+ * dedicated connection and is skipped when another instance holds it. Each run is recorded as an
+ * {@code ExpirySweep} row and counted by the {@code inventory.expiry.quarantined} and
+ * {@code inventory.expiry.quarantined.units} counters.
+ * </p>
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Service
+public class ExpirySweeperService {
+
+    /**
+     * Key of the Postgres advisory lock serializing sweeps across instances.
+     */
+    static final long ADVISORY_LOCK_KEY = 0x45585059_53574550L;
+
+    private final WarehouseInventoryRepo inventoryRepo;
+    private final ExpirySweepRepo sweepRepo;
+    private final DataSource dataSource;
+    private final TransactionTemplate chunkTx;
+    private final int chunkSize;
+    private final Counter rowsQuarantined;
+    private final Counter unitsQuarantined;
+
+    /**
+     * The outcome of one committed chunk.
+     * * @param rows The number of records quarantined.
+     * @param units The total quantity of those records.
+     * @param lastDate The expiration date of the chunk's last record, the cursor of the next chunk.
+     * @param lastId The inventory ID of the chunk's last record.
+     */
+    private record Chunk(int rows, long units, LocalDate lastDate, Long lastId) {}
+
+    /**
+     * Constructs the ExpirySweeperService and registers its counters.
+     * * @param inventoryRepo The repository the expired records are locked and updated through.
+     * @param sweepRepo The repository recording each run.
+     * @param dataSource The data source the advisory lock connection is taken from.
+     * @param transactionManager The transaction manager for the per-chunk transactions.
+     * @param meterRegistry The registry the counters are published to.
+     * @param chunkSize The number of records quarantined per transaction.
+     */
+    public ExpirySweeperService(WarehouseInventoryRepo inventoryRepo,
+                                ExpirySweepRepo sweepRepo,
+                                DataSource dataSource,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${expiry-sweep.chunk-size:500}") int chunkSize) {
+        this.inventoryRepo = inventoryRepo;
+        this.sweepRepo = sweepRepo;
+        this.dataSource = dataSource;
+        this.chunkTx = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+
+        this.rowsQuarantined = Counter.builder("inventory.expiry.quarantined")
+                .description("Inventory records quarantined by the expiry sweeper")
+                .register(meterRegistry);
+        this.unitsQuarantined = Counter.builder("inventory.expiry.quarantined.units")
+                .description("Units of inventory quarantined by the expiry sweeper")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs a sweep if no other instance is sweeping. Scheduled by {@code expiry-sweep.interval-ms}.
+     * * @throws IllegalStateException if the advisory lock could not be queried.
+     */
+    @Scheduled(initialDelayString = "${expiry-sweep.initial-delay-ms:60000}",
+               fixedDelayString = "${expiry-sweep.interval-ms:3600000}")
+    public void sweep() {
+        try (Connection lockConnection = dataSource.getConnection()) {
+            // Session-level lock: it must not ride on an open transaction of this connection
+            lockConnection.setAutoCommit(true);
+            if (!advisoryLock(lockConnection, "SELECT pg_try_advisory_lock(?)")) {
+                return;
+            }
+            try {
+                runSweep();
+            } finally {
+                advisoryLock(lockConnection, "SELECT pg_advisory_unlock(?)");
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Expiry sweep could not use its advisory lock", e);
+        }
+    }
+
+    /**
+     * Quarantines every record that expired before today, one chunk per transaction, and records the run.
+     */
+    private void runSweep() {
+        LocalDate cutoff = LocalDate.now();
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        int chunks = 0;
+        int rows = 0;
+        long units = 0;
+        Chunk chunk = new Chunk(0, 0, null, 0L);
+        do {
+            Chunk after = chunk;
+            chunk = chunkTx.execute(status -> quarantineChunk(cutoff, after.lastDate(), after.lastId(), startedAt));
+            if (chunk.rows() > 0) {
+                chunks++;
+                rows += chunk.rows();
+                units += chunk.units();
+                rowsQuarantined.increment(chunk.rows());
+                unitsQuarantined.increment(chunk.units());
+            }
+        } while (chunk.rows() == chunkSize);
+
+        sweepRepo.save(new ExpirySweep(cutoff, startedAt, LocalDateTime.now(), chunks, rows, units));
+    }
+
+    /**
+     * Locks one chunk of expired records and marks them quarantined. Runs inside a chunk transaction; the
+     * rows are written at commit, and the expiration index is refreshed through its entity listener.
+     * * @param cutoff Records expiring before this date are quarantined.
+     * @param afterDate The cursor expiration date, or {@code null} for the first chunk.
+     * @param afterId The cursor inventory ID.
+     * @param quarantinedAt The timestamp stamped on the records.
+     * @return The outcome of the chunk.
+     */
+    private Chunk quarantineChunk(LocalDate cutoff, LocalDate afterDate, Long afterId, LocalDateTime quarantinedAt) {
+        List<WarehouseInventory> expired = inventoryRepo.lockExpiredChunk(cutoff, afterDate, afterId, Limit.of(chunkSize));
+        if (expired.isEmpty()) {
+            return new Chunk(0, 0, afterDate, afterId);
+        }
+        long units = 0;
+        for (WarehouseInventory row : expired) {
+            row.setQuarantinedAt(quarantinedAt);
+            units += row.getQuantity();
+        }
+        WarehouseInventory last = expired.get(expired.size() - 1);
+        return new Chunk(expired.size(), units, last.getExpirationDate(), last.getId());
+    }
+
+    /**
+     * Runs an advisory lock function with the sweeper's key on the given connection.
+     * * @param connection The dedicated lock connection.
+     * @param sql The lock function call, taking the key as its only parameter.
+     * @return The boolean result of the function.
+     * @throws SQLException if the statement fails.
+     */
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.skillstorm.reliable_api.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillstorm.reliable_api.exceptions.IdempotencyKeyException;
+import com.skillstorm.reliable_api.exceptions.IdempotencyKeyInProgressException;
+import com.skillstorm.reliable_api.models.IdempotencyRecord;
+import com.skillstorm.reliable_api.repositories.IdempotencyRecordRepo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Service class that makes write endpoints safe to retry through the {@code Idempotency-Key} request header.
+ * <p>
+ * Keys are kept in the {@code idempotency_keys} table, which all instances share, so a retry is recognized
+ * whichever instance it reaches. The first request carrying a key inserts the key's row before it runs
+ * (concurrent duplicates collide on the primary key) and stores its response there once it succeeds. A
+ * repeat of the same request with the same key gets the stored response back, marked with
+ * {@code Idempotent-Replayed: true}, without running the operation again. A repeat that arrives while the
+ * first is still running is answered at once with 409 Conflict and a {@code Retry-After} header rather
+ * than holding a request thread. Requests that end in an exception release their key, so they can be
+ * retried with the same key; a key whose request has been in progress longer than
+ * {@code idempotency.in-progress-timeout} (its instance died) can be claimed again.
+ * </p>
+ * <p>
+ * Only the status, the headers and the JSON body of a response are stored, the body as serialized bytes.
+ * A body larger than {@code idempotency.max-body-bytes} is not kept: its replay carries the status and
+ * headers only, which still tells the client the operation succeeded without running it twice.
+ * </p>
+ * <p>
+ * Each key is bound to a SHA-256 fingerprint of the operation and its request body; reusing a key for a
+ * different request is rejected. Keys are forgotten after {@code idempotency.ttl}; expired rows are deleted
+ * by a scheduled sweep. Replays are counted by the {@code inventory.idempotency.replays} metric.
+ * </p>
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Service
+public class IdempotencyService {
+
+    /**
+     * The request header carrying the client-chosen idempotency key.
+     */
+    public static final String HEADER = "Idempotency-Key";
+
+    /**
+     * The response header marking a replayed response.
+     */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    /**
+     * The maximum accepted key length, the length of the {@code idempotency_key} column.
+     */
+    static final int MAX_KEY_LENGTH = 128;
+
+    /**
+     * The delay, in seconds, suggested to a repeat of a request that is still in progress.
+     */
+    static final long RETRY_AFTER_SECONDS = 1;
+
+    private static final TypeReference<LinkedHashMap<String, List<String>>> HEADERS_TYPE =
+            new TypeReference<>() {};
+
+    private final IdempotencyRecordRepo recordRepo;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+    private final int maxBodyBytes;
+
+    /**
+     * Constructs the IdempotencyService.
+     * * @param recordRepo The repository of the shared key store.
+     * @param objectMapper The JSON mapper used to fingerprint requests and store responses.
+     * @param meterRegistry The registry the replay metric is published to.
+     * @param ttl How long a key and its response are kept after the first request.
+     * @param inProgressTimeout How long a request may hold a key before the key can be claimed again.
+     * @param maxBodyBytes The maximum size of a stored response body, in bytes.
+     */
+    public IdempotencyService(IdempotencyRecordRepo recordRepo,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${idempotency.ttl:24h}") Duration ttl,
+                              @Value("${idempotency.in-progress-timeout:5m}") Duration inProgressTimeout,
+                              @Value("${idempotency.max-body-bytes:65536}") int maxBodyBytes) {
+        this.recordRepo = recordRepo;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        this.inProgressTimeout = inProgressTimeout;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    /**
+     * Runs a write operation at most once per idempotency key. Without a key the operation simply runs.
+     * * @param key The value of the {@code Idempotency-Key} header, or {@code null} if absent.
+     * @param operation The name of the operation, which scopes the key (e.g. {@code "transferInventory"}).
+     * @param request The request data the key is bound to (path variables and body).
+     * @param action The operation producing the response.
+     * @return The response of the operation, or the stored response of an earlier identical request.
+     * @throws IdempotencyKeyException if the key is too long or was already used for a different request.
+     * @throws IdempotencyKeyInProgressException if the first request with the key is still running.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> execute(String key, String operation, Object request,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IdempotencyKeyException(
+                    HEADER + " must not be longer than " + MAX_KEY_LENGTH + " characters");
+        }
+
+        byte[] fingerprint = fingerprint(operation, request);
+
+        while (true) {
+            // Truncated to the column precision, so the claim time identifies this request's claim
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            if (recordRepo.claim(operation, key, fingerprint, now, now.plus(ttl), now.minus(inProgressTimeout)) == 1) {
+                ResponseEntity<T> response;
+                try {
+                    response = action.get();
+                } catch (RuntimeException | Error e) {
+                    // Failed requests are not remembered, so the key can be retried
+                    recordRepo.release(operation, key, now);
+                    throw e;
+                }
+                store(operation, key, now, response);
+                return response;
+            }
+
+            IdempotencyRecord existing = recordRepo.findById(new IdempotencyRecord.Key(operation, key)).orElse(null);
+            if (existing == null) {
+                // The request holding the key failed and released it meanwhile; claim it again
+                continue;
+            }
+            if (!Arrays.equals(existing.getFingerprint(), fingerprint)) {
+                throw new IdempotencyKeyException(
+                        HEADER + " was already used for a different request");
+            }
+            if (existing.getStatus() == null) {
+                throw new IdempotencyKeyInProgressException(
+                        "A request with this " + HEADER + " is still being processed", RETRY_AFTER_SECONDS);
+            }
+
+            meterRegistry.counter("inventory.idempotency.replays", "operation", operation).increment();
+            return (ResponseEntity<T>) replay(existing);
+        }
+    }
+
+    /**
+     * Deletes expired keys on a fixed delay.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.sweep-interval-ms:600000}")
+    public void deleteExpired() {
+        recordRepo.deleteExpired(LocalDateTime.now());
+    }
+
+    /**
+     * Stores what is needed to replay a response, its status, headers and size-capped JSON body, on the
+     * key held by the request.
+     * * @param operation The name of the operation.
+     * @param key The client-chosen key.
+     * @param claimedAt The time the request claimed the key.
+     * @param response The response of the request.
+     */
+    private void store(String operation, String key, LocalDateTime claimedAt, ResponseEntity<?> response) {
+        byte[] body = null;
+        if (response.getBody() != null) {
+            try {
+                byte[] json = objectMapper.writeValueAsBytes(response.getBody());
+                body = json.length <= maxBodyBytes ? json : null;
+            } catch (JsonProcessingException e) {
+                // The body could not be kept; the replay still carries the status and headers
+            }
+        }
+        String headers;
+        try {
+            headers = objectMapper.writeValueAsString(new LinkedHashMap<>(response.getHeaders()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not store response headers", e);
+        }
+        recordRepo.complete(operation, key, claimedAt, response.getStatusCode().value(), headers, body);
+    }
+
+    /**
+     * Builds the replay of a stored response, marked with {@code Idempotent-Replayed: true}.
+     * * @param stored The completed record.
+     * @return The response returned to the repeated request; its body is the stored JSON, if any.
+     */
+    private ResponseEntity<byte[]> replay(IdempotencyRecord stored) {
+        HttpHeaders headers = new HttpHeaders();
+        try {
+            objectMapper.readValue(stored.getHeaders(), HEADERS_TYPE).forEach(headers::addAll);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read stored response headers", e);
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(stored.getStatus())
+                .headers(headers)
+                .header(REPLAYED_HEADER, "true");
+        if (stored.getBody() == null) {
+            return builder.build();
+        }
+        return builder.contentType(MediaType.APPLICATION_JSON).body(stored.getBody());
+    }
+
+    /**
+     * Computes the SHA-256 fingerprint of an operation and its request data, serialized as JSON.
+     * * @param operation The name of the operation.
+     * @param request The request data.
+     * @return The fingerprint.
+     */
+    private byte[] fingerprint(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return digest.digest();
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Could not fingerprint request", e);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.skillstorm.reliable_api.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Service class responsible for exporting the complete warehouse inventory, joined with its
+ * product and warehouse data, for reporting jobs.
+ * <p>
+ * Rows are read through a forward-only JDBC cursor with a fixed fetch size and written straight to
+ * the response output stream as they arrive. No entities are materialized, so nothing accumulates in
+ * the persistence context and heap usage stays flat regardless of the table size.
+ * </p>
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Service
+public class InventoryExportService {
+
+    /**
+     * Supported export formats and their response content types.
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        /**
+         * Retrieves the HTTP content type for this format.
+         * * @return The content type string.
+         */
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    /**
+     * Number of rows the PostgreSQL driver fetches per round trip while the cursor is open.
+     */
+    private static final int FETCH_SIZE = 1000;
+
+    /**
+     * Number of rows written between explicit flushes of the output stream.
+     */
+    private static final int FLUSH_INTERVAL = 1000;
+
+    /**
+     * Column names emitted by the export, in output order.
+     */
+    private static final String[] COLUMNS = {
+        "inventoryId", "warehouseId", "warehouseName", "warehouseLocation",
+        "productPublicId", "productName", "sku", "unit", "price", "categoryId",
+        "isHazardous", "expirationRequired", "quantity", "storageLocation",
+        "expirationDate", "updatedAt"
+    };
+
+    private static final String EXPORT_SQL =
+        "SELECT wi.inventory_id, w.warehouse_id, w.name AS warehouse_name, w.location AS warehouse_location, " +
+        "p.public_id, p.name AS product_name, p.sku, p.unit, p.price, p.category_id, " +
+        "p.is_hazardous, p.expiration_required, wi.quantity, wi.storage_location, " +
+        "wi.expiration_date, wi.updated_at " +
+        "FROM warehouse_inventory wi " +
+        "JOIN warehouses w ON w.warehouse_id = wi.warehouse_id " +
+        "JOIN products p ON p.product_id = wi.product_id " +
+        "ORDER BY wi.inventory_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs the InventoryExportService with the required dependencies.
+     * * @param jdbcTemplate The template used to run the streaming export query.
+     * @param objectMapper The Jackson mapper whose factory creates the NDJSON generator.
+     */
+    public InventoryExportService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Streams every inventory row to the given output stream in the requested format.
+     * Runs in a read-only transaction because the PostgreSQL driver only honours the fetch size
+     * (and so only keeps a server-side cursor) when auto-commit is disabled.
+     *
+     * @param format The output format.
+     * @param out The stream to write to; it is flushed but not closed.
+     * @throws IOException if writing to the stream fails.
+     */
+    @Transactional(readOnly = true)
+    public void exportInventory(Format format, OutputStream out) throws IOException {
+        try {
+            if (format == Format.CSV) {
+                exportCsv(out);
+            } else {
+                exportNdjson(out);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Writes the export as newline-delimited JSON, one object per inventory row.
+     * * @param out The stream to write to.
+     * @throws IOException if writing to the stream fails.
+     */
+    private void exportNdjson(OutputStream out) throws IOException {
+        JsonGenerator gen = objectMapper.getFactory().createGenerator(out);
+        gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        streamRows(new RowCallbackHandler() {
+            private int written;
+
+            @Override
+            public void processRow(ResultSet rs) throws SQLException {
+                try {
+                    gen.writeStartObject();
+                    gen.writeNumberField(COLUMNS[0], rs.getLong("inventory_id"));
+                    gen.writeNumberField(COLUMNS[1], rs.getLong("warehouse_id"));
+                    gen.writeStringField(COLUMNS[2], rs.getString("warehouse_name"));
+                    gen.writeStringField(COLUMNS[3], rs.getString("warehouse_location"));
+                    gen.writeStringField(COLUMNS[4], rs.getString("public_id"));
+                    gen.writeStringField(COLUMNS[5], rs.getString("product_name"));
+                    gen.writeStringField(COLUMNS[6], rs.getString("sku"));
+                    gen.writeStringField(COLUMNS[7], rs.getString("unit"));
+                    gen.writeFieldName(COLUMNS[8]);
+                    BigDecimal price = rs.getBigDecimal("price");
+                    if (price != null) { gen.writeNumber(price); } else { gen.writeNull(); }
+                    gen.writeFieldName(COLUMNS[9]);
+                    long categoryId = rs.getLong("category_id");
+                    if (rs.wasNull()) { gen.writeNull(); } else { gen.writeNumber(categoryId); }
+                    gen.writeBooleanField(COLUMNS[10], rs.getBoolean("is_hazardous"));
+                    gen.writeBooleanField(COLUMNS[11], rs.getBoolean("expiration_required"));
+                    gen.writeNumberField(COLUMNS[12], rs.getInt("quantity"));
+                    gen.writeStringField(COLUMNS[13], rs.getString("storage_location"));
+                    gen.writeStringField(COLUMNS[14], dateString(rs.getDate("expiration_date")));
+                    gen.writeStringField(COLUMNS[15], timestampString(rs.getTimestamp("updated_at")));
+                    gen.writeEndObject();
+                    gen.writeRaw('\n');
+
+                    if (++written % FLUSH_INTERVAL == 0) {
+                        gen.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+
+        gen.flush();
+        gen.close();
+    }
+
+    /**
+     * Writes the export as RFC 4180 CSV with a header row.
+     * * @param out The stream to write to.
+     * @throws IOException if writing to the stream fails.
+     */
+    private void exportCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(String.join(",", COLUMNS));
+        writer.write("\r\n");
+
+        streamRows(new RowCallbackHandler() {
+            private int written;
+
+            @Override
+            public void processRow(ResultSet rs) throws SQLException {
+                try {
+                    writer.write(Long.toString(rs.getLong("inventory_id")));
+                    writer.write(',');
+                    writer.write(Long.toString(rs.getLong("warehouse_id")));
+                    writer.write(',');
+                    writeCsvField(writer, rs.getString("warehouse_name"));
+                    writer.write(',');
+                    writeCsvField(writer, rs.getString("warehouse_location"));
+                    writer.write(',');
+                    writeCsvField(writer, rs.getString("public_id"));
+                    writer.write(',');
+                    writeCsvField(writer, rs.getString("product_name"));
+                    writer.write(',');
+                    writeCsvField(writer, rs.getString("sku"));
+                    writer.write(',');
+                    writeCsvField(writer, rs.getString("unit"));
+                    writer.write(',');
+                    BigDecimal price = rs.getBigDecimal("price");
+                    writeCsvField(writer, price != null ? price.toPlainString() : null);
+                    writer.write(',');
+                    writeCsvField(writer, rs.getString("category_id"));
+                    writer.write(',');
+                    writer.write(Boolean.toString(rs.getBoolean("is_hazardous")));
+                    writer.write(',');
+                    writer.write(Boolean.toString(rs.getBoolean("expiration_required")));
+                    writer.write(',');
+                    writer.write(Integer.toString(rs.getInt("quantity")));
+                    writer.write(',');
+                    writeCsvField(writer, rs.getString("storage_location"));
+                    writer.write(',');
+                    writeCsvField(writer, dateString(rs.getDate("expiration_date")));
+                    writer.write(',');
+                    writeCsvField(writer, timestampString(rs.getTimestamp("updated_at")));
+                    writer.write("\r\n");
+
+                    if (++written % FLUSH_INTERVAL == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+
+        writer.flush();
+    }
+
+    /**
+     * Runs the export query through a forward-only, read-only cursor with {@link #FETCH_SIZE},
+     * handing each row to the callback as it is read.
+     * * @param handler The callback that writes a single row.
+     */
+    private void streamRows(RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, handler);
+    }
+
+    /**
+     * Writes a single CSV field, quoting it when it contains a delimiter, quote or line break.
+     * {@code null} values are written as empty fields.
+     * * @param writer The writer to write to.
+     * @param value The raw field value.
+     * @throws IOException if writing fails.
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String dateString(Date date) {
+        return date != null ? date.toLocalDate().toString() : null;
+    }
+
+    private static String timestampString(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+    }
+}
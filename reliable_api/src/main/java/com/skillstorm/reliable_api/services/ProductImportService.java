@@ -0,0 +1,510 @@
+package com.skillstorm.reliable_api.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillstorm.reliable_api.dtos.CategoryDTO;
+import com.skillstorm.reliable_api.dtos.ProductDTO;
+import com.skillstorm.reliable_api.mappers.ProductMapper;
+import com.skillstorm.reliable_api.models.Product;
+import com.skillstorm.reliable_api.repositories.CategoryRepo;
+import com.skillstorm.reliable_api.repositories.ProductRepo;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Service class responsible for importing supplier product catalogs of any size.
+ * <p>
+ * The upload (CSV with a header row, or NDJSON with one {@code ProductDTO} per line) is parsed one row
+ * at a time and valid rows are collected into chunks of {@value #CHUNK_SIZE}. For each chunk the SKUs are
+ * checked against the database with one IN query and the new products are inserted in their own
+ * transaction as JDBC batches. Category IDs are checked against the in-memory category catalog, so
+ * no per-row lookups are made. Only the current chunk and the set of SKUs seen so far are held in memory.
+ * </p>
+ * <p>
+ * The response is NDJSON written while the import runs: one {@code {"row", "sku", "error"}} object per
+ * rejected row, followed by a final {@code {"rows", "imported", "failed"}} summary. Rows of chunks that
+ * were committed stay imported even if a later row or chunk fails.
+ * </p>
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Service
+public class ProductImportService {
+
+    /**
+     * Supported import formats and their request content types.
+     */
+    public enum InputFormat {
+        CSV("text/csv"),
+        NDJSON("application/x-ndjson");
+
+        private final String contentType;
+
+        InputFormat(String contentType) {
+            this.contentType = contentType;
+        }
+
+        /**
+         * Retrieves the HTTP content type for this format.
+         * * @return The content type string.
+         */
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    /**
+     * Number of valid rows checked and inserted per transaction.
+     */
+    public static final int CHUNK_SIZE = 1000;
+
+    /**
+     * Maximum length of a single CSV record or NDJSON line; longer input (e.g. an unterminated quote)
+     * aborts the import instead of being buffered.
+     */
+    static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private final ProductRepo productRepo;
+    private final CategoryRepo categoryRepo;
+    private final CategoryService categoryService;
+    private final ProductMapper productMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructs the ProductImportService with the required dependencies.
+     * * @param productRepo The repository for checking SKUs and inserting products.
+     * @param categoryRepo The repository providing category references.
+     * @param categoryService The service holding the in-memory category catalog.
+     * @param productMapper The generated mapper for converting DTOs to entities.
+     * @param validator The bean validator applied to each row.
+     * @param objectMapper The Jackson mapper used to parse NDJSON rows and write the report.
+     * @param transactionManager The transaction manager used to commit each chunk separately.
+     */
+    public ProductImportService(ProductRepo productRepo,
+                                CategoryRepo categoryRepo,
+                                CategoryService categoryService,
+                                ProductMapper productMapper,
+                                Validator validator,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager) {
+        this.productRepo = productRepo;
+        this.categoryRepo = categoryRepo;
+        this.categoryService = categoryService;
+        this.productMapper = productMapper;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Imports a product catalog, writing the per-row report to the output stream as it goes.
+     * * @param format The input format ({@code CSV} or {@code NDJSON}).
+     * @param in The uploaded catalog; it is read to the end but not closed.
+     * @param out The stream the NDJSON report is written to; it is flushed but not closed.
+     * @throws IOException if reading the upload or writing the report fails.
+     */
+    public void importProducts(InputFormat format, InputStream in, OutputStream out)
+            throws IOException {
+
+        Import run = new Import(out, categoryService.getCatalog().getCategories().stream()
+                .map(CategoryDTO::getId)
+                .collect(Collectors.toSet()));
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+        try {
+            if (format == InputFormat.CSV) {
+                readCsv(reader, run);
+            } else {
+                readNdjson(reader, run);
+            }
+        } catch (RecordTooLongException e) {
+            run.reject(e.row, null, "Record exceeds " + MAX_RECORD_LENGTH + " characters; import aborted");
+        }
+        run.finish();
+    }
+
+    /**
+     * Reads a CSV catalog: a header row naming the columns, then one product per record.
+     * The columns {@code name}, {@code sku}, {@code description}, {@code unit}, {@code isHazardous},
+     * {@code expirationRequired}, {@code price} and {@code categoryId} are matched case-insensitively
+     * in any order; {@code name}, {@code sku} and {@code price} are required.
+     * * @param reader The upload.
+     * @param run The import state.
+     * @throws IOException if reading or writing fails.
+     */
+    private void readCsv(BufferedReader reader, Import run) throws IOException {
+        List<String> header = readCsvRecord(reader, 0);
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // Spreadsheet exports often start with a byte order mark
+            String name = i == 0 ? header.get(i).replace("\uFEFF", "") : header.get(i);
+            columns.put(name.trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : new String[] {"name", "sku", "price"}) {
+            if (!columns.containsKey(required.toLowerCase(Locale.ROOT))) {
+                run.reject(0, null, "Missing required column: " + required);
+                return;
+            }
+        }
+
+        int row = 0;
+        List<String> record;
+        while ((record = readCsvRecord(reader, row + 1)) != null) {
+            row++;
+            if (record.size() == 1 && record.get(0).isEmpty()) {
+                continue;
+            }
+            String sku = csvValue(record, columns, "sku");
+            ProductDTO dto = new ProductDTO();
+            try {
+                dto.setName(csvValue(record, columns, "name"));
+                dto.setSku(sku);
+                dto.setDescription(csvValue(record, columns, "description"));
+                dto.setUnit(csvValue(record, columns, "unit"));
+                dto.setIsHazardous(parseBoolean(csvValue(record, columns, "isHazardous"), "isHazardous"));
+                dto.setExpirationRequired(parseBoolean(csvValue(record, columns, "expirationRequired"), "expirationRequired"));
+                String price = csvValue(record, columns, "price");
+                dto.setPrice(price == null ? null : new BigDecimal(price));
+                String categoryId = csvValue(record, columns, "categoryId");
+                dto.setCategoryId(categoryId == null ? null : Long.valueOf(categoryId));
+            } catch (NumberFormatException e) {
+                run.reject(row, sku, "Invalid number: " + e.getMessage());
+                continue;
+            } catch (IllegalArgumentException e) {
+                run.reject(row, sku, e.getMessage());
+                continue;
+            }
+            run.accept(row, dto);
+        }
+    }
+
+    /**
+     * Reads an NDJSON catalog: one {@code ProductDTO} object per line; blank lines are skipped.
+     * * @param reader The upload.
+     * @param run The import state.
+     * @throws IOException if reading or writing fails.
+     */
+    private void readNdjson(BufferedReader reader, Import run) throws IOException {
+        int row = 0;
+        String line;
+        while ((line = readLine(reader, row + 1)) != null) {
+            row++;
+            if (line.isBlank()) {
+                continue;
+            }
+            ProductDTO dto;
+            try {
+                dto = objectMapper.readValue(line, ProductDTO.class);
+            } catch (JsonProcessingException e) {
+                run.reject(row, null, "Invalid JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            run.accept(row, dto);
+        }
+    }
+
+    /**
+     * State of one running import: the current chunk, the SKUs already seen and the counters.
+     */
+    private final class Import {
+
+        private final JsonGenerator report;
+        private final Set<Long> categoryIds;
+        private final Set<String> seenSkus = new HashSet<>();
+        private final List<Integer> chunkRows = new ArrayList<>(CHUNK_SIZE);
+        private final List<ProductDTO> chunk = new ArrayList<>(CHUNK_SIZE);
+        private int rows;
+        private int imported;
+        private int failed;
+
+        Import(OutputStream out, Set<Long> categoryIds) throws IOException {
+            this.report = objectMapper.getFactory().createGenerator(out);
+            this.report.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.categoryIds = categoryIds;
+        }
+
+        /**
+         * Validates a parsed row and adds it to the current chunk, flushing the chunk when it is full.
+         */
+        void accept(int row, ProductDTO dto) throws IOException {
+            rows++;
+            String error = validate(dto);
+            if (error == null && dto.getCategoryId() != null && !categoryIds.contains(dto.getCategoryId())) {
+                error = "Category not found with ID: " + dto.getCategoryId();
+            }
+            if (error == null && !seenSkus.add(dto.getSku())) {
+                error = "Duplicate SKU in file";
+            }
+            if (error != null) {
+                failed++;
+                writeError(row, dto.getSku(), error);
+                return;
+            }
+            chunkRows.add(row);
+            chunk.add(dto);
+            if (chunk.size() == CHUNK_SIZE) {
+                flushChunk();
+            }
+        }
+
+        /**
+         * Records a row that could not be parsed.
+         */
+        void reject(int row, String sku, String error) throws IOException {
+            rows++;
+            failed++;
+            writeError(row, sku, error);
+        }
+
+        /**
+         * Checks the chunk's SKUs against the database with one query and inserts the remaining rows
+         * in one transaction.
+         */
+        private void flushChunk() throws IOException {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            Set<String> existing = new HashSet<>(productRepo.findExistingSkus(
+                    chunk.stream().map(ProductDTO::getSku).toList()));
+
+            List<Integer> insertRows = new ArrayList<>(chunk.size());
+            List<ProductDTO> inserts = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                ProductDTO dto = chunk.get(i);
+                if (existing.contains(dto.getSku())) {
+                    failed++;
+                    writeError(chunkRows.get(i), dto.getSku(), "SKU already exists");
+                } else {
+                    insertRows.add(chunkRows.get(i));
+                    inserts.add(dto);
+                }
+            }
+            chunk.clear();
+            chunkRows.clear();
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<Product> products = new ArrayList<>(inserts.size());
+                    for (ProductDTO dto : inserts) {
+                        Product product = productMapper.toEntity(dto);
+                        if (dto.getCategoryId() != null) {
+                            product.setCategory(categoryRepo.getReferenceById(dto.getCategoryId()));
+                        }
+                        products.add(product);
+                    }
+                    productRepo.saveAll(products);
+                });
+                imported += inserts.size();
+            } catch (DataAccessException e) {
+                String error = "Chunk rejected by the database: " + e.getMostSpecificCause().getMessage();
+                for (int i = 0; i < inserts.size(); i++) {
+                    failed++;
+                    writeError(insertRows.get(i), inserts.get(i).getSku(), error);
+                }
+            }
+            report.flush();
+        }
+
+        /**
+         * Inserts the last partial chunk and writes the summary line.
+         */
+        void finish() throws IOException {
+            flushChunk();
+            report.writeStartObject();
+            report.writeNumberField("rows", rows);
+            report.writeNumberField("imported", imported);
+            report.writeNumberField("failed", failed);
+            report.writeEndObject();
+            report.writeRaw('\n');
+            report.flush();
+            report.close();
+        }
+
+        private void writeError(int row, String sku, String error) throws IOException {
+            report.writeStartObject();
+            report.writeNumberField("row", row);
+            report.writeStringField("sku", sku);
+            report.writeStringField("error", error);
+            report.writeEndObject();
+            report.writeRaw('\n');
+        }
+    }
+
+    /**
+     * Applies bean validation to a single row.
+     * * @param dto The row.
+     * @return The joined violation messages, or {@code null} if the row is valid.
+     */
+    private String validate(ProductDTO dto) {
+        Set<ConstraintViolation<ProductDTO>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Reads one RFC 4180 CSV record, handling quoted fields with embedded delimiters, quotes and line breaks.
+     * * @param reader The upload.
+     * @param row The number of the record, for error reporting.
+     * @return The fields of the record, or {@code null} at the end of the input.
+     * @throws IOException if reading fails.
+     */
+    private static List<String> readCsvRecord(Reader reader, int row) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        while (c != -1) {
+            if (++length > MAX_RECORD_LENGTH) {
+                throw new RecordTooLongException(row);
+            }
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next == -1) {
+                            break;
+                        }
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Reads one line terminated by LF, CR or CRLF, without buffering more than {@value #MAX_RECORD_LENGTH}
+     * characters of it.
+     * * @param reader The upload.
+     * @param row The number of the line, for error reporting.
+     * @return The line without its terminator, or {@code null} at the end of the input.
+     * @throws IOException if reading fails.
+     */
+    private static String readLine(Reader reader, int row) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        while (c != -1 && c != '\n') {
+            if (c == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                break;
+            }
+            if (line.length() == MAX_RECORD_LENGTH) {
+                throw new RecordTooLongException(row);
+            }
+            line.append((char) c);
+            c = reader.read();
+        }
+        return line.toString();
+    }
+
+    /**
+     * Retrieves a CSV column of a record, treating blank values and missing columns as {@code null}.
+     */
+    private static String csvValue(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name.toLowerCase(Locale.ROOT));
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Parses an optional boolean CSV value ({@code true}/{@code false}, case-insensitive).
+     */
+    private static Boolean parseBoolean(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        if (value.equalsIgnoreCase("true")) {
+            return Boolean.TRUE;
+        }
+        if (value.equalsIgnoreCase("false")) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException("Invalid boolean for " + column + ": " + value);
+    }
+
+    /**
+     * Signals a record longer than {@link #MAX_RECORD_LENGTH}, which aborts the import.
+     */
+    private static final class RecordTooLongException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int row;
+
+        RecordTooLongException(int row) {
+            super(null, null, false, false);
+            this.row = row;
+        }
+    }
+}
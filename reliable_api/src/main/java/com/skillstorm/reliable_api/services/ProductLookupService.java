@@ -0,0 +1,115 @@
+package com.skillstorm.reliable_api.services;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.skillstorm.reliable_api.dtos.ProductRefDTO;
+import com.skillstorm.reliable_api.exceptions.ResourceNotFoundException;
+import com.skillstorm.reliable_api.repositories.ProductRepo;
+
+/**
+ * Service class responsible for resolving a product's public ID to its internal primary key
+ * through a bounded in-process cache.
+ * <p>
+ * The {@code productRefs} cache is a Caffeine cache with size and TTL eviction configured in
+ * {@code application.yml}; its hit/miss statistics are published as the {@code cache.gets} metric.
+ * Only active products are cached, and every product write must call {@link #evict(String)}.
+ * </p>
+ * <p>
+ * The cache is local to each instance and evictions are not broadcast, so another instance may keep
+ * serving a product that was soft-deleted here until its entry expires. Callers that write data
+ * referencing the product must therefore re-check that it is active in the database
+ * ({@code ProductRepo.lockActiveById}); the cache only saves the public ID lookup.
+ * </p>
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Service
+public class ProductLookupService {
+
+    /**
+     * The name of the cache holding {@code publicId -> ProductRefDTO} entries.
+     */
+    public static final String CACHE_NAME = "productRefs";
+
+    private final ProductRepo productRepo;
+    private final CacheManager cacheManager;
+
+    /**
+     * Constructs the ProductLookupService with required dependencies.
+     * * @param productRepo The repository for accessing product data.
+     * @param cacheManager The cache manager owning the {@code productRefs} cache.
+     */
+    public ProductLookupService(ProductRepo productRepo, CacheManager cacheManager) {
+        this.productRepo = productRepo;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Resolves an active product's public ID to its reference. Misses load a single-column projection
+     * from the database; failed lookups are not cached. A hit may be stale on other instances.
+     * * @param publicId The public ID of the product.
+     * @return The product's reference.
+     * @throws ResourceNotFoundException if the product is not found or is soft-deleted.
+     */
+    @Cacheable(cacheNames = CACHE_NAME, key = "#publicId")
+    public ProductRefDTO resolve(String publicId) {
+        return productRepo.findRefByPublicId(publicId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Product not found with publicId: " + publicId));
+    }
+
+    /**
+     * Evicts a product's cached reference. The entry is removed immediately and, when called inside
+     * a transaction, again after commit, so a concurrent lookup cannot re-cache the pre-commit state.
+     * * @param publicId The public ID of the product that changed.
+     */
+    public void evict(String publicId) {
+        evictNowAndAfterCommit(cache -> cache.evict(publicId));
+    }
+
+    /**
+     * Evicts the cached references of several products, immediately and again after commit.
+     * * @param publicIds The public IDs of the products that changed.
+     */
+    public void evictAll(Collection<String> publicIds) {
+        evictNowAndAfterCommit(cache -> publicIds.forEach(cache::evict));
+    }
+
+    /**
+     * Clears every cached reference, immediately and again after commit. Used by set-based writes
+     * whose affected public IDs are not known up front.
+     */
+    public void clear() {
+        evictNowAndAfterCommit(Cache::clear);
+    }
+
+    /**
+     * Applies an eviction to the {@code productRefs} cache now and, when called inside a transaction,
+     * again after commit.
+     * * @param eviction The eviction to apply.
+     */
+    private void evictNowAndAfterCommit(Consumer<Cache> eviction) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        eviction.accept(cache);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.accept(cache);
+                }
+            });
+        }
+    }
+}
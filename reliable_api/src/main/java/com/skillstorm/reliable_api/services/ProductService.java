@@ -1,16 +1,22 @@
 package com.skillstorm.reliable_api.services;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.skillstorm.reliable_api.dtos.BulkUpdateResultDTO;
+import com.skillstorm.reliable_api.dtos.CursorPageDTO;
 import com.skillstorm.reliable_api.dtos.ProductDTO;
 import com.skillstorm.reliable_api.dtos.ProductPatchDTO;
+import com.skillstorm.reliable_api.dtos.ProductSearchRequestDTO;
+import com.skillstorm.reliable_api.dtos.ProductSelectionDTO;
 import com.skillstorm.reliable_api.dtos.ProductUpdateDTO;
+import com.skillstorm.reliable_api.dtos.VersionStampDTO;
 import com.skillstorm.reliable_api.exceptions.ResourceNotFoundException;
+import com.skillstorm.reliable_api.mappers.ProductMapper;
 import com.skillstorm.reliable_api.models.Category;
 import com.skillstorm.reliable_api.models.Product;
 import com.skillstorm.reliable_api.repositories.CategoryRepo;
@@ -19,6 +25,7 @@ import com.skillstorm.reliable_api.repositories.ProductRepo;
 /**
  * Service class responsible for handling business logic related to {@code Product} entities.
  * Manages CRUD operations, soft-deletion, and complex mapping between DTOs and the persistent entity model.
+ * Every write evicts the product's entry from the {@code productRefs} lookup cache.
  *
  * @author Jevaughn Stewart
  * @version 1.0
@@ -27,50 +34,40 @@ import com.skillstorm.reliable_api.repositories.ProductRepo;
 @Transactional
 public class ProductService {
 
+    /**
+     * The maximum number of matches ranked per search. It covers the deepest page a client may request
+     * ({@code MAX_OFFSET + MAX_PAGE_SIZE}) with room to spare.
+     */
+    static final int MAX_SEARCH_CANDIDATES = 2_000;
+
     private final ProductRepo productRepo;
     private final CategoryRepo categoryRepo;
-    private final ModelMapper modelMapper;
+    private final ProductMapper productMapper;
+    private final ProductLookupService productLookupService;
 
     /**
-     * Constructs the ProductService with required dependencies and configures ModelMapper for product updates.
+     * Constructs the ProductService with required dependencies.
      * * @param productRepo The repository for accessing product data.
      * @param categoryRepo The repository for accessing category data.
-     * @param modelMapper The utility for converting between DTOs and entities.
+     * @param productMapper The generated mapper for converting between DTOs and entities.
+     * @param productLookupService The cached product reference lookup, invalidated on every product write.
      */
-    public ProductService(ProductRepo productRepo, CategoryRepo categoryRepo, ModelMapper modelMapper) {
+    public ProductService(ProductRepo productRepo, CategoryRepo categoryRepo, ProductMapper productMapper,
+                          ProductLookupService productLookupService) {
         this.productRepo = productRepo;
         this.categoryRepo = categoryRepo;
-        this.modelMapper = modelMapper;
-
-        // General Configuration for ModelMapper instance
-        this.modelMapper.getConfiguration().setSkipNullEnabled(true);
-        this.modelMapper.getConfiguration().setAmbiguityIgnored(true);
-        
-        // TypeMap specific configuration for full PUT updates (ProductUpdateDTO)
-        // Ensure the internal primary key is never mapped/overwritten from the DTO.
-        this.modelMapper.createTypeMap(ProductUpdateDTO.class, Product.class)
-            .addMappings(mapper -> {
-                // EXPLICITLY SKIP mapping the identifier field (productId)
-                mapper.skip(Product::setProductId); 
-            });
+        this.productMapper = productMapper;
+        this.productLookupService = productLookupService;
     }
 
     /**
      * Converts a {@code Product} entity to a {@code ProductDTO}.
-     * Handles setting the category ID from the linked Category entity.
+     * The category ID and public ID are mapped by {@code ProductMapper}.
      * * @param entity The source {@code Product} entity.
      * @return The mapped {@code ProductDTO}.
      */
     private ProductDTO toDTO(Product entity) {
-        ProductDTO dto = modelMapper.map(entity, ProductDTO.class);
-
-        if (entity.getCategory() != null) {
-            dto.setCategoryId(entity.getCategory().getId());
-        }
-
-        // Ensure the publicId is always set for API exposure
-        dto.setPublicId(entity.getPublicId());
-        return dto;
+        return productMapper.toDTO(entity);
     }
 
     /**
@@ -84,6 +81,43 @@ public class ProductService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Retrieves the version stamp of the active product listing for conditional GET requests.
+     * * @return The latest update timestamp and count of active products.
+     */
+    @Transactional(readOnly = true)
+    public VersionStampDTO getVersionStamp() {
+        return productRepo.findVersionStamp();
+    }
+
+    /**
+     * Searches active products by name, SKU and description, most relevant first. At most {@code size + 1}
+     * rows are returned per call (the extra row only signals that another page exists) and at most
+     * {@value #MAX_SEARCH_CANDIDATES} matches are ranked besides an exact SKU match, always the same ones
+     * for the same text; pages are addressed by offset, up to
+     * {@value ProductSearchRequestDTO#MAX_OFFSET} results deep.
+     * * @param request The search text, offset and page size.
+     * @return A page of matching products and the cursor to request the next page with.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ProductDTO> searchProducts(ProductSearchRequestDTO request) {
+        String query = request.getQ().trim();
+        int size = request.getSize() != null ? request.getSize() : ProductSearchRequestDTO.DEFAULT_PAGE_SIZE;
+        int offset = request.getOffset() != null ? request.getOffset().intValue() : 0;
+
+        String skuLiteral = query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        List<Product> rows = productRepo.search(query, skuLiteral, MAX_SEARCH_CANDIDATES, offset, size + 1);
+
+        boolean hasMore = rows.size() > size && offset + size < ProductSearchRequestDTO.MAX_OFFSET;
+        List<ProductDTO> items = rows.stream()
+                .limit(size)
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+
+        Long nextCursor = hasMore ? (long) (offset + size) : null;
+        return new CursorPageDTO<>(items, nextCursor, hasMore);
+    }
+
     /**
      * Creates a new product. Links the product to an existing category based on {@code categoryId}.
      * * @param dto The {@code ProductDTO} containing the data for the new product.
@@ -93,7 +127,7 @@ public class ProductService {
     @Transactional
     public  ProductDTO createProduct(ProductDTO dto) {
 
-        Product entity = modelMapper.map(dto, Product.class);
+        Product entity = productMapper.toEntity(dto);
 
         if (dto.getCategoryId() != null) {
             Category category = categoryRepo.findById(dto.getCategoryId())
@@ -109,8 +143,7 @@ public class ProductService {
 
     /**
      * Performs a partial update (PATCH) on a product identified by its public ID.
-     * Only non-null fields in the {@code ProductPatchDTO} will update the entity 
-     * (due to {@code setSkipNullEnabled(true)} in the ModelMapper configuration).
+     * Only non-null fields in the {@code ProductPatchDTO} will update the entity.
      * * @param publicId The public ID of the product to update.
      * @param dto The {@code ProductPatchDTO} containing the fields to update.
      * @return The DTO of the partially updated product.
@@ -129,9 +162,9 @@ public class ProductService {
             product.setCategory(category);
         }
 
-        // Use configured ModelMapper for PATCH: non-null fields only
-        modelMapper.getConfiguration().setSkipNullEnabled(true);
-        modelMapper.map(dto, product);
+        // PATCH: non-null fields only
+        productMapper.patch(dto, product);
+        productLookupService.evict(publicId);
 
         Product saved = productRepo.save(product);
         return toDTO(saved);
@@ -140,7 +173,7 @@ public class ProductService {
     /**
      * Performs a full replacement update (PUT) on a product identified by its public ID.
      * All fields from the {@code ProductUpdateDTO} are mapped, overwriting existing values with 
-     * nulls if the DTO fields were null (due to {@code setSkipNullEnabled(false)} for PUT).
+     * nulls if the DTO fields were null.
      * * @param publicId The public ID of the product to update.
      * @param dto The {@code ProductUpdateDTO} containing the complete new data.
      * @return The DTO of the fully updated product.
@@ -157,14 +190,10 @@ public class ProductService {
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
         product.setCategory(category);
 
-        // Temporarily configure ModelMapper for PUT MODE (do NOT skip nulls)
-        modelMapper.getConfiguration().setSkipNullEnabled(false);
-        // Note: The TypeMap configured in the constructor prevents productId from being set.
-        modelMapper.map(dto, product);
+        // PUT: overwrite every editable field (the mapper never touches productId)
+        productMapper.update(dto, product);
+        productLookupService.evict(publicId);
 
-        // Restore default configuration for other operations (though it should be reset on the modelMapper instance)
-        modelMapper.getConfiguration().setSkipNullEnabled(true);
-        
         Product saved = productRepo.save(product);
         return toDTO(saved);
     }
@@ -181,5 +210,34 @@ public class ProductService {
 
         product.setIsDeleted(true);
         productRepo.save(product);
+        productLookupService.evict(publicId);
+    }
+
+    /**
+     * Logically deletes (soft-deletes) or restores many products at once, selected by public IDs or by
+     * category. The change is a single set-based UPDATE that also sets {@code updatedAt} and bumps the
+     * version, instead of loading and saving each product. Product lookup cache entries are evicted:
+     * the listed IDs, or the whole cache for a category.
+     * * @param selection The products to change.
+     * @param deleted {@code true} to soft-delete, {@code false} to restore.
+     * @return The number of products whose state changed.
+     * @throws ResourceNotFoundException if the selected category does not exist.
+     */
+    @Transactional
+    public BulkUpdateResultDTO setDeleted(ProductSelectionDTO selection, boolean deleted) {
+        LocalDateTime now = LocalDateTime.now();
+        int affected;
+
+        if (selection.getPublicIds() != null) {
+            affected = productRepo.updateDeletedByPublicIds(selection.getPublicIds(), deleted, now);
+            productLookupService.evictAll(selection.getPublicIds());
+        } else {
+            if (!categoryRepo.existsById(selection.getCategoryId())) {
+                throw new ResourceNotFoundException("Category not found with ID: " + selection.getCategoryId());
+            }
+            affected = productRepo.updateDeletedByCategoryId(selection.getCategoryId(), deleted, now);
+            productLookupService.clear();
+        }
+        return new BulkUpdateResultDTO(affected);
     }
 }
\ No newline at end of file
@@ -0,0 +1,310 @@
+package com.skillstorm.reliable_api.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.skillstorm.reliable_api.dtos.InventoryTransferDTO;
+import com.skillstorm.reliable_api.dtos.TransferJobDTO;
+import com.skillstorm.reliable_api.exceptions.ResourceNotFoundException;
+import com.skillstorm.reliable_api.mappers.TransferJobMapper;
+import com.skillstorm.reliable_api.models.TransferJob;
+import com.skillstorm.reliable_api.models.TransferJobStatus;
+import com.skillstorm.reliable_api.repositories.TransferJobRepo;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Service class responsible for asynchronous inventory transfers.
+ * <p>
+ * Accepted transfers are stored as {@code QUEUED} rows of the {@code transfer_jobs} table, so they
+ * survive a restart, and the HTTP request returns immediately. A scheduled dispatcher claims queued
+ * jobs in ID order and hands them to a pool of worker threads, claiming no more jobs than it has idle
+ * workers. All operations on the same warehouse are serialized: a job is only started while no running
+ * job of any instance is using its source or its destination warehouse, and a job that has to wait also
+ * holds back every later job touching either of its warehouses, so each warehouse sees its transfers in
+ * the order they were accepted. Transfers that share no warehouse run in parallel.
+ * </p>
+ * <p>
+ * Several instances can share the queue. Claims are serialized by a transaction-level advisory lock, so
+ * each claim sees the jobs every other instance has claimed before it and each job is claimed once;
+ * claimed jobs are stamped with the claiming instance's node ID, and only that node records their
+ * outcome. A transfer that finds a warehouse locked by another writer (after the retries of
+ * {@link WarehouseInventoryService#transferInventory}) is put back in the queue at its original position
+ * rather than failed.
+ * </p>
+ * <p>
+ * Jobs are processed at most once: a job that was running when its instance stopped is marked
+ * {@code FAILED} instead of being repeated, because its transfer may already have been committed. At
+ * startup an instance closes its own interrupted jobs (so {@code transfer-queue.node-id} must be stable
+ * across restarts of the same instance), and every claim first closes jobs of any instance that have
+ * been running longer than {@code transfer-queue.stale-after}, whose instance is gone; an instance that
+ * finishes such a job late leaves it {@code FAILED}. The queue publishes the {@code transfer.queue.depth} (queued jobs),
+ * {@code transfer.queue.lag} (age of the oldest queued job) and {@code transfer.queue.in_flight} gauges.
+ * </p>
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@Service
+public class TransferQueueService {
+
+    /**
+     * Maximum length of the failure reason stored on a job (the {@code error} column length).
+     */
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    /**
+     * Key of the advisory lock that serializes claims across instances.
+     */
+    static final long CLAIM_LOCK_KEY = 0x5452414E_53464552L;
+
+    private final TransferJobRepo jobRepo;
+    private final TransferJobMapper jobMapper;
+    private final WarehouseInventoryService inventoryService;
+    private final TransactionTemplate claimTx;
+    private final ExecutorService workers;
+    private final int workerCount;
+    private final int claimWindow;
+    private final String nodeId;
+    private final Duration staleAfter;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    /**
+     * Set once interrupted jobs have been closed; the dispatcher does not claim jobs before that.
+     */
+    private volatile boolean recovered;
+
+    /**
+     * Constructs the TransferQueueService, starting the worker pool and registering the queue gauges.
+     * * @param jobRepo The repository for the queued jobs.
+     * @param jobMapper The mapper between jobs, transfer requests and DTOs.
+     * @param inventoryService The service applying the transfers.
+     * @param transactionManager The transaction manager for the claim transactions.
+     * @param meterRegistry The registry the gauges are published to.
+     * @param workerCount The number of worker threads, which is also the maximum number of jobs claimed
+     *                    by this instance and not yet finished.
+     * @param claimWindow The number of oldest queued jobs each claim looks at.
+     * @param nodeId The ID of this instance, stable across its restarts.
+     * @param staleAfter How long a job may run before any instance treats its owner as gone.
+     */
+    public TransferQueueService(TransferJobRepo jobRepo,
+                                TransferJobMapper jobMapper,
+                                WarehouseInventoryService inventoryService,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${transfer-queue.workers:8}") int workerCount,
+                                @Value("${transfer-queue.claim-window:500}") int claimWindow,
+                                @Value("${transfer-queue.node-id:${HOSTNAME:local}}") String nodeId,
+                                @Value("${transfer-queue.stale-after:15m}") Duration staleAfter) {
+        this.jobRepo = jobRepo;
+        this.jobMapper = jobMapper;
+        this.inventoryService = inventoryService;
+        this.claimTx = new TransactionTemplate(transactionManager);
+        this.workerCount = workerCount;
+        this.claimWindow = claimWindow;
+        this.nodeId = nodeId;
+        this.staleAfter = staleAfter;
+
+        AtomicInteger threadIds = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount,
+                task -> new Thread(task, "transfer-worker-" + threadIds.getAndIncrement()));
+
+        Gauge.builder("transfer.queue.depth", depth, AtomicLong::get)
+                .description("Transfer jobs waiting to be processed")
+                .register(meterRegistry);
+        Gauge.builder("transfer.queue.lag", lagMillis, millis -> millis.get() / 1000.0)
+                .description("Age of the oldest queued transfer job")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("transfer.queue.in_flight", inFlight, AtomicInteger::get)
+                .description("Transfer jobs claimed by this instance and not yet finished")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Accepts a transfer for asynchronous processing.
+     * * @param dto The transfer request DTO.
+     * @return The queued job, including its position in the queue.
+     * @throws IllegalArgumentException if source and destination are the same.
+     */
+    @Transactional
+    public TransferJobDTO enqueue(InventoryTransferDTO dto) {
+        if (dto.getSourceWarehouseId().equals(dto.getDestinationWarehouseId())) {
+            throw new IllegalArgumentException("Source and destination warehouses cannot be the same");
+        }
+        TransferJob job = jobRepo.save(jobMapper.toEntity(dto));
+        return toDTO(job);
+    }
+
+    /**
+     * Retrieves the state of a transfer job.
+     * * @param jobId The ID of the job.
+     * @return The job, including its position in the queue while it is still queued.
+     * @throws ResourceNotFoundException if the job is not found.
+     */
+    @Transactional(readOnly = true)
+    public TransferJobDTO getJob(Long jobId) {
+        TransferJob job = jobRepo.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Transfer job not found with ID: " + jobId));
+        return toDTO(job);
+    }
+
+    /**
+     * Closes jobs that were running when this instance last stopped, and jobs whose instance is gone.
+     * Their transfers may or may not have been committed, so they are failed rather than repeated.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        jobRepo.failInterrupted(TransferJobStatus.RUNNING, TransferJobStatus.FAILED,
+                "Interrupted by an application restart; check the transfer history before resubmitting",
+                nodeId, now.minus(staleAfter), now);
+        recovered = true;
+    }
+
+    /**
+     * Refreshes the queue gauges and starts the oldest queued jobs whose warehouses are free, one per idle
+     * worker, so a claimed job starts right away. Runs on a fixed delay, so polls never overlap and jobs
+     * are claimed in ID order.
+     */
+    @Scheduled(fixedDelayString = "${transfer-queue.poll-interval-ms:500}")
+    public void dispatch() {
+        if (!recovered) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        depth.set(jobRepo.countByStatus(TransferJobStatus.QUEUED));
+        LocalDateTime oldest = jobRepo.findOldestCreatedAt(TransferJobStatus.QUEUED);
+        lagMillis.set(oldest == null ? 0L : Math.max(0L, Duration.between(oldest, now).toMillis()));
+
+        int capacity = workerCount - inFlight.get();
+        if (depth.get() == 0 || capacity <= 0) {
+            return;
+        }
+
+        List<TransferJob> claimed = claimTx.execute(status -> claim(capacity, now));
+        for (TransferJob job : claimed) {
+            inFlight.incrementAndGet();
+            workers.execute(() -> run(job));
+        }
+    }
+
+    /**
+     * Claims the oldest queued jobs whose warehouses are free, in ID order. The warehouses of every running
+     * job, on any instance, start out blocked, and a job that cannot start blocks its warehouses for the
+     * rest of the pass, so later jobs on the same warehouses never overtake it. Returns nothing if another
+     * instance is claiming at the same time; the next poll tries again. Runs inside the claim transaction;
+     * the claimed rows are written, and the claim lock released, at commit.
+     * * @param limit The maximum number of jobs to claim.
+     * @param now The timestamp to record as {@code startedAt}.
+     * @return The claimed jobs.
+     */
+    private List<TransferJob> claim(int limit, LocalDateTime now) {
+        if (!jobRepo.tryLockClaims(CLAIM_LOCK_KEY)) {
+            return List.of();
+        }
+        jobRepo.failStale(TransferJobStatus.RUNNING, TransferJobStatus.FAILED,
+                "Not finished within " + staleAfter + "; check the transfer history before resubmitting",
+                now.minus(staleAfter), now);
+
+        Set<Long> blocked = new HashSet<>();
+        for (TransferJob running : jobRepo.findByStatus(TransferJobStatus.RUNNING)) {
+            blocked.add(running.getSourceWarehouseId());
+            blocked.add(running.getDestinationWarehouseId());
+        }
+        List<TransferJob> claimed = new ArrayList<>();
+        for (TransferJob job : jobRepo.findByStatusOrderByIdAsc(TransferJobStatus.QUEUED, Limit.of(claimWindow))) {
+            if (claimed.size() == limit) {
+                break;
+            }
+            Long source = job.getSourceWarehouseId();
+            Long destination = job.getDestinationWarehouseId();
+            boolean free = !blocked.contains(source) && !blocked.contains(destination);
+            blocked.add(source);
+            blocked.add(destination);
+            if (free) {
+                job.setStatus(TransferJobStatus.RUNNING);
+                job.setStartedAt(now);
+                job.setOwner(nodeId);
+                claimed.add(job);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Applies one job's transfer on a worker thread and records the outcome. A job whose warehouses stayed
+     * locked by another instance goes back to the queue instead of failing.
+     * * @param job The claimed job.
+     */
+    private void run(TransferJob job) {
+        try {
+            inventoryService.transferInventory(jobMapper.toTransferDTO(job));
+            jobRepo.complete(job.getId(), TransferJobStatus.RUNNING, nodeId,
+                    TransferJobStatus.SUCCEEDED, null, LocalDateTime.now());
+        } catch (PessimisticLockingFailureException e) {
+            jobRepo.requeue(job.getId(), TransferJobStatus.QUEUED, TransferJobStatus.RUNNING, nodeId);
+        } catch (RuntimeException e) {
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            if (error.length() > MAX_ERROR_LENGTH) {
+                error = error.substring(0, MAX_ERROR_LENGTH);
+            }
+            jobRepo.complete(job.getId(), TransferJobStatus.RUNNING, nodeId,
+                    TransferJobStatus.FAILED, error, LocalDateTime.now());
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Stops the worker pool, letting jobs that were already handed to it finish.
+     * Jobs that do not finish in time are failed at the next startup.
+     */
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+        try {
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Maps a job to its DTO, adding the number of queued jobs ahead of it while it is queued.
+     * * @param job The job.
+     * @return The job DTO.
+     */
+    private TransferJobDTO toDTO(TransferJob job) {
+        TransferJobDTO dto = jobMapper.toDTO(job);
+        if (job.getStatus() == TransferJobStatus.QUEUED) {
+            dto.setJobsAhead(jobRepo.countByStatusAndIdLessThan(TransferJobStatus.QUEUED, job.getId()));
+        }
+        return dto;
+    }
+}
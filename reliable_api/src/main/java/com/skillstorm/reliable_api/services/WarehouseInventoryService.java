@@ -1,19 +1,27 @@
 package com.skillstorm.reliable_api.services;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
+import com.skillstorm.reliable_api.dtos.CursorPageDTO;
+import com.skillstorm.reliable_api.dtos.InventoryPageRequestDTO;
 import com.skillstorm.reliable_api.dtos.InventoryTransferDTO;
-import com.skillstorm.reliable_api.dtos.ProductDTO;
+import com.skillstorm.reliable_api.dtos.VersionStampDTO;
 import com.skillstorm.reliable_api.dtos.WarehouseInventoryByWarehouseDTO;
 import com.skillstorm.reliable_api.dtos.WarehouseInventoryCreateDTO;
 import com.skillstorm.reliable_api.dtos.WarehouseInventoryDTO;
 import com.skillstorm.reliable_api.exceptions.ResourceNotFoundException;
+import com.skillstorm.reliable_api.mappers.WarehouseInventoryMapper;
 import com.skillstorm.reliable_api.models.InventoryTransfer;
 import com.skillstorm.reliable_api.models.Product;
 import com.skillstorm.reliable_api.models.Warehouse;
@@ -29,7 +37,20 @@ import jakarta.transaction.Transactional;
  * Service class responsible for managing inventory levels, transfers, and capacity 
  * checks within warehouses.
  * <p>
- * Implements the core business rule: A product can only be stocked in one warehouse at a time.
+ * Implements the core business rule: A warehouse holds at most one inventory record per product.
+ * A product's stock may be spread over several warehouses (stocked into each, or split by a partial
+ * transfer); new stock is only rejected for a warehouse that already holds the product.
+ * </p>
+ * <p>
+ * Write operations use optimistic locking ({@code @Version}) and are retried on conflict, up to
+ * {@value #MAX_ATTEMPTS} attempts with jittered exponential backoff. Each attempt runs in its own
+ * transaction because the retry advice wraps the transactional one. Conflicts, retries and exhausted
+ * operations are counted by {@code RetryMetricsListener}.
+ * </p>
+ * <p>
+ * Transfers additionally lock both warehouse rows up front, always in ascending ID order and without
+ * waiting, so opposite transfers between the same pair cannot deadlock or interleave their capacity
+ * updates. A transfer that finds a warehouse locked backs off and retries like an optimistic conflict.
  * </p>
  *
  * @author Jevaughn Stewart
@@ -39,11 +60,17 @@ import jakarta.transaction.Transactional;
 @Transactional
 public class WarehouseInventoryService {
 
+    /**
+     * Maximum number of attempts (including the first) for a write that hits an optimistic locking conflict.
+     */
+    static final int MAX_ATTEMPTS = 4;
+
     private final WarehouseRepo warehouseRepo;
     private final ProductRepo productRepo;
     private final WarehouseInventoryRepo warehouseInventoryRepo;
     private final InventoryTransferRepo inventoryTransferRepo;
-    private final ModelMapper modelMapper;
+    private final WarehouseInventoryMapper inventoryMapper;
+    private final ProductLookupService productLookupService;
 
     /**
      * Constructs the WarehouseInventoryService with all necessary repository and mapper dependencies.
@@ -53,54 +80,51 @@ public class WarehouseInventoryService {
             WarehouseRepo warehouseRepo,
             ProductRepo productRepo,
             InventoryTransferRepo inventoryTransferRepo,
-            ModelMapper modelMapper) {
+            WarehouseInventoryMapper inventoryMapper,
+            ProductLookupService productLookupService) {
 
         this.warehouseInventoryRepo = warehouseInventoryRepo;
         this.warehouseRepo = warehouseRepo;
         this.productRepo = productRepo;
         this.inventoryTransferRepo = inventoryTransferRepo;
-        this.modelMapper = modelMapper;
+        this.inventoryMapper = inventoryMapper;
+        this.productLookupService = productLookupService;
     }
 
     /**
      * Adds a new product inventory record to a specified warehouse.
-     * Enforces the business rule that a product can only be assigned to one warehouse globally.
-     * Updates the warehouse's {@code currentCapacity}.
+     * Enforces the business rule that a warehouse holds at most one inventory record per product.
+     * Reserves the quantity against the warehouse's {@code currentCapacity} with an atomic conditional update.
      *
      * @param warehouseId The ID of the target warehouse.
      * @param dto The creation DTO containing product public ID and initial quantity/details.
      * @return The created inventory record as a DTO.
      * @throws ResourceNotFoundException if the warehouse or product is not found.
-     * @throws IllegalStateException if the product is already in another warehouse or capacity is exceeded.
+     * @throws IllegalStateException if the product is already in this warehouse or capacity is exceeded.
      */
+    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttempts = MAX_ATTEMPTS,
+               backoff = @Backoff(delay = 25, multiplier = 2, maxDelay = 200, random = true),
+               listeners = "retryMetricsListener", label = "addProductToWarehouse")
     public WarehouseInventoryDTO addProductToWarehouse(Long warehouseId, WarehouseInventoryCreateDTO dto) {
 
         Warehouse warehouse = fetchWarehouse(warehouseId);
         Product product = fetchProduct(dto.getProductPublicId());
 
-        // GLOBAL BUSINESS RULE: A product can only exist in ONE warehouse total.
-        warehouseInventoryRepo.findByProduct_ProductId(product.getProductId())
+        // BUSINESS RULE: One inventory record per product in a warehouse; existing stock is updated, not re-added.
+        warehouseInventoryRepo.findByWarehouseAndProduct(warehouse, product)
                 .ifPresent(existing -> {
                     throw new IllegalStateException(
-                        "Product is already assigned to warehouse with ID: " +
-                        existing.getWarehouse().getWarehouseId()
+                        "Product is already stocked in warehouse with ID: " + warehouseId
                     );
                 });
 
-        // Capacity check for incoming quantity
-        checkWarehouseCapacity(warehouse, dto.getQuantity());
-
-        // Update current capacity of warehouse
-        warehouse.setCurrentCapacity(warehouse.getCurrentCapacity() + dto.getQuantity());
-        warehouseRepo.save(warehouse);
+        // Capacity check and increment in one statement; rejected if it would exceed max capacity
+        reserveCapacity(warehouse, dto.getQuantity());
 
         // Create new inventory record
-        WarehouseInventory inventory = new WarehouseInventory();
+        WarehouseInventory inventory = inventoryMapper.toEntity(dto);
         inventory.setWarehouse(warehouse);
         inventory.setProduct(product);
-        inventory.setQuantity(dto.getQuantity());
-        inventory.setStorageLocation(dto.getStorageLocation());
-        inventory.setExpirationDate(dto.getExpirationDate());
 
         WarehouseInventory savedInventory = warehouseInventoryRepo.save(inventory);
 
@@ -110,13 +134,16 @@ public class WarehouseInventoryService {
     /**
      * Deletes a product's entire inventory record from a specific warehouse.
      * This method is used when the product is entirely removed from the warehouse (quantity goes to zero).
-     * Updates the warehouse's {@code currentCapacity}.
+     * Releases the quantity from the warehouse's {@code currentCapacity} with an atomic conditional update.
      *
      * @param warehouseId The ID of the warehouse.
      * @param productPublicId The public ID of the product to remove.
      * @throws ResourceNotFoundException if the warehouse, product, or inventory record is not found.
      * @throws IllegalStateException if the capacity calculation results in a negative value (data inconsistency).
      */
+    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttempts = MAX_ATTEMPTS,
+               backoff = @Backoff(delay = 25, multiplier = 2, maxDelay = 200, random = true),
+               listeners = "retryMetricsListener", label = "deleteInventoryFromWarehouse")
     @Transactional
     public void deleteInventoryFromWarehouse(Long warehouseId, String productPublicId) {
 
@@ -132,20 +159,14 @@ public class WarehouseInventoryService {
         int quantity = inventory.getQuantity();
 
         // Adjust capacity
-        int newCapacity = warehouse.getCurrentCapacity() - quantity;
-        if (newCapacity < 0) {
+        if (warehouseRepo.releaseCapacity(warehouseId, quantity, LocalDateTime.now()) == 0) {
             throw new IllegalStateException(
                     "Warehouse capacity would become negative; inconsistent data"
             );
         }
 
-        warehouse.setCurrentCapacity(newCapacity);
-
         // Remove inventory row entirely
         warehouseInventoryRepo.delete(inventory);
-
-        // Save updated warehouse
-        warehouseRepo.save(warehouse);
     }
 
     /**
@@ -177,78 +198,113 @@ public class WarehouseInventoryService {
     }
 
     /**
-     * Retrieves all inventory records across all warehouses, with eager fetching of warehouse and product data.
+     * Retrieves one keyset-paginated page of inventory records across all warehouses.
+     * At most {@code size + 1} rows are read per call (the extra row only signals that another page exists),
+     * so memory per request stays bounded regardless of the table size.
      *
-     * @return A flat list of all inventory records as DTOs.
+     * @param request The page cursor, page size and optional warehouse, category and expiration filters.
+     * @return A page of inventory records and the cursor to request the next page with.
      */
     @Transactional(Transactional.TxType.SUPPORTS)
-    public List<WarehouseInventoryDTO> getAllWarehousesInventory() {
+    public CursorPageDTO<WarehouseInventoryDTO> getInventoryPage(InventoryPageRequestDTO request) {
 
-        List<WarehouseInventory> inventories =
-                warehouseInventoryRepo.findAllWithWarehouseAndProduct();
+        int size = request.getSize() != null ? request.getSize() : InventoryPageRequestDTO.DEFAULT_PAGE_SIZE;
+        long after = request.getAfter() != null ? request.getAfter() : 0L;
+
+        List<WarehouseInventory> rows = warehouseInventoryRepo.findPageAfter(
+                after,
+                request.getWarehouseId(),
+                request.getCategoryId(),
+                request.getExpiresFrom(),
+                request.getExpiresTo(),
+                Limit.of(size + 1));
 
-        return inventories.stream()
+        boolean hasMore = rows.size() > size;
+        List<WarehouseInventory> page = hasMore ? rows.subList(0, size) : rows;
+
+        List<WarehouseInventoryDTO> items = page.stream()
                 .map(this::toDTO)
                 .collect(Collectors.toList());
+
+        Long nextCursor = hasMore ? page.get(page.size() - 1).getId() : null;
+        return new CursorPageDTO<>(items, nextCursor, hasMore);
     }
 
     /**
-     * Performs a full inventory transfer for a product from a source to a destination warehouse.
-     * The entire quantity of the product is moved, and a new {@code InventoryTransfer} log is created.
+     * Retrieves the version stamp of inventory listings for conditional GET requests.
+     * The stamp covers the warehouses (whose name and location appear in per-warehouse responses),
+     * the inventory records and their products.
+     * * @param warehouseId Optional warehouse ID to restrict the inventory part of the stamp; {@code null} for all.
+     * @return The combined latest update timestamp and row count.
+     */
+    public VersionStampDTO getVersionStamp(Long warehouseId) {
+        return warehouseRepo.findVersionStamp().combine(warehouseInventoryRepo.findVersionStamp(warehouseId));
+    }
+
+    /**
+     * Transfers inventory of a product from a source to a destination warehouse and creates a new
+     * {@code InventoryTransfer} log. The requested quantity is moved, or the entire quantity if none is given.
+     * <p>
+     * Existing rows are updated in place rather than deleted and re-inserted: a full move re-points the
+     * source row to the destination (a single UPDATE of {@code warehouse_id}), and a partial move lowers
+     * the source quantity. Units arriving at a warehouse that already stocks the product are added to
+     * that row; only a partial move to a warehouse without the product inserts a new row.
+     * </p>
      *
      * @param dto The transfer request DTO.
      * @throws IllegalArgumentException if source and destination are the same.
      * @throws ResourceNotFoundException if any warehouse or product is not found.
-     * @throws IllegalStateException if the product is not in the source warehouse, quantity is zero, or destination capacity is exceeded.
+     * @throws IllegalStateException if the product is not in the source warehouse, the requested quantity is not available, destination capacity is exceeded, or the source or destination stock is quarantined.
+     * @throws PessimisticLockingFailureException if a warehouse stayed locked by other transfers on every attempt.
      */
+    @Retryable(retryFor = {OptimisticLockingFailureException.class, PessimisticLockingFailureException.class},
+               maxAttempts = MAX_ATTEMPTS,
+               backoff = @Backoff(delay = 25, multiplier = 2, maxDelay = 200, random = true),
+               listeners = "retryMetricsListener", label = "transferInventory")
     public void transferInventory(InventoryTransferDTO dto) {
 
-        Product product = fetchProduct(dto.getProductPublicId());
-        Warehouse source = fetchWarehouse(dto.getSourceWarehouseId());
-        Warehouse destination = fetchWarehouse(dto.getDestinationWarehouseId());
-
-        if (source.getWarehouseId().equals(destination.getWarehouseId())) {
+        if (dto.getSourceWarehouseId().equals(dto.getDestinationWarehouseId())) {
             throw new IllegalArgumentException("Source and destination warehouses cannot be the same");
         }
 
+        Map<Long, Warehouse> locked = lockWarehouses(warehouseRepo, dto.getSourceWarehouseId(), dto.getDestinationWarehouseId());
+        Warehouse source = locked.get(dto.getSourceWarehouseId());
+        Warehouse destination = locked.get(dto.getDestinationWarehouseId());
+        Product product = fetchProduct(dto.getProductPublicId());
+
         // Inventory in source
         WarehouseInventory sourceInventory =
                 warehouseInventoryRepo.findByWarehouseAndProduct(source, product)
                         .orElseThrow(() -> new IllegalStateException(
                                 "Product not found in source warehouse"));
+        if (sourceInventory.getQuarantinedAt() != null) {
+            throw new IllegalStateException("Quarantined stock cannot be transferred");
+        }
 
-        Integer quantityToTransfer = sourceInventory.getQuantity();
-        if (quantityToTransfer == null || quantityToTransfer <= 0) {
+        Integer available = sourceInventory.getQuantity();
+        if (available == null || available <= 0) {
             throw new IllegalStateException("No quantity available to transfer");
         }
+        int quantityToTransfer = dto.getQuantity() != null ? dto.getQuantity() : available;
+        if (quantityToTransfer > available) {
+            throw new IllegalStateException(
+                    "Requested quantity exceeds available quantity. Available: " + available +
+                    ", Requested: " + quantityToTransfer);
+        }
 
-        // Check destination capacity
-        checkWarehouseCapacity(destination, quantityToTransfer);
+        WarehouseInventory destInventory =
+                warehouseInventoryRepo.findByWarehouseAndProduct(destination, product).orElse(null);
+        if (destInventory != null && destInventory.getQuarantinedAt() != null) {
+            throw new IllegalStateException("Destination stock of the product is quarantined");
+        }
 
-        // Adjust capacities
-        int newSourceCapacity = source.getCurrentCapacity() - quantityToTransfer;
-        if (newSourceCapacity < 0) {
+        // Reserve destination capacity, then release it from the source, each as one conditional update
+        reserveCapacity(destination, quantityToTransfer);
+        if (warehouseRepo.releaseCapacity(source.getWarehouseId(), quantityToTransfer, LocalDateTime.now()) == 0) {
             throw new IllegalStateException("Source warehouse capacity would become negative");
         }
 
-        source.setCurrentCapacity(newSourceCapacity);
-        destination.setCurrentCapacity(destination.getCurrentCapacity() + quantityToTransfer);
-
-        // Remove inventory row from source (since product can't exist in multiple warehouses)
-        warehouseInventoryRepo.delete(sourceInventory);
-
-        // Create new inventory row for destination
-        WarehouseInventory destInventory = new WarehouseInventory();
-        destInventory.setWarehouse(destination);
-        destInventory.setProduct(product);
-        destInventory.setQuantity(quantityToTransfer);
-        // carry over optional fields; or you could let DTO define dest location later
-        destInventory.setExpirationDate(sourceInventory.getExpirationDate());
-        destInventory.setStorageLocation(sourceInventory.getStorageLocation());
-
-        warehouseRepo.save(source);
-        warehouseRepo.save(destination);
-        warehouseInventoryRepo.save(destInventory);
+        moveQuantity(sourceInventory, destInventory, destination, quantityToTransfer, warehouseInventoryRepo);
 
         // Log transfer
         InventoryTransfer transfer = new InventoryTransfer();
@@ -261,6 +317,65 @@ public class WarehouseInventoryService {
         inventoryTransferRepo.save(transfer);
     }
 
+    /**
+     * Locks the source and destination warehouses of a transfer in ascending ID order, failing fast if
+     * either is already locked by another transaction. Shared by every transfer path so that all of them
+     * acquire warehouse locks in the same order.
+     * * @param warehouseRepo The warehouse repository.
+     * @param sourceId The ID of the source warehouse.
+     * @param destinationId The ID of the destination warehouse.
+     * @return The locked warehouses keyed by ID.
+     * @throws ResourceNotFoundException if either warehouse is not found.
+     * @throws PessimisticLockingFailureException if either warehouse is locked by another transaction.
+     */
+    static Map<Long, Warehouse> lockWarehouses(WarehouseRepo warehouseRepo, Long sourceId, Long destinationId) {
+        Map<Long, Warehouse> locked = warehouseRepo.lockAllInIdOrder(List.of(sourceId, destinationId)).stream()
+                .collect(Collectors.toMap(Warehouse::getWarehouseId, Function.identity()));
+        for (Long id : List.of(sourceId, destinationId)) {
+            if (!locked.containsKey(id)) {
+                throw new ResourceNotFoundException("Warehouse not found with ID: " + id);
+            }
+        }
+        return locked;
+    }
+
+    /**
+     * Moves a quantity from a source inventory row to a destination warehouse with the fewest row writes.
+     * A full move re-points the source row when the destination has no row for the product, or merges it
+     * into the destination row otherwise. A partial move lowers the source quantity and raises the
+     * destination row's quantity, inserting that row (with the source's expiration date and storage
+     * location) only if it does not exist yet. Capacity must already have been adjusted by the caller.
+     * * @param source The source inventory row.
+     * @param target The destination inventory row for the same product, or {@code null} if there is none.
+     * @param destination The destination warehouse.
+     * @param quantity The number of units to move; at most the source quantity.
+     * @param inventoryRepo The repository used to insert or delete rows when an in-place update is not possible.
+     */
+    static void moveQuantity(WarehouseInventory source, WarehouseInventory target, Warehouse destination,
+                             int quantity, WarehouseInventoryRepo inventoryRepo) {
+        boolean fullMove = quantity == source.getQuantity();
+
+        if (target == null && fullMove) {
+            // Single UPDATE of warehouse_id on the existing row
+            source.setWarehouse(destination);
+            return;
+        }
+
+        if (fullMove) {
+            inventoryRepo.delete(source);
+        } else {
+            source.setQuantity(source.getQuantity() - quantity);
+        }
+
+        if (target != null) {
+            target.setQuantity(target.getQuantity() + quantity);
+        } else {
+            WarehouseInventory created = new WarehouseInventory(destination, source.getProduct(), quantity,
+                    source.getExpirationDate(), source.getStorageLocation());
+            inventoryRepo.save(created);
+        }
+    }
+
     /**
      * Helper method to retrieve a {@code Warehouse} entity by ID, throwing a {@code ResourceNotFoundException} if not found.
      * * @param id The ID of the warehouse.
@@ -274,65 +389,40 @@ public class WarehouseInventoryService {
     }
 
     /**
-     * Helper method to retrieve an active {@code Product} entity by its public ID, throwing a {@code ResourceNotFoundException} if not found or deleted.
+     * Helper method to retrieve an active {@code Product} by its public ID, throwing a {@code ResourceNotFoundException} if not found or deleted.
+     * The public ID is resolved through the {@code productRefs} cache, which is per instance and may miss a
+     * soft-delete made elsewhere, so the product is re-checked by primary key and share-locked until the
+     * write commits. A lazy reference is returned, so product fields are only loaded if actually read.
      * * @param publicId The public ID of the product.
-     * @return The found active {@code Product} entity.
+     * @return A reference to the active {@code Product} entity.
      * @throws ResourceNotFoundException if the product is not found or is soft-deleted.
      */
     private Product fetchProduct(String publicId) {
-        return productRepo.findByPublicIdAndIsDeletedFalse(publicId)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Product not found with publicId: " + publicId));
+        Long productId = productLookupService.resolve(publicId).getProductId();
+        if (productRepo.lockActiveById(productId).isEmpty()) {
+            productLookupService.evict(publicId);
+            throw new ResourceNotFoundException("Product not found with publicId: " + publicId);
+        }
+        return productRepo.getReferenceById(productId);
     }
 
     /**
-     * Helper method to check if adding a specified quantity would exceed the warehouse's maximum capacity.
+     * Helper method to reserve a quantity against a warehouse's capacity. The check and the increment are
+     * a single conditional UPDATE, so concurrent reservations cannot interleave; the request is rejected
+     * when that update touches no row. The managed {@code Warehouse} entity is not modified, so flushing
+     * it cannot overwrite the new {@code current_capacity}.
      * * @param warehouse The warehouse entity.
      * @param additionalQuantity The quantity to be added.
      * @throws IllegalStateException if capacity would be exceeded.
      */
-    private void checkWarehouseCapacity(Warehouse warehouse, int additionalQuantity) {
-        int newCapacity = warehouse.getCurrentCapacity() + additionalQuantity;
-        if (newCapacity > warehouse.getMaxCapacity()) {
+    private void reserveCapacity(Warehouse warehouse, int additionalQuantity) {
+        if (warehouseRepo.reserveCapacity(warehouse.getWarehouseId(), additionalQuantity, LocalDateTime.now()) == 0) {
             throw new IllegalStateException(
                     "Warehouse capacity exceeded. Max: " + warehouse.getMaxCapacity() +
-                    ", Requested New Capacity: " + newCapacity);
+                    ", Requested Additional Quantity: " + additionalQuantity);
         }
     }
 
-    /**
-     * Retrieves inventory items that are nearing their expiration date.
-     * The expiration range is from today up to, but not including, {@code today + days}.
-     *
-     * @param days The number of days out to check for expiration.
-     * @return A list of {@code WarehouseInventoryDTO}s for items nearing expiration.
-     */
-    public List<WarehouseInventoryDTO> getNearingExpirationAlerts(int days) {
-        LocalDate today = LocalDate.now();
-        LocalDate expirationThreshold = today.plusDays(days);
-        
-        List<WarehouseInventory> expiringItems = 
-            warehouseInventoryRepo.findByExpirationDateBetween(today, expirationThreshold);
-
-        // Convert entities to DTOs for safe transfer to the controller/frontend
-        return expiringItems.stream()
-            .map(item -> modelMapper.map(item, WarehouseInventoryDTO.class))
-            .collect(Collectors.toList());
-    }
-    
-    /**
-     * Retrieves inventory items that have already expired (expiration date is before today).
-     * * @return A list of {@code WarehouseInventoryDTO}s for expired items.
-     */
-    public List<WarehouseInventoryDTO> getExpiredInventory() {
-        List<WarehouseInventory> expiredItems = 
-            warehouseInventoryRepo.findByExpirationDateBefore(LocalDate.now());
-
-        return expiredItems.stream()
-            .map(this::toDTO)
-            .collect(Collectors.toList());
-    }
-
     /**
      * Private helper method to map a {@code WarehouseInventory} entity to a {@code WarehouseInventoryDTO}.
      * Includes mapping the nested {@code Product} entity to a {@code ProductDTO}.
@@ -340,15 +430,6 @@ public class WarehouseInventoryService {
      * @return The mapped {@code WarehouseInventoryDTO}.
      */
     private WarehouseInventoryDTO toDTO(WarehouseInventory inventory) {
-        WarehouseInventoryDTO dto = new WarehouseInventoryDTO();
-        dto.setProductPublicId(inventory.getProduct().getPublicId());
-        dto.setQuantity(inventory.getQuantity());
-        dto.setStorageLocation(inventory.getStorageLocation());
-        dto.setExpirationDate(inventory.getExpirationDate());
-
-        ProductDTO productDTO = modelMapper.map(inventory.getProduct(), ProductDTO.class);
-        dto.setProduct(productDTO);
-
-        return dto;
+        return inventoryMapper.toDTO(inventory);
     }
 }
\ No newline at end of file
@@ -3,13 +3,16 @@ package com.skillstorm.reliable_api.services;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
+import com.skillstorm.reliable_api.dtos.VersionStampDTO;
 import com.skillstorm.reliable_api.dtos.WarehouseDTO;
 import com.skillstorm.reliable_api.dtos.WarehousePatchDTO;
+import com.skillstorm.reliable_api.dtos.WarehouseSummaryDTO;
 import com.skillstorm.reliable_api.dtos.WarehouseUpdateDTO;
+import com.skillstorm.reliable_api.mappers.WarehouseMapper;
 import com.skillstorm.reliable_api.models.Warehouse;
+import com.skillstorm.reliable_api.repositories.WarehouseInventoryRepo;
 import com.skillstorm.reliable_api.repositories.WarehouseRepo;
 
 import jakarta.transaction.Transactional;
@@ -26,18 +29,19 @@ import jakarta.transaction.Transactional;
 public class WarehouseService {
 
     private final WarehouseRepo warehouseRepo;
-    private final ModelMapper modelMapper;
+    private final WarehouseMapper warehouseMapper;
+    private final WarehouseInventoryRepo warehouseInventoryRepo;
 
     /**
-     * Constructs the WarehouseService with required dependencies and configures ModelMapper's default behavior.
+     * Constructs the WarehouseService with required dependencies.
      * * @param repo The repository for accessing warehouse data.
-     * @param mapper The utility for converting between DTOs and entities.
+     * @param mapper The generated mapper for converting between DTOs and entities.
+     * @param inventoryRepo The repository for accessing inventory data.
      */
-    public WarehouseService(WarehouseRepo repo, ModelMapper mapper) {
+    public WarehouseService(WarehouseRepo repo, WarehouseMapper mapper, WarehouseInventoryRepo inventoryRepo) {
         this.warehouseRepo = repo;
-        this.modelMapper = mapper;
-        // Default ModelMapper setting for general use (e.g., PATCH operations)
-        this.modelMapper.getConfiguration().setSkipNullEnabled(true); 
+        this.warehouseMapper = mapper;
+        this.warehouseInventoryRepo = inventoryRepo;
     }
 
     /**
@@ -46,23 +50,43 @@ public class WarehouseService {
      * @return The DTO of the newly created warehouse.
      */
     public WarehouseDTO createWarehouse(WarehouseDTO dto) {
-        Warehouse entity = modelMapper.map(dto, Warehouse.class);
+        Warehouse entity = warehouseMapper.toEntity(dto);
         Warehouse saved = warehouseRepo.save(entity);
         return toDTO(saved);
     }
 
     /**
-     * Retrieves all warehouse records from the database.
-     * Converts the list of {@code Warehouse} entities to a list of {@code WarehouseDTO}s.
+     * Retrieves all warehouse records from the database, including their full inventory.
+     * Warehouses, inventory records and products are fetched in one query before being
+     * converted to a list of {@code WarehouseDTO}s.
      * * @return A list of all warehouses as DTOs.
      */
     public List<WarehouseDTO> getWarehouses() {
-        return warehouseRepo.findAll()
+        return warehouseRepo.findAllWithInventory()
                 .stream()
                 .map(this::toDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Retrieves a summary of every warehouse (SKU count, total units, utilization and total value)
+     * from a single aggregate query, without loading any inventory records.
+     * * @return A list of warehouse summaries ordered by name.
+     */
+    public List<WarehouseSummaryDTO> getWarehouseSummaries() {
+        return warehouseRepo.findAllSummaries();
+    }
+
+    /**
+     * Retrieves the version stamp of the warehouse listings for conditional GET requests.
+     * Both the full listing and the summaries include inventory and product data, so the stamp
+     * covers warehouses, inventory records and their products.
+     * * @return The combined latest update timestamp and row count.
+     */
+    public VersionStampDTO getVersionStamp() {
+        return warehouseRepo.findVersionStamp().combine(warehouseInventoryRepo.findVersionStamp(null));
+    }
+
     /**
      * Performs a full replacement update (PUT) on an existing warehouse.
      * All fields from the {@code WarehouseUpdateDTO} are mapped onto the existing entity, 
@@ -76,12 +100,8 @@ public class WarehouseService {
         Warehouse existing = warehouseRepo.findById(id)
                 .orElseThrow(() -> new RuntimeException("Warehouse not found"));
         
-        // Configure ModelMapper for PUT semantics: do NOT skip nulls
-        modelMapper.getConfiguration().setSkipNullEnabled(false); 
-        modelMapper.map(dto, existing);
-        
-        // Restore default configuration
-        modelMapper.getConfiguration().setSkipNullEnabled(true); 
+        // PUT semantics: overwrite every editable field
+        warehouseMapper.update(dto, existing);
         
         warehouseRepo.save(existing);
         return toDTO(existing);
@@ -99,9 +119,8 @@ public class WarehouseService {
         Warehouse existing = warehouseRepo.findById(id)
                 .orElseThrow(() -> new RuntimeException("Warehouse not found"));
         
-        // ModelMapper is configured for PATCH semantics: skip nulls is the default
-        modelMapper.getConfiguration().setSkipNullEnabled(true); 
-        modelMapper.map(dto, existing);
+        // PATCH semantics: only non-null fields are copied
+        warehouseMapper.patch(dto, existing);
         
         warehouseRepo.save(existing);
         return toDTO(existing);
@@ -113,7 +132,7 @@ public class WarehouseService {
      * @return The mapped DTO.
      */
     private WarehouseDTO toDTO(Warehouse warehouse) {
-        return modelMapper.map(warehouse, WarehouseDTO.class);
+        return warehouseMapper.toDTO(warehouse);
     }
     
     /**
@@ -0,0 +1,17 @@
+-- Idempotency-Key store shared by all instances, so a retry that lands on another instance is still
+-- replayed instead of applied twice. A row is inserted before the request runs (status NULL while it is in
+-- progress) and completed with the response; the primary key makes concurrent duplicates collide.
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    operation varchar(100) NOT NULL,
+    idempotency_key varchar(128) NOT NULL,
+    fingerprint bytea NOT NULL,
+    status integer,
+    headers text,
+    body bytea,
+    created_at timestamp(6) NOT NULL,
+    expires_at timestamp(6) NOT NULL,
+    PRIMARY KEY (operation, idempotency_key)
+);
+
+-- The scheduled sweep deletes expired keys.
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
@@ -0,0 +1,96 @@
+-- Baseline: the schema as Hibernate created it (ddl-auto: update) before migrations took over.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate) and skip it;
+-- empty databases are built from it. Hibernate only validates the schema from now on, so every
+-- change to an entity mapping needs a new migration.
+
+CREATE SEQUENCE IF NOT EXISTS categories_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS products_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS warehouses_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS warehouse_inventory_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS inventory_transfers_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS transfer_jobs_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS categories (
+    category_id bigint NOT NULL,
+    description varchar(300),
+    name varchar(150) NOT NULL UNIQUE,
+    PRIMARY KEY (category_id)
+);
+
+CREATE TABLE IF NOT EXISTS products (
+    product_id bigint NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    description TEXT,
+    expiration_required boolean NOT NULL,
+    is_deleted boolean NOT NULL,
+    is_hazardous boolean NOT NULL,
+    name varchar(200) NOT NULL,
+    price numeric(38,2) NOT NULL,
+    public_id varchar(255) NOT NULL UNIQUE,
+    sku varchar(100) NOT NULL UNIQUE,
+    unit varchar(50),
+    updated_at timestamp(6) NOT NULL,
+    version bigint DEFAULT 0 NOT NULL,
+    category_id bigint,
+    PRIMARY KEY (product_id),
+    CONSTRAINT FKog2rp4qthbtt2lfyhfo32lsw9 FOREIGN KEY (category_id) REFERENCES categories
+);
+
+CREATE TABLE IF NOT EXISTS warehouses (
+    warehouse_id bigint NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    current_capacity integer NOT NULL,
+    location varchar(255) NOT NULL,
+    max_capacity integer NOT NULL,
+    name varchar(150) NOT NULL UNIQUE,
+    updated_at timestamp(6) NOT NULL,
+    version bigint DEFAULT 0 NOT NULL,
+    PRIMARY KEY (warehouse_id)
+);
+
+CREATE TABLE IF NOT EXISTS warehouse_inventory (
+    inventory_id bigint NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    expiration_date date,
+    quantity integer NOT NULL,
+    storage_location varchar(255),
+    updated_at timestamp(6) NOT NULL,
+    version bigint DEFAULT 0 NOT NULL,
+    product_id bigint NOT NULL,
+    warehouse_id bigint NOT NULL,
+    PRIMARY KEY (inventory_id),
+    UNIQUE (warehouse_id, product_id),
+    CONSTRAINT FK5cwe3l5d71tfdlyyrtu1a05ct FOREIGN KEY (product_id) REFERENCES products,
+    CONSTRAINT FKg41ufrq80pp4il2vlme35r26n FOREIGN KEY (warehouse_id) REFERENCES warehouses
+);
+
+CREATE TABLE IF NOT EXISTS inventory_transfers (
+    transfer_id bigint NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    quantity integer NOT NULL,
+    transfer_notes varchar(255),
+    destination_warehouse_id bigint,
+    product_id bigint NOT NULL,
+    source_warehouse_id bigint,
+    PRIMARY KEY (transfer_id),
+    CONSTRAINT FK3orm9nkw7cgoegaqu8iwmrjek FOREIGN KEY (destination_warehouse_id) REFERENCES warehouses,
+    CONSTRAINT FKxy151cpj0sj3fh1tjy0rw97e FOREIGN KEY (product_id) REFERENCES products,
+    CONSTRAINT FKedxg18w54jc8uhpwp6wtr655s FOREIGN KEY (source_warehouse_id) REFERENCES warehouses
+);
+
+CREATE TABLE IF NOT EXISTS transfer_jobs (
+    transfer_job_id bigint NOT NULL,
+    completed_at timestamp(6),
+    created_at timestamp(6) NOT NULL,
+    destination_warehouse_id bigint NOT NULL,
+    error varchar(1000),
+    product_public_id varchar(255) NOT NULL,
+    quantity integer,
+    source_warehouse_id bigint NOT NULL,
+    started_at timestamp(6),
+    status varchar(16) NOT NULL CHECK (status IN ('QUEUED', 'RUNNING', 'SUCCEEDED', 'FAILED')),
+    transfer_notes varchar(255),
+    PRIMARY KEY (transfer_job_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_transfer_jobs_status_id ON transfer_jobs (status, transfer_job_id);
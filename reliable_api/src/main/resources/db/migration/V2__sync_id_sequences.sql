@@ -0,0 +1,9 @@
+-- Moves each ID sequence past the rows that were inserted while the tables still used IDENTITY columns.
+-- Only matters for databases baselined from the IDENTITY era; on an empty database it just skips the first IDs.
+-- Never moves a sequence backwards.
+-- The "+ 50" matches allocationSize: the pooled optimizer may hand out up to 50 IDs below the returned value.
+SELECT setval('categories_seq', GREATEST((SELECT COALESCE(MAX(category_id), 0) FROM categories) + 50, (SELECT last_value FROM categories_seq)));
+SELECT setval('products_seq', GREATEST((SELECT COALESCE(MAX(product_id), 0) FROM products) + 50, (SELECT last_value FROM products_seq)));
+SELECT setval('warehouses_seq', GREATEST((SELECT COALESCE(MAX(warehouse_id), 0) FROM warehouses) + 50, (SELECT last_value FROM warehouses_seq)));
+SELECT setval('warehouse_inventory_seq', GREATEST((SELECT COALESCE(MAX(inventory_id), 0) FROM warehouse_inventory) + 50, (SELECT last_value FROM warehouse_inventory_seq)));
+SELECT setval('inventory_transfers_seq', GREATEST((SELECT COALESCE(MAX(transfer_id), 0) FROM inventory_transfers) + 50, (SELECT last_value FROM inventory_transfers_seq)));
@@ -0,0 +1,18 @@
+-- Indexes for the hot read paths. The unique (warehouse_id, product_id) constraint only serves lookups
+-- that start with the warehouse, so product-first lookups and the other filters below scanned whole tables.
+
+-- Product lookups across warehouses (findFirstByProduct_ProductId on stock-in, product deletes and moves).
+CREATE INDEX IF NOT EXISTS idx_warehouse_inventory_product_id ON warehouse_inventory (product_id);
+
+-- Expiration alerts and the expiresFrom/expiresTo inventory filters (range scans).
+CREATE INDEX IF NOT EXISTS idx_warehouse_inventory_expiration_date ON warehouse_inventory (expiration_date);
+
+-- Active products only: serves the catalog version stamp (MAX(updated_at) and COUNT of live products)
+-- as an index-only scan, and stays small because soft-deleted rows are left out.
+CREATE INDEX IF NOT EXISTS idx_products_active_updated_at ON products (updated_at) WHERE is_deleted = false;
+
+-- Bulk soft-delete/restore by category and category-scoped product listings.
+CREATE INDEX IF NOT EXISTS idx_products_category_id ON products (category_id);
+
+-- Transfer history ordered or filtered by time.
+CREATE INDEX IF NOT EXISTS idx_inventory_transfers_created_at ON inventory_transfers (created_at);
@@ -0,0 +1,4 @@
+-- Expiration alerts page by (expiration_date, inventory_id). A composite index returns each page already in
+-- that order and still serves plain expiration_date range filters, so it replaces the single-column index.
+CREATE INDEX IF NOT EXISTS idx_warehouse_inventory_expiration_id ON warehouse_inventory (expiration_date, inventory_id);
+DROP INDEX IF EXISTS idx_warehouse_inventory_expiration_date;
@@ -0,0 +1,21 @@
+-- Expired stock is quarantined by the scheduled expiry sweeper instead of lingering until someone notices it.
+ALTER TABLE warehouse_inventory ADD COLUMN IF NOT EXISTS quarantined_at timestamp(6);
+
+-- The sweeper looks for rows past their expiration date that are not quarantined yet, in
+-- (expiration_date, inventory_id) order. Once swept, rows drop out of this index, so it stays small.
+CREATE INDEX IF NOT EXISTS idx_warehouse_inventory_unquarantined_expiration
+    ON warehouse_inventory (expiration_date, inventory_id) WHERE quarantined_at IS NULL;
+
+-- One row per sweep run, recording what it did.
+CREATE SEQUENCE IF NOT EXISTS expiry_sweeps_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS expiry_sweeps (
+    expiry_sweep_id bigint NOT NULL,
+    cutoff_date date NOT NULL,
+    started_at timestamp(6) NOT NULL,
+    completed_at timestamp(6) NOT NULL,
+    chunks integer NOT NULL,
+    rows_quarantined integer NOT NULL,
+    units_quarantined bigint NOT NULL,
+    PRIMARY KEY (expiry_sweep_id)
+);
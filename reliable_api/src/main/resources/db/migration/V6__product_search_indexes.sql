@@ -0,0 +1,18 @@
+-- Server-side product search over name, sku and description.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Full-text document of each product, weighted so that SKU and name matches rank above description
+-- matches. Generated columns are maintained by Postgres, so no write path needs to know about it.
+ALTER TABLE products ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(sku, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'C')
+    ) STORED;
+
+-- Word and phrase matches (search_vector @@ query). Soft-deleted products are never searched.
+CREATE INDEX IF NOT EXISTS idx_products_search_vector ON products USING gin (search_vector) WHERE is_deleted = false;
+
+-- Typo-tolerant name matches (name % query) and SKU substring matches (sku ILIKE '%query%').
+CREATE INDEX IF NOT EXISTS idx_products_name_trgm ON products USING gin (name gin_trgm_ops) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_products_sku_trgm ON products USING gin (sku gin_trgm_ops) WHERE is_deleted = false;
@@ -0,0 +1,3 @@
+-- Node ID of the instance running a transfer job, so that a restarting instance only fails its own
+-- interrupted jobs and not those another live instance is still running.
+ALTER TABLE transfer_jobs ADD COLUMN IF NOT EXISTS owner varchar(255);
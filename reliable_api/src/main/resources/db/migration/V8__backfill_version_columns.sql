@@ -0,0 +1,7 @@
+-- Databases created by ddl-auto before migrations existed are now baselined at version 0, so V1 runs on
+-- them too: its CREATE ... IF NOT EXISTS statements add the ID sequences and transfer_jobs and leave the
+-- existing tables alone. Tables created that way from entities without @Version lack the optimistic lock
+-- column; add it here. On databases built from V1 these are no-ops.
+ALTER TABLE products ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+ALTER TABLE warehouses ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+ALTER TABLE warehouse_inventory ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
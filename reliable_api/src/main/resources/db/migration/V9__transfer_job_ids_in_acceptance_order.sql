@@ -0,0 +1,4 @@
+-- Transfer job IDs define the processing order, so they must follow the order in which jobs were accepted
+-- across all instances. A pooled sequence hands each instance its own block of 50 IDs, which interleaves
+-- jobs of different instances out of order; draw every ID from the sequence instead.
+ALTER SEQUENCE transfer_jobs_seq INCREMENT BY 1;
@@ -0,0 +1,155 @@
+package com.skillstorm.reliable_api.mappers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.Conditions;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.skillstorm.reliable_api.dtos.ProductDTO;
+import com.skillstorm.reliable_api.dtos.ProductPatchDTO;
+import com.skillstorm.reliable_api.dtos.WarehouseInventoryDTO;
+import com.skillstorm.reliable_api.models.Category;
+import com.skillstorm.reliable_api.models.Product;
+import com.skillstorm.reliable_api.models.Warehouse;
+import com.skillstorm.reliable_api.models.WarehouseInventory;
+
+/**
+ * JMH benchmark comparing the generated MapStruct mappers with a reflective {@code ModelMapper}
+ * configured the way the former {@code ModelMapperConfig} bean was (skip nulls, ambiguity ignored)
+ * on the hot paths: single product reads, PATCH application, and a 1,000-row inventory listing.
+ * <p>
+ * Not run by Surefire. After {@code ./mvnw test-compile}, run it with:
+ * {@code java -cp "target/test-classes:target/classes:$(./mvnw -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)"
+ * com.skillstorm.reliable_api.mappers.MapperBenchmark}
+ * </p>
+ *
+ * @author Jevaughn Stewart
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final int LISTING_SIZE = 1_000;
+
+    private ModelMapper modelMapper;
+    private ProductMapper productMapper;
+    private WarehouseInventoryMapper inventoryMapper;
+
+    private Product product;
+    private ProductPatchDTO patch;
+    private List<WarehouseInventory> listing;
+
+    /**
+     * Builds both mapper implementations and the sample entities once per benchmark run.
+     */
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+            .setPropertyCondition(Conditions.isNotNull())
+            .setSkipNullEnabled(true)
+            .setAmbiguityIgnored(true);
+
+        productMapper = new ProductMapperImpl();
+        inventoryMapper = new WarehouseInventoryMapperImpl(productMapper);
+
+        Category category = new Category("Produce", "Fresh fruit and vegetables");
+        category.setId(7L);
+        Warehouse warehouse = new Warehouse("Main", "Atlanta, GA", 100_000);
+
+        product = sampleProduct(0, category);
+
+        patch = new ProductPatchDTO();
+        patch.setName("Renamed");
+        patch.setPrice(new BigDecimal("12.50"));
+
+        listing = new ArrayList<>(LISTING_SIZE);
+        for (int i = 0; i < LISTING_SIZE; i++) {
+            WarehouseInventory row = new WarehouseInventory(
+                    warehouse, sampleProduct(i, category), i + 1, LocalDate.of(2030, 1, 1), "Aisle " + i);
+            row.setId((long) i);
+            listing.add(row);
+        }
+    }
+
+    @Benchmark
+    public ProductDTO productToDtoModelMapper() {
+        ProductDTO dto = modelMapper.map(product, ProductDTO.class);
+        dto.setCategoryId(product.getCategory().getId());
+        dto.setPublicId(product.getPublicId());
+        return dto;
+    }
+
+    @Benchmark
+    public ProductDTO productToDtoMapStruct() {
+        return productMapper.toDTO(product);
+    }
+
+    @Benchmark
+    public Product productPatchModelMapper() {
+        modelMapper.map(patch, product);
+        return product;
+    }
+
+    @Benchmark
+    public Product productPatchMapStruct() {
+        productMapper.patch(patch, product);
+        return product;
+    }
+
+    @Benchmark
+    public List<WarehouseInventoryDTO> inventoryListingModelMapper() {
+        List<WarehouseInventoryDTO> result = new ArrayList<>(listing.size());
+        for (WarehouseInventory row : listing) {
+            result.add(modelMapper.map(row, WarehouseInventoryDTO.class));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<WarehouseInventoryDTO> inventoryListingMapStruct() {
+        return inventoryMapper.toDTOs(listing);
+    }
+
+    /**
+     * Runs all benchmarks in this class.
+     * * @param args Ignored.
+     * @throws RunnerException if JMH fails to run.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+    private static Product sampleProduct(int i, Category category) {
+        Product product = new Product("Product " + i, "SKU-" + i, "Sample product " + i, category,
+                "EA", false, true, new BigDecimal("9.99"));
+        product.setProductId((long) i);
+        return product;
+    }
+}
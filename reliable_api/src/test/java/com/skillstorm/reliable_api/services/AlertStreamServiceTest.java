@@ -0,0 +1,165 @@
+package com.skillstorm.reliable_api.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.skillstorm.reliable_api.dtos.AlertEventDTO;
+import com.skillstorm.reliable_api.dtos.WarehouseInventoryDTO;
+import com.skillstorm.reliable_api.models.InventoryTransfer;
+import com.skillstorm.reliable_api.models.Product;
+import com.skillstorm.reliable_api.models.Warehouse;
+import com.skillstorm.reliable_api.repositories.InventoryTransferRepo;
+import com.skillstorm.reliable_api.repositories.WarehouseRepo;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AlertStreamServiceTest {
+
+	private static final LocalDate TODAY = LocalDate.now();
+
+	private ExpirationIndexService expirationIndex;
+	private WarehouseRepo warehouseRepo;
+	private InventoryTransferRepo transferRepo;
+	private AlertStreamService service;
+
+	@BeforeEach
+	void setUp() {
+		expirationIndex = mock(ExpirationIndexService.class);
+		warehouseRepo = mock(WarehouseRepo.class);
+		transferRepo = mock(InventoryTransferRepo.class);
+		service = new AlertStreamService(expirationIndex, warehouseRepo, transferRepo, new SimpleMeterRegistry(),
+				30, 7, 0.9, 10, 100, 1, Duration.ofMinutes(30), Duration.ofSeconds(30));
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+	}
+
+	@Test
+	void capacityAlertFiresOnlyForWarehousesThatNewlyReachedTheRatio() {
+		when(warehouseRepo.findAtOrAboveCapacityRatio(0.9))
+				.thenReturn(List.of(warehouse(1L, 95)))
+				.thenReturn(List.of(warehouse(1L, 95), warehouse(2L, 90)));
+
+		assertThat(service.detectChanges()).isEmpty();
+		List<AlertEventDTO> events = service.detectChanges();
+
+		assertThat(events).singleElement().satisfies(event -> {
+			assertThat(event.getType()).isEqualTo(AlertEventDTO.Type.CAPACITY);
+			assertThat(event.getWarehouseId()).isEqualTo(2L);
+			assertThat(event.getMessage()).contains("90%");
+		});
+	}
+
+	@Test
+	void transfersCommittedOnAnyInstanceAreReportedOnce() {
+		InventoryTransfer before = transfer(1L, "p-1");
+		InventoryTransfer after = transfer(2L, "p-2");
+		when(transferRepo.findPageCreatedAfter(any(), any(), any()))
+				.thenReturn(List.of(before))
+				.thenReturn(List.of(before, after))
+				.thenReturn(List.of(after));
+
+		assertThat(service.detectChanges()).isEmpty();
+		List<AlertEventDTO> events = service.detectChanges();
+		List<AlertEventDTO> reread = service.detectChanges();
+
+		assertThat(events).singleElement().satisfies(event -> {
+			assertThat(event.getType()).isEqualTo(AlertEventDTO.Type.TRANSFER);
+			assertThat(event.getWarehouseId()).isEqualTo(20L);
+			assertThat(event.getMessage()).contains("p-2", "warehouse 10", "warehouse 20");
+		});
+		assertThat(reread).isEmpty();
+	}
+
+	@Test
+	void recordMovedToAnotherWarehouseIsClearedThereAndRaisedAgain() {
+		when(expirationIndex.isReady()).thenReturn(true);
+		when(expirationIndex.findPage(any(), any(), any(), any(), isNull(), anyInt()))
+				.thenReturn(List.of(entry(11L, 1L, TODAY.plusDays(5), null)))
+				.thenReturn(List.of(entry(11L, 2L, TODAY.plusDays(5), null)));
+
+		service.detectChanges();
+		List<AlertEventDTO> events = service.detectChanges();
+
+		assertThat(events).extracting(AlertEventDTO::getType, AlertEventDTO::getWarehouseId)
+				.containsExactly(tuple(AlertEventDTO.Type.CLEARED, 1L),
+						tuple(AlertEventDTO.Type.EXPIRING, 2L));
+	}
+
+	@Test
+	void recordThatLeftTheAlertsIsClearedWithItsLastState() {
+		when(expirationIndex.isReady()).thenReturn(true);
+		when(expirationIndex.findPage(any(), any(), any(), any(), isNull(), anyInt()))
+				.thenReturn(List.of(entry(11L, 1L, TODAY.minusDays(2), null), entry(12L, 1L, TODAY.plusDays(3), null)))
+				.thenReturn(List.of(entry(11L, 1L, TODAY.minusDays(2), LocalDateTime.now())));
+
+		service.detectChanges();
+		List<AlertEventDTO> events = service.detectChanges();
+
+		assertThat(events).extracting(AlertEventDTO::getType)
+				.containsOnly(AlertEventDTO.Type.CLEARED);
+		assertThat(events).extracting(AlertEventDTO::getMessage)
+				.containsExactlyInAnyOrder("Product p-11 in warehouse 1 was quarantined",
+						"Product p-12 in warehouse 1 is no longer on alert");
+		assertThat(events).extracting(event -> event.getItem().getProductPublicId())
+				.containsExactlyInAnyOrder("p-11", "p-12");
+	}
+
+	@Test
+	void recordThatExpiredIsRaisedAgainAtTheNewLevel() {
+		when(expirationIndex.isReady()).thenReturn(true);
+		when(expirationIndex.findPage(any(), any(), any(), any(), isNull(), anyInt()))
+				.thenReturn(List.of(entry(11L, 1L, TODAY, null)))
+				.thenReturn(List.of(entry(11L, 1L, TODAY.minusDays(1), null)));
+
+		service.detectChanges();
+		List<AlertEventDTO> events = service.detectChanges();
+
+		assertThat(events).singleElement()
+				.satisfies(event -> assertThat(event.getType()).isEqualTo(AlertEventDTO.Type.EXPIRED));
+	}
+
+	private static Warehouse warehouse(Long id, int currentCapacity) {
+		Warehouse warehouse = new Warehouse();
+		warehouse.setWarehouseId(id);
+		warehouse.setName("W" + id);
+		warehouse.setMaxCapacity(100);
+		warehouse.setCurrentCapacity(currentCapacity);
+		return warehouse;
+	}
+
+	private static InventoryTransfer transfer(Long id, String productPublicId) {
+		Product product = new Product();
+		product.setPublicId(productPublicId);
+		InventoryTransfer transfer = new InventoryTransfer(product, warehouse(10L, 0), warehouse(20L, 0), 5);
+		transfer.setTransferId(id);
+		transfer.setCreatedAt(LocalDateTime.now());
+		return transfer;
+	}
+
+	private static ExpirationIndexService.Entry entry(Long id, Long warehouseId, LocalDate expires,
+			LocalDateTime quarantinedAt) {
+		WarehouseInventoryDTO item = new WarehouseInventoryDTO();
+		item.setProductPublicId("p-" + id);
+		item.setWarehouseId(warehouseId);
+		item.setExpirationDate(expires);
+		item.setQuarantinedAt(quarantinedAt);
+		return new ExpirationIndexService.Entry(expires, id, item);
+	}
+}
@@ -0,0 +1,123 @@
+package com.skillstorm.reliable_api.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import com.skillstorm.reliable_api.dtos.AlertPageRequestDTO;
+import com.skillstorm.reliable_api.dtos.ExpirationAlertPageDTO;
+import com.skillstorm.reliable_api.dtos.WarehouseInventoryDTO;
+import com.skillstorm.reliable_api.mappers.WarehouseInventoryMapper;
+import com.skillstorm.reliable_api.models.WarehouseInventory;
+import com.skillstorm.reliable_api.repositories.WarehouseInventoryRepo;
+import com.skillstorm.reliable_api.repositories.WarehouseRepo;
+
+class ExpirationAlertServiceTest {
+
+	private static final LocalDate DAY = LocalDate.now().plusDays(3);
+
+	private WarehouseInventoryRepo inventoryRepo;
+	private ExpirationIndexService index;
+	private ExpirationAlertService service;
+
+	@BeforeEach
+	void setUp() {
+		inventoryRepo = mock(WarehouseInventoryRepo.class);
+		index = mock(ExpirationIndexService.class);
+		WarehouseInventoryMapper mapper = mock(WarehouseInventoryMapper.class);
+		when(mapper.toDTO(any())).thenAnswer(invocation -> new WarehouseInventoryDTO());
+		service = new ExpirationAlertService(inventoryRepo, mock(WarehouseRepo.class), mapper, index);
+	}
+
+	@Test
+	void firstPageReadsOneExtraAlertAndPointsTheCursorAtItsLastItem() {
+		when(index.isReady()).thenReturn(true);
+		when(index.findPage(eq(LocalDate.now()), eq(LocalDate.now().plusDays(30)), isNull(), eq(0L), isNull(), eq(3)))
+				.thenReturn(entries(1, 2, 3));
+
+		ExpirationAlertPageDTO page = service.getNearingExpirationAlerts(30, request(null, 2));
+
+		assertThat(page.getItems()).hasSize(2);
+		assertThat(page.isHasMore()).isTrue();
+		assertThat(page.getNextCursor()).isEqualTo(DAY + ":2");
+	}
+
+	@Test
+	void cursorResumesAfterItsDateAndId() {
+		when(index.isReady()).thenReturn(true);
+		when(index.findPage(any(), any(), eq(DAY), eq(2L), eq(7L), eq(3))).thenReturn(entries(3));
+
+		ExpirationAlertPageDTO page = service.getNearingExpirationAlerts(30, request(DAY + ":2", 2, 7L));
+
+		assertThat(page.getItems()).hasSize(1);
+		assertThat(page.isHasMore()).isFalse();
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	void expiredAlertsEndYesterday() {
+		when(index.isReady()).thenReturn(true);
+		when(index.findPage(isNull(), eq(LocalDate.now().minusDays(1)), isNull(), eq(0L), isNull(),
+				eq(AlertPageRequestDTO.DEFAULT_PAGE_SIZE + 1))).thenReturn(entries(1));
+
+		assertThat(service.getExpiredInventory(request(null, null)).getItems()).hasSize(1);
+	}
+
+	@Test
+	void fallsBackToTheDatabaseWhileTheIndexIsNotReady() {
+		when(index.isReady()).thenReturn(false);
+		when(inventoryRepo.findExpiringPage(any(), any(), eq(DAY), eq(5L), isNull(), eq(Limit.of(3))))
+				.thenReturn(List.of(row(6L), row(7L), row(8L)));
+
+		ExpirationAlertPageDTO page = service.getNearingExpirationAlerts(30, request(DAY + ":5", 2));
+
+		assertThat(page.getItems()).hasSize(2);
+		assertThat(page.getNextCursor()).isEqualTo(DAY + ":7");
+	}
+
+	@Test
+	void malformedCursorIsRejected() {
+		for (String cursor : List.of("garbage", "2030-01-01", "2030-13-01:5", "2030-01-01:x")) {
+			assertThatThrownBy(() -> service.getExpiredInventory(request(cursor, 10)))
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessageContaining(cursor);
+		}
+	}
+
+	private static AlertPageRequestDTO request(String after, Integer size) {
+		return request(after, size, null);
+	}
+
+	private static AlertPageRequestDTO request(String after, Integer size, Long warehouseId) {
+		AlertPageRequestDTO request = new AlertPageRequestDTO();
+		request.setAfter(after);
+		request.setSize(size);
+		request.setWarehouseId(warehouseId);
+		return request;
+	}
+
+	private static List<ExpirationIndexService.Entry> entries(long... ids) {
+		return LongStream.of(ids)
+				.mapToObj(id -> new ExpirationIndexService.Entry(DAY, id, new WarehouseInventoryDTO()))
+				.toList();
+	}
+
+	private static WarehouseInventory row(Long id) {
+		WarehouseInventory row = new WarehouseInventory();
+		row.setId(id);
+		row.setExpirationDate(DAY);
+		return row;
+	}
+}
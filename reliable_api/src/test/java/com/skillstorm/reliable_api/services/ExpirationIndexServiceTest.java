@@ -0,0 +1,206 @@
+package com.skillstorm.reliable_api.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.skillstorm.reliable_api.dtos.WarehouseInventoryDTO;
+import com.skillstorm.reliable_api.mappers.WarehouseInventoryMapper;
+import com.skillstorm.reliable_api.models.Product;
+import com.skillstorm.reliable_api.models.Warehouse;
+import com.skillstorm.reliable_api.models.WarehouseInventory;
+import com.skillstorm.reliable_api.repositories.WarehouseInventoryRepo;
+
+class ExpirationIndexServiceTest {
+
+	private static final LocalDate DAY = LocalDate.of(2030, 1, 10);
+	private static final LocalDate FAR = DAY.plusYears(1);
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+	private WarehouseInventoryRepo repo;
+	private ExpirationIndexService index;
+
+	@BeforeEach
+	void setUp() {
+		repo = mock(WarehouseInventoryRepo.class);
+		WarehouseInventoryMapper mapper = mock(WarehouseInventoryMapper.class);
+		when(mapper.toDTO(any())).thenAnswer(invocation -> toDTO(invocation.getArgument(0)));
+		index = new ExpirationIndexService(repo, mapper, mock(PlatformTransactionManager.class));
+
+		stubTable(List.of(
+				row(1L, 20L, "p1", DAY.plusDays(1)),
+				row(2L, 10L, "p2", DAY.plusDays(1)),
+				row(3L, 10L, "p3", DAY.plusDays(2))));
+		index.rebuild();
+		await().atMost(TIMEOUT).until(index::isReady);
+	}
+
+	@AfterEach
+	void tearDown() {
+		index.shutdown();
+	}
+
+	@Test
+	void pagesInDateThenIdOrderFromTheCursor() {
+		assertThat(ids(index.findPage(null, FAR, null, 0L, null, 10))).containsExactly(1L, 2L, 3L);
+		assertThat(ids(index.findPage(null, FAR, DAY.plusDays(1), 1L, null, 10))).containsExactly(2L, 3L);
+		assertThat(ids(index.findPage(null, FAR, null, 0L, null, 2))).containsExactly(1L, 2L);
+		assertThat(ids(index.findPage(DAY.plusDays(2), FAR, null, 0L, null, 10))).containsExactly(3L);
+		assertThat(ids(index.findPage(null, FAR, null, 0L, 10L, 10))).containsExactly(2L, 3L);
+	}
+
+	@Test
+	void insertedRecordIsIndexed() {
+		when(repo.findAllWithProductByIdIn(any())).thenReturn(List.of(row(4L, 10L, "p4", DAY)));
+
+		index.inventoryChanged(4L);
+
+		await().atMost(TIMEOUT).untilAsserted(() ->
+				assertThat(ids(index.findPage(null, FAR, null, 0L, null, 10))).containsExactly(4L, 1L, 2L, 3L));
+	}
+
+	@Test
+	void updatedExpirationMovesRecordToItsNewDay() {
+		when(repo.findAllWithProductByIdIn(any())).thenReturn(List.of(row(1L, 20L, "p1", DAY.plusDays(5))));
+
+		index.inventoryChanged(1L);
+
+		await().atMost(TIMEOUT).untilAsserted(() ->
+				assertThat(ids(index.findPage(DAY.plusDays(5), DAY.plusDays(5), null, 0L, null, 10))).containsExactly(1L));
+		assertThat(ids(index.findPage(DAY.plusDays(1), DAY.plusDays(1), null, 0L, null, 10))).containsExactly(2L);
+	}
+
+	@Test
+	void deletedRecordIsRemoved() {
+		when(repo.findAllWithProductByIdIn(any())).thenReturn(List.of());
+
+		index.inventoryChanged(2L);
+
+		await().atMost(TIMEOUT).untilAsserted(() ->
+				assertThat(ids(index.findPage(null, FAR, null, 0L, null, 10))).containsExactly(1L, 3L));
+	}
+
+	@Test
+	void transferredRecordFollowsItsWarehouse() {
+		when(repo.findAllWithProductByIdIn(any())).thenReturn(List.of(row(1L, 10L, "p1", DAY.plusDays(1))));
+
+		index.inventoryChanged(1L);
+
+		await().atMost(TIMEOUT).untilAsserted(() ->
+				assertThat(index.countByWarehouse(null, FAR)).isEqualTo(Map.of(10L, 3L)));
+		assertThat(ids(index.findPage(null, FAR, null, 0L, 20L, 10))).isEmpty();
+		assertThat(ids(index.findPage(null, FAR, null, 0L, 10L, 10))).containsExactly(1L, 2L, 3L);
+	}
+
+	@Test
+	void productChangeReloadsItsRecords() {
+		when(repo.findAllWithProductByProductIdIn(any())).thenReturn(List.of(row(3L, 10L, "renamed", DAY.plusDays(2))));
+
+		index.productChanged(30L);
+
+		await().atMost(TIMEOUT).untilAsserted(() ->
+				assertThat(index.findPage(DAY.plusDays(2), DAY.plusDays(2), null, 0L, null, 10).get(0).item()
+						.getProductPublicId()).isEqualTo("renamed"));
+	}
+
+	@Test
+	void changeInTransactionIsAppliedOnlyAfterCommit() {
+		when(repo.findAllWithProductByIdIn(any())).thenReturn(List.of(row(4L, 10L, "p4", DAY)));
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			index.inventoryChanged(4L);
+			verify(repo, never()).findAllWithProductByIdIn(any());
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		await().atMost(TIMEOUT).untilAsserted(() ->
+				assertThat(ids(index.findPage(DAY, DAY, null, 0L, null, 10))).containsExactly(4L));
+	}
+
+	@Test
+	void failedRefreshMarksIndexNotReady() {
+		when(repo.findAllWithProductByIdIn(any())).thenThrow(new IllegalStateException("database down"));
+
+		index.inventoryChanged(1L);
+
+		await().atMost(TIMEOUT).until(() -> !index.isReady());
+	}
+
+	@Test
+	void periodicRebuildPicksUpWritesOfOtherInstances() {
+		stubTable(List.of(row(9L, 30L, "p9", DAY)));
+
+		index.rebuildPeriodically();
+
+		await().atMost(TIMEOUT).untilAsserted(() ->
+				assertThat(ids(index.findPage(null, FAR, null, 0L, null, 10))).containsExactly(9L));
+	}
+
+	@Test
+	void rebuildReadsTheTableInPagesByInventoryId() {
+		stubTable(LongStream.rangeClosed(1, 2500).mapToObj(id -> row(id, 10L, "p" + id, DAY)).toList());
+
+		index.rebuildPeriodically();
+
+		await().atMost(TIMEOUT).untilAsserted(() ->
+				assertThat(index.countByWarehouse(null, FAR)).isEqualTo(Map.of(10L, 2500L)));
+		verify(repo).findPageWithProductByExpirationDateNotNull(eq(1000L), any());
+		verify(repo).findPageWithProductByExpirationDateNotNull(eq(2000L), any());
+		verify(repo, never()).findPageWithProductByExpirationDateNotNull(eq(2500L), any());
+	}
+
+	private void stubTable(List<WarehouseInventory> rows) {
+		doAnswer(invocation -> {
+			Long afterId = invocation.getArgument(0);
+			Limit limit = invocation.getArgument(1);
+			return rows.stream().filter(row -> row.getId() > afterId).limit(limit.max()).toList();
+		}).when(repo).findPageWithProductByExpirationDateNotNull(any(), any());
+	}
+
+	private static List<Long> ids(List<ExpirationIndexService.Entry> entries) {
+		return entries.stream().map(ExpirationIndexService.Entry::inventoryId).toList();
+	}
+
+	private static WarehouseInventory row(Long id, Long warehouseId, String productPublicId, LocalDate expires) {
+		Warehouse warehouse = new Warehouse();
+		warehouse.setWarehouseId(warehouseId);
+		Product product = new Product();
+		product.setProductId(id * 10);
+		product.setPublicId(productPublicId);
+		WarehouseInventory row = new WarehouseInventory(warehouse, product, 5, expires, "A1");
+		row.setId(id);
+		return row;
+	}
+
+	private static WarehouseInventoryDTO toDTO(WarehouseInventory row) {
+		WarehouseInventoryDTO dto = new WarehouseInventoryDTO();
+		dto.setWarehouseId(row.getWarehouse().getWarehouseId());
+		dto.setProductPublicId(row.getProduct().getPublicId());
+		dto.setQuantity(row.getQuantity());
+		dto.setExpirationDate(row.getExpirationDate());
+		return dto;
+	}
+}
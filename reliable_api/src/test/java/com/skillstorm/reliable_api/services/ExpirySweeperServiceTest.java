@@ -0,0 +1,139 @@
+package com.skillstorm.reliable_api.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.skillstorm.reliable_api.models.ExpirySweep;
+import com.skillstorm.reliable_api.models.WarehouseInventory;
+import com.skillstorm.reliable_api.repositories.ExpirySweepRepo;
+import com.skillstorm.reliable_api.repositories.WarehouseInventoryRepo;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ExpirySweeperServiceTest {
+
+	private static final LocalDate EXPIRED = LocalDate.now().minusDays(3);
+
+	private WarehouseInventoryRepo inventoryRepo;
+	private ExpirySweepRepo sweepRepo;
+	private ResultSet lockResult;
+	private final List<String> lockCalls = new ArrayList<>();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private ExpirySweeperService service;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		inventoryRepo = mock(WarehouseInventoryRepo.class);
+		sweepRepo = mock(ExpirySweepRepo.class);
+
+		lockResult = mock(ResultSet.class);
+		when(lockResult.next()).thenReturn(true);
+		when(lockResult.getBoolean(1)).thenReturn(true);
+		Connection connection = mock(Connection.class);
+		when(connection.prepareStatement(anyString())).thenAnswer(invocation -> {
+			lockCalls.add(invocation.getArgument(0));
+			PreparedStatement statement = mock(PreparedStatement.class);
+			when(statement.executeQuery()).thenReturn(lockResult);
+			return statement;
+		});
+		DataSource dataSource = mock(DataSource.class);
+		when(dataSource.getConnection()).thenReturn(connection);
+
+		service = new ExpirySweeperService(inventoryRepo, sweepRepo, dataSource, mock(PlatformTransactionManager.class),
+				meterRegistry, 2);
+	}
+
+	@Test
+	void sweepIsSkippedWhileAnotherInstanceHoldsTheLock() throws SQLException {
+		when(lockResult.getBoolean(1)).thenReturn(false);
+
+		service.sweep();
+
+		verify(inventoryRepo, never()).lockExpiredChunk(any(), any(), any(), any());
+		verify(sweepRepo, never()).save(any());
+		assertThat(lockCalls).containsExactly("SELECT pg_try_advisory_lock(?)");
+	}
+
+	@Test
+	void expiredRowsAreQuarantinedChunkByChunkFromTheCursor() {
+		WarehouseInventory r1 = row(1L, EXPIRED, 5);
+		WarehouseInventory r2 = row(2L, EXPIRED, 7);
+		WarehouseInventory r3 = row(3L, EXPIRED.plusDays(1), 1);
+		when(inventoryRepo.lockExpiredChunk(eq(LocalDate.now()), isNull(), eq(0L), eq(Limit.of(2))))
+				.thenReturn(List.of(r1, r2));
+		when(inventoryRepo.lockExpiredChunk(eq(LocalDate.now()), eq(EXPIRED), eq(2L), eq(Limit.of(2))))
+				.thenReturn(List.of(r3));
+
+		service.sweep();
+
+		assertThat(List.of(r1, r2, r3)).allSatisfy(row -> assertThat(row.getQuarantinedAt()).isNotNull());
+		ExpirySweep run = savedRun();
+		assertThat(run.getCutoffDate()).isEqualTo(LocalDate.now());
+		assertThat(run.getChunks()).isEqualTo(2);
+		assertThat(run.getRowsQuarantined()).isEqualTo(3);
+		assertThat(run.getUnitsQuarantined()).isEqualTo(13);
+		assertThat(meterRegistry.counter("inventory.expiry.quarantined").count()).isEqualTo(3);
+		assertThat(meterRegistry.counter("inventory.expiry.quarantined.units").count()).isEqualTo(13);
+		assertThat(lockCalls).containsExactly("SELECT pg_try_advisory_lock(?)", "SELECT pg_advisory_unlock(?)");
+	}
+
+	@Test
+	void fullLastChunkIsFollowedByAnEmptyOneThatIsNotCounted() {
+		when(inventoryRepo.lockExpiredChunk(any(), isNull(), eq(0L), any()))
+				.thenReturn(List.of(row(1L, EXPIRED, 1), row(2L, EXPIRED, 1)));
+		when(inventoryRepo.lockExpiredChunk(any(), eq(EXPIRED), eq(2L), any())).thenReturn(List.of());
+
+		service.sweep();
+
+		assertThat(savedRun().getChunks()).isEqualTo(1);
+		assertThat(savedRun().getRowsQuarantined()).isEqualTo(2);
+	}
+
+	@Test
+	void lockIsReleasedWhenTheSweepFails() {
+		when(inventoryRepo.lockExpiredChunk(any(), any(), any(), any())).thenThrow(new IllegalStateException("boom"));
+
+		assertThatThrownBy(service::sweep).isInstanceOf(IllegalStateException.class);
+
+		assertThat(lockCalls).containsExactly("SELECT pg_try_advisory_lock(?)", "SELECT pg_advisory_unlock(?)");
+		verify(sweepRepo, never()).save(any());
+	}
+
+	private ExpirySweep savedRun() {
+		ArgumentCaptor<ExpirySweep> run = ArgumentCaptor.forClass(ExpirySweep.class);
+		verify(sweepRepo).save(run.capture());
+		return run.getValue();
+	}
+
+	private static WarehouseInventory row(Long id, LocalDate expires, int quantity) {
+		WarehouseInventory row = new WarehouseInventory();
+		row.setId(id);
+		row.setExpirationDate(expires);
+		row.setQuantity(quantity);
+		return row;
+	}
+}
@@ -0,0 +1,249 @@
+package com.skillstorm.reliable_api.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillstorm.reliable_api.exceptions.IdempotencyKeyException;
+import com.skillstorm.reliable_api.exceptions.IdempotencyKeyInProgressException;
+import com.skillstorm.reliable_api.models.IdempotencyRecord;
+import com.skillstorm.reliable_api.repositories.IdempotencyRecordRepo;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class IdempotencyServiceTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final AtomicInteger calls = new AtomicInteger();
+	private final Map<IdempotencyRecord.Key, IdempotencyRecord> table = new ConcurrentHashMap<>();
+	private IdempotencyRecordRepo repo;
+	private IdempotencyService service;
+
+	@BeforeEach
+	void setUp() {
+		repo = tableBackedRepo();
+		service = service();
+	}
+
+	@Test
+	void requestWithoutKeyAlwaysRuns() {
+		service.execute(null, "op", "body", this::created);
+		service.execute(" ", "op", "body", this::created);
+
+		assertThat(calls).hasValue(2);
+	}
+
+	@Test
+	void repeatedRequestIsReplayedWithoutRunningAgain() throws Exception {
+		ResponseEntity<Map<String, Object>> first = service.execute("key-1", "op", List.of(1, "body"), this::created);
+		ResponseEntity<Map<String, Object>> replay = service.execute("key-1", "op", List.of(1, "body"), this::created);
+
+		assertThat(calls).hasValue(1);
+		assertThat(first.getHeaders().containsKey(IdempotencyService.REPLAYED_HEADER)).isFalse();
+		assertThat(replay.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(replay.getHeaders().getFirst("Location")).isEqualTo("/things/1");
+		assertThat(replay.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+		assertThat((Object) replay.getBody()).isInstanceOf(byte[].class);
+		assertThat(objectMapper.readTree((byte[]) (Object) replay.getBody()))
+				.isEqualTo(objectMapper.valueToTree(first.getBody()));
+	}
+
+	@Test
+	void keyReusedForDifferentRequestIsRejected() {
+		service.execute("key-1", "op", "body", this::created);
+
+		assertThatThrownBy(() -> service.execute("key-1", "op", "other body", this::created))
+				.isInstanceOf(IdempotencyKeyException.class);
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void keysAreScopedByOperation() {
+		service.execute("key-1", "op", "body", this::created);
+		service.execute("key-1", "other-op", "body", this::created);
+
+		assertThat(calls).hasValue(2);
+	}
+
+	@Test
+	void failedRequestIsForgottenSoItCanBeRetried() {
+		assertThatThrownBy(() -> service.execute("key-1", "op", "body", () -> {
+			throw new IllegalStateException("boom");
+		})).isInstanceOf(IllegalStateException.class);
+
+		service.execute("key-1", "op", "body", this::created);
+		service.execute("key-1", "op", "body", this::created);
+
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void repeatWhileFirstRequestRunsIsAskedToRetryLater() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<ResponseEntity<Map<String, Object>>> first = CompletableFuture.supplyAsync(() ->
+				service.execute("key-1", "op", "body", () -> {
+					started.countDown();
+					await(release);
+					return created();
+				}));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThatThrownBy(() -> service.execute("key-1", "op", "body", this::created))
+				.isInstanceOfSatisfying(IdempotencyKeyInProgressException.class, e ->
+						assertThat(e.getRetryAfterSeconds()).isPositive());
+
+		release.countDown();
+		assertThat(first.get(5, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(service.execute("key-1", "op", "body", this::created).getHeaders()
+				.getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void oversizedBodyIsReplayedWithStatusAndHeadersOnly() {
+		service.execute("key-1", "op", "body", () -> ResponseEntity.ok("x".repeat(2048)));
+
+		ResponseEntity<String> replay = service.execute("key-1", "op", "body", () -> ResponseEntity.ok("again"));
+
+		assertThat(replay.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(replay.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+		assertThat(replay.getBody()).isNull();
+	}
+
+	@Test
+	void overlongKeyIsRejected() {
+		String key = "k".repeat(IdempotencyService.MAX_KEY_LENGTH + 1);
+
+		assertThatThrownBy(() -> service.execute(key, "op", "body", this::created))
+				.isInstanceOf(IdempotencyKeyException.class);
+		assertThat(calls).hasValue(0);
+	}
+
+	@Test
+	void repeatReachingAnotherInstanceIsReplayed() {
+		IdempotencyService otherInstance = service();
+
+		service.execute("key-1", "op", "body", this::created);
+		ResponseEntity<Map<String, Object>> replay = otherInstance.execute("key-1", "op", "body", this::created);
+
+		assertThat(calls).hasValue(1);
+		assertThat(replay.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+	}
+
+	@Test
+	void expiredKeyRunsTheOperationAgain() {
+		service.execute("key-1", "op", "body", this::created);
+		IdempotencyRecord stored = table.get(new IdempotencyRecord.Key("op", "key-1"));
+		stored.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+
+		service.execute("key-1", "op", "other body", this::created);
+
+		assertThat(calls).hasValue(2);
+	}
+
+	@Test
+	void keyHeldByAnAbandonedRequestCanBeClaimedAgain() {
+		IdempotencyRecord abandoned = new IdempotencyRecord();
+		abandoned.setFingerprint(new byte[] {1});
+		abandoned.setCreatedAt(LocalDateTime.now().minusHours(1));
+		abandoned.setExpiresAt(LocalDateTime.now().plusHours(1));
+		table.put(new IdempotencyRecord.Key("op", "key-1"), abandoned);
+
+		service.execute("key-1", "op", "body", this::created);
+
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void sweepDeletesExpiredKeys() {
+		service.deleteExpired();
+
+		verify(repo).deleteExpired(any());
+	}
+
+	private IdempotencyService service() {
+		return new IdempotencyService(repo, objectMapper, new SimpleMeterRegistry(), Duration.ofHours(1),
+				Duration.ofMinutes(5), 1024);
+	}
+
+	private IdempotencyRecordRepo tableBackedRepo() {
+		IdempotencyRecordRepo mock = mock(IdempotencyRecordRepo.class);
+		when(mock.claim(anyString(), anyString(), any(), any(), any(), any())).thenAnswer(invocation -> {
+			IdempotencyRecord.Key id = new IdempotencyRecord.Key(invocation.getArgument(0), invocation.getArgument(1));
+			LocalDateTime now = invocation.getArgument(3);
+			LocalDateTime abandonedBefore = invocation.getArgument(5);
+			synchronized (table) {
+				IdempotencyRecord existing = table.get(id);
+				if (existing != null && existing.getExpiresAt().isAfter(now)
+						&& (existing.getStatus() != null || !existing.getCreatedAt().isBefore(abandonedBefore))) {
+					return 0;
+				}
+				IdempotencyRecord claimed = new IdempotencyRecord();
+				claimed.setFingerprint(invocation.getArgument(2));
+				claimed.setCreatedAt(now);
+				claimed.setExpiresAt(invocation.getArgument(4));
+				table.put(id, claimed);
+				return 1;
+			}
+		});
+		when(mock.complete(anyString(), anyString(), any(), anyInt(), any(), any())).thenAnswer(invocation -> {
+			IdempotencyRecord held = held(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+			if (held == null) {
+				return 0;
+			}
+			held.setHeaders(invocation.getArgument(4));
+			held.setBody(invocation.getArgument(5));
+			held.setStatus(invocation.getArgument(3));
+			return 1;
+		});
+		when(mock.release(anyString(), anyString(), any())).thenAnswer(invocation -> {
+			IdempotencyRecord held = held(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+			return held != null && table.values().remove(held) ? 1 : 0;
+		});
+		when(mock.findById(any())).thenAnswer(invocation -> Optional.ofNullable(table.get(invocation.getArgument(0))));
+		return mock;
+	}
+
+	private IdempotencyRecord held(String operation, String key, LocalDateTime claimedAt) {
+		IdempotencyRecord record = table.get(new IdempotencyRecord.Key(operation, key));
+		return record != null && record.getStatus() == null && record.getCreatedAt().equals(claimedAt) ? record : null;
+	}
+
+	private ResponseEntity<Map<String, Object>> created() {
+		int call = calls.incrementAndGet();
+		return ResponseEntity.status(HttpStatus.CREATED)
+				.header("Location", "/things/1")
+				.body(Map.of("id", 1, "call", call));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
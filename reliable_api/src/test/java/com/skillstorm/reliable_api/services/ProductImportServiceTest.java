@@ -0,0 +1,177 @@
+package com.skillstorm.reliable_api.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillstorm.reliable_api.dtos.CategoryCatalogDTO;
+import com.skillstorm.reliable_api.dtos.CategoryDTO;
+import com.skillstorm.reliable_api.dtos.ProductDTO;
+import com.skillstorm.reliable_api.mappers.ProductMapper;
+import com.skillstorm.reliable_api.models.Product;
+import com.skillstorm.reliable_api.repositories.CategoryRepo;
+import com.skillstorm.reliable_api.repositories.ProductRepo;
+
+import jakarta.validation.Validation;
+
+class ProductImportServiceTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final List<ProductDTO> inserted = new ArrayList<>();
+	private ProductImportService service;
+
+	@BeforeEach
+	void setUp() {
+		ProductRepo productRepo = mock(ProductRepo.class);
+		when(productRepo.findExistingSkus(any())).thenReturn(List.of("TAKEN"));
+
+		ProductMapper productMapper = mock(ProductMapper.class);
+		when(productMapper.toEntity(any())).thenAnswer(invocation -> {
+			inserted.add(invocation.getArgument(0));
+			return new Product();
+		});
+
+		CategoryDTO category = new CategoryDTO();
+		category.setId(1L);
+		category.setName("Tools");
+		CategoryService categoryService = mock(CategoryService.class);
+		when(categoryService.getCatalog()).thenReturn(new CategoryCatalogDTO(1, "hash", List.of(category)));
+
+		service = new ProductImportService(productRepo, mock(CategoryRepo.class), categoryService, productMapper,
+				Validation.buildDefaultValidatorFactory().getValidator(), objectMapper,
+				mock(PlatformTransactionManager.class));
+	}
+
+	@Test
+	void quotedFieldsKeepDelimitersQuotesAndLineBreaks() throws IOException {
+		List<JsonNode> report = importCsv("name,sku,price,description\n"
+				+ "\"Widget, large\",W-1,9.99,\"Say \"\"hi\"\"\non two lines\"\n");
+
+		assertThat(summary(report).get("imported").asInt()).isEqualTo(1);
+		assertThat(inserted.get(0).getName()).isEqualTo("Widget, large");
+		assertThat(inserted.get(0).getDescription()).isEqualTo("Say \"hi\"\non two lines");
+		assertThat(inserted.get(0).getPrice()).isEqualByComparingTo(new BigDecimal("9.99"));
+	}
+
+	@Test
+	void crlfLineEndingsAreOneRecordEach() throws IOException {
+		List<JsonNode> report = importCsv("name,sku,price\r\nA,S-1,1\r\nB,S-2,2\r\n");
+
+		assertThat(summary(report).get("rows").asInt()).isEqualTo(2);
+		assertThat(summary(report).get("imported").asInt()).isEqualTo(2);
+		assertThat(inserted).extracting(ProductDTO::getName).containsExactly("A", "B");
+	}
+
+	@Test
+	void byteOrderMarkBeforeTheHeaderIsIgnored() throws IOException {
+		List<JsonNode> report = importCsv("\uFEFFname,sku,price\nA,S-1,1\n");
+
+		assertThat(summary(report).get("imported").asInt()).isEqualTo(1);
+	}
+
+	@Test
+	void columnsAreMatchedByNameInAnyOrder() throws IOException {
+		importCsv("PRICE,categoryId,SKU,Name\n3.50,1,S-1,A\n");
+
+		assertThat(inserted.get(0).getSku()).isEqualTo("S-1");
+		assertThat(inserted.get(0).getCategoryId()).isEqualTo(1L);
+	}
+
+	@Test
+	void missingRequiredColumnRejectsTheFile() throws IOException {
+		List<JsonNode> report = importCsv("name,sku\nA,S-1\n");
+
+		assertThat(report.get(0).get("error").asText()).contains("price");
+		assertThat(summary(report).get("imported").asInt()).isZero();
+	}
+
+	@Test
+	void invalidRowsAreReportedAndTheRestImported() throws IOException {
+		List<JsonNode> report = importCsv("name,sku,price,categoryId,isHazardous\n"
+				+ "A,S-1,abc,,\n"
+				+ "B,S-2,1,99,\n"
+				+ "C,S-3,1,,maybe\n"
+				+ "D,S-4,1,,true\n"
+				+ "E,S-4,1,,\n"
+				+ "F,TAKEN,1,,\n"
+				+ ",S-5,1,,\n");
+
+		assertThat(errorRows(report)).containsExactly(1, 2, 3, 5, 7, 6);
+		assertThat(summary(report).get("imported").asInt()).isEqualTo(1);
+		assertThat(summary(report).get("failed").asInt()).isEqualTo(6);
+		assertThat(inserted).extracting(ProductDTO::getSku).containsExactly("S-4");
+	}
+
+	@Test
+	void overlongCsvRecordAbortsTheImportAfterEarlierRows() throws IOException {
+		String unterminated = "\"" + "x".repeat(ProductImportService.MAX_RECORD_LENGTH + 10);
+		List<JsonNode> report = importCsv("name,sku,price\nA,S-1,1\n" + unterminated + ",S-2,2\nB,S-3,3\n");
+
+		assertThat(report.get(0).get("row").asInt()).isEqualTo(2);
+		assertThat(report.get(0).get("error").asText()).contains("import aborted");
+		assertThat(summary(report).get("imported").asInt()).isEqualTo(1);
+		assertThat(inserted).extracting(ProductDTO::getSku).containsExactly("S-1");
+	}
+
+	@Test
+	void ndjsonSkipsBlankLinesAndAcceptsCrlf() throws IOException {
+		List<JsonNode> report = importNdjson("{\"name\":\"A\",\"sku\":\"S-1\",\"price\":1}\r\n\r\n"
+				+ "{\"name\":\"B\",\"sku\":\"S-2\",\"price\":2}\n"
+				+ "not json\n");
+
+		assertThat(errorRows(report)).containsExactly(4);
+		assertThat(summary(report).get("imported").asInt()).isEqualTo(2);
+	}
+
+	@Test
+	void overlongNdjsonLineAbortsTheImport() throws IOException {
+		String longLine = "{\"name\":\"" + "x".repeat(ProductImportService.MAX_RECORD_LENGTH) + "\"}";
+		List<JsonNode> report = importNdjson("{\"name\":\"A\",\"sku\":\"S-1\",\"price\":1}\n" + longLine + "\n"
+				+ "{\"name\":\"B\",\"sku\":\"S-2\",\"price\":2}\n");
+
+		assertThat(report.get(0).get("row").asInt()).isEqualTo(2);
+		assertThat(report.get(0).get("error").asText()).contains("import aborted");
+		assertThat(inserted).extracting(ProductDTO::getSku).containsExactly("S-1");
+	}
+
+	private List<JsonNode> importCsv(String csv) throws IOException {
+		return run(ProductImportService.InputFormat.CSV, csv);
+	}
+
+	private List<JsonNode> importNdjson(String ndjson) throws IOException {
+		return run(ProductImportService.InputFormat.NDJSON, ndjson);
+	}
+
+	private List<JsonNode> run(ProductImportService.InputFormat format, String upload) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		service.importProducts(format, new ByteArrayInputStream(upload.getBytes(StandardCharsets.UTF_8)), out);
+		List<JsonNode> report = new ArrayList<>();
+		for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+			report.add(objectMapper.readTree(line));
+		}
+		return report;
+	}
+
+	private static JsonNode summary(List<JsonNode> report) {
+		return report.get(report.size() - 1);
+	}
+
+	private static List<Integer> errorRows(List<JsonNode> report) {
+		return report.subList(0, report.size() - 1).stream().map(line -> line.get("row").asInt()).toList();
+	}
+}
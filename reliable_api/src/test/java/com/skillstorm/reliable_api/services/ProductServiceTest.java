@@ -0,0 +1,152 @@
+package com.skillstorm.reliable_api.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.skillstorm.reliable_api.dtos.BulkUpdateResultDTO;
+import com.skillstorm.reliable_api.dtos.CursorPageDTO;
+import com.skillstorm.reliable_api.dtos.ProductDTO;
+import com.skillstorm.reliable_api.dtos.ProductSearchRequestDTO;
+import com.skillstorm.reliable_api.dtos.ProductSelectionDTO;
+import com.skillstorm.reliable_api.exceptions.ResourceNotFoundException;
+import com.skillstorm.reliable_api.mappers.ProductMapper;
+import com.skillstorm.reliable_api.models.Product;
+import com.skillstorm.reliable_api.repositories.CategoryRepo;
+import com.skillstorm.reliable_api.repositories.ProductRepo;
+
+class ProductServiceTest {
+
+	private ProductRepo productRepo;
+	private CategoryRepo categoryRepo;
+	private ProductLookupService lookupService;
+	private ProductService service;
+
+	@BeforeEach
+	void setUp() {
+		productRepo = mock(ProductRepo.class);
+		categoryRepo = mock(CategoryRepo.class);
+		lookupService = mock(ProductLookupService.class);
+		ProductMapper mapper = mock(ProductMapper.class);
+		when(mapper.toDTO(any())).thenAnswer(invocation -> {
+			ProductDTO dto = new ProductDTO();
+			dto.setSku(invocation.<Product>getArgument(0).getSku());
+			return dto;
+		});
+		service = new ProductService(productRepo, categoryRepo, mapper, lookupService);
+	}
+
+	@Test
+	void searchEscapesLikeWildcardsInTheSkuLiteral() {
+		service.searchProducts(search(" 50%_off\\x ", null, null));
+
+		verify(productRepo).search(eq("50%_off\\x"), eq("50\\%\\_off\\\\x"), eq(ProductService.MAX_SEARCH_CANDIDATES),
+				eq(0), eq(ProductSearchRequestDTO.DEFAULT_PAGE_SIZE + 1));
+	}
+
+	@Test
+	void searchPageReadsOneExtraRowAndPointsTheCursorAtTheNextOffset() {
+		when(productRepo.search(anyString(), anyString(), anyInt(), eq(20), eq(11))).thenReturn(products(11));
+
+		CursorPageDTO<ProductDTO> page = service.searchProducts(search("widget", 20L, 10));
+
+		assertThat(page.getItems()).hasSize(10);
+		assertThat(page.isHasMore()).isTrue();
+		assertThat(page.getNextCursor()).isEqualTo(30L);
+	}
+
+	@Test
+	void lastSearchPageHasNoCursor() {
+		when(productRepo.search(anyString(), anyString(), anyInt(), eq(20), eq(11))).thenReturn(products(4));
+
+		CursorPageDTO<ProductDTO> page = service.searchProducts(search("widget", 20L, 10));
+
+		assertThat(page.getItems()).hasSize(4);
+		assertThat(page.isHasMore()).isFalse();
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	void searchStopsPagingAtTheMaximumOffset() {
+		int offset = ProductSearchRequestDTO.MAX_OFFSET - 10;
+		when(productRepo.search(anyString(), anyString(), anyInt(), eq(offset), eq(11))).thenReturn(products(11));
+
+		CursorPageDTO<ProductDTO> page = service.searchProducts(search("widget", (long) offset, 10));
+
+		assertThat(page.getItems()).hasSize(10);
+		assertThat(page.isHasMore()).isFalse();
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	void bulkDeleteByPublicIdsIsOneUpdateAndEvictsThoseIds() {
+		List<String> ids = List.of("p-1", "p-2", "p-3");
+		when(productRepo.updateDeletedByPublicIds(eq(ids), eq(true), any())).thenReturn(2);
+
+		BulkUpdateResultDTO result = service.setDeleted(selection(ids, null), true);
+
+		assertThat(result.getAffected()).isEqualTo(2);
+		verify(lookupService).evictAll(ids);
+		verify(lookupService, never()).clear();
+		verify(productRepo, never()).save(any());
+	}
+
+	@Test
+	void bulkRestoreByCategoryClearsTheLookupCache() {
+		when(categoryRepo.existsById(4L)).thenReturn(true);
+		when(productRepo.updateDeletedByCategoryId(eq(4L), eq(false), any())).thenReturn(5);
+
+		BulkUpdateResultDTO result = service.setDeleted(selection(null, 4L), false);
+
+		assertThat(result.getAffected()).isEqualTo(5);
+		verify(lookupService).clear();
+	}
+
+	@Test
+	void bulkUpdateOfAnUnknownCategoryIsRejected() {
+		when(categoryRepo.existsById(4L)).thenReturn(false);
+
+		assertThatThrownBy(() -> service.setDeleted(selection(null, 4L), true))
+				.isInstanceOf(ResourceNotFoundException.class);
+
+		verify(productRepo, never()).updateDeletedByCategoryId(any(), anyBoolean(), any());
+		verify(lookupService, never()).clear();
+	}
+
+	private static ProductSearchRequestDTO search(String q, Long offset, Integer size) {
+		ProductSearchRequestDTO request = new ProductSearchRequestDTO();
+		request.setQ(q);
+		request.setOffset(offset);
+		request.setSize(size);
+		return request;
+	}
+
+	private static ProductSelectionDTO selection(List<String> publicIds, Long categoryId) {
+		ProductSelectionDTO selection = new ProductSelectionDTO();
+		selection.setPublicIds(publicIds);
+		selection.setCategoryId(categoryId);
+		return selection;
+	}
+
+	private static List<Product> products(int count) {
+		return IntStream.range(0, count).mapToObj(i -> {
+			Product product = new Product();
+			product.setSku("SKU-" + i);
+			return product;
+		}).toList();
+	}
+}
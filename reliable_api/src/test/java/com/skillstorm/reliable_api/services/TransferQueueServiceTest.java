@@ -0,0 +1,170 @@
+package com.skillstorm.reliable_api.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.skillstorm.reliable_api.dtos.InventoryTransferDTO;
+import com.skillstorm.reliable_api.mappers.TransferJobMapper;
+import com.skillstorm.reliable_api.models.TransferJob;
+import com.skillstorm.reliable_api.models.TransferJobStatus;
+import com.skillstorm.reliable_api.repositories.TransferJobRepo;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TransferQueueServiceTest {
+
+	private static final String NODE = "node-a";
+
+	private TransferJobRepo jobRepo;
+	private WarehouseInventoryService inventoryService;
+	private TransferQueueService service;
+	private final List<String> transferred = Collections.synchronizedList(new ArrayList<>());
+
+	@BeforeEach
+	void setUp() {
+		jobRepo = mock(TransferJobRepo.class);
+		inventoryService = mock(WarehouseInventoryService.class);
+		doAnswer(invocation -> {
+			transferred.add(invocation.<InventoryTransferDTO>getArgument(0).getProductPublicId());
+			return null;
+		}).when(inventoryService).transferInventory(any());
+		when(jobRepo.tryLockClaims(TransferQueueService.CLAIM_LOCK_KEY)).thenReturn(true);
+		when(jobRepo.countByStatus(TransferJobStatus.QUEUED)).thenReturn(1L);
+		service = service(8);
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+	}
+
+	@Test
+	void nothingIsClaimedBeforeInterruptedJobsAreClosed() {
+		service.dispatch();
+
+		verify(jobRepo, never()).tryLockClaims(anyLong());
+	}
+
+	@Test
+	void nothingIsClaimedWhileAnotherInstanceIsClaiming() {
+		when(jobRepo.tryLockClaims(TransferQueueService.CLAIM_LOCK_KEY)).thenReturn(false);
+		service.failInterruptedJobs();
+
+		service.dispatch();
+
+		verify(jobRepo, never()).findByStatusOrderByIdAsc(any(), any());
+	}
+
+	@Test
+	void jobsWaitForWarehousesRunningOnAnyInstanceAndKeepTheirOrder() {
+		when(jobRepo.findByStatus(TransferJobStatus.RUNNING)).thenReturn(List.of(job(1L, "elsewhere", 1L, 2L)));
+		List<TransferJob> queued = List.of(job(10L, "blocked", 1L, 3L), job(11L, "behind", 3L, 4L),
+				job(12L, "free", 5L, 6L));
+		when(jobRepo.findByStatusOrderByIdAsc(eq(TransferJobStatus.QUEUED), any(Limit.class))).thenReturn(queued);
+		service.failInterruptedJobs();
+
+		service.dispatch();
+		service.shutdown();
+
+		assertThat(transferred).containsExactly("free");
+		assertThat(queued).extracting(TransferJob::getStatus)
+				.containsExactly(TransferJobStatus.QUEUED, TransferJobStatus.QUEUED, TransferJobStatus.RUNNING);
+		assertThat(queued.get(2).getOwner()).isEqualTo(NODE);
+		assertThat(queued.get(2).getStartedAt()).isNotNull();
+	}
+
+	@Test
+	void noMoreJobsAreClaimedThanThereAreWorkers() {
+		service.shutdown();
+		service = service(2);
+		List<TransferJob> queued = List.of(job(10L, "a", 1L, 2L), job(11L, "b", 3L, 4L), job(12L, "c", 5L, 6L));
+		when(jobRepo.findByStatusOrderByIdAsc(eq(TransferJobStatus.QUEUED), any(Limit.class))).thenReturn(queued);
+		service.failInterruptedJobs();
+
+		service.dispatch();
+		service.shutdown();
+
+		assertThat(transferred).containsExactlyInAnyOrder("a", "b");
+		assertThat(queued.get(2).getStatus()).isEqualTo(TransferJobStatus.QUEUED);
+	}
+
+	@Test
+	void claimClosesStaleJobsOfLostInstances() {
+		service.failInterruptedJobs();
+
+		service.dispatch();
+
+		verify(jobRepo).failStale(eq(TransferJobStatus.RUNNING), eq(TransferJobStatus.FAILED), any(), any(), any());
+	}
+
+	@Test
+	void outcomeIsOnlyRecordedWhileTheJobIsStillRunningOnThisNode() {
+		when(jobRepo.findByStatusOrderByIdAsc(eq(TransferJobStatus.QUEUED), any(Limit.class)))
+				.thenReturn(List.of(job(10L, "a", 1L, 2L)));
+		service.failInterruptedJobs();
+
+		service.dispatch();
+		service.shutdown();
+
+		verify(jobRepo).complete(eq(10L), eq(TransferJobStatus.RUNNING), eq(NODE), eq(TransferJobStatus.SUCCEEDED),
+				isNull(), any());
+	}
+
+	@Test
+	void transferBlockedByAnotherWriterGoesBackToTheQueue() {
+		doThrow(new PessimisticLockingFailureException("locked")).when(inventoryService).transferInventory(any());
+		when(jobRepo.findByStatusOrderByIdAsc(eq(TransferJobStatus.QUEUED), any(Limit.class)))
+				.thenReturn(List.of(job(10L, "a", 1L, 2L)));
+		service.failInterruptedJobs();
+
+		service.dispatch();
+		service.shutdown();
+
+		verify(jobRepo).requeue(10L, TransferJobStatus.QUEUED, TransferJobStatus.RUNNING, NODE);
+		verify(jobRepo, never()).complete(anyLong(), any(), any(), any(), any(), any());
+	}
+
+	private TransferQueueService service(int workers) {
+		TransferJobMapper mapper = mock(TransferJobMapper.class);
+		when(mapper.toTransferDTO(any())).thenAnswer(invocation -> {
+			TransferJob job = invocation.getArgument(0);
+			InventoryTransferDTO dto = new InventoryTransferDTO();
+			dto.setProductPublicId(job.getProductPublicId());
+			dto.setSourceWarehouseId(job.getSourceWarehouseId());
+			dto.setDestinationWarehouseId(job.getDestinationWarehouseId());
+			return dto;
+		});
+		return new TransferQueueService(jobRepo, mapper, inventoryService, mock(PlatformTransactionManager.class),
+				new SimpleMeterRegistry(), workers, 500, NODE, Duration.ofMinutes(15));
+	}
+
+	private static TransferJob job(Long id, String productPublicId, Long source, Long destination) {
+		TransferJob job = new TransferJob();
+		job.setId(id);
+		job.setProductPublicId(productPublicId);
+		job.setSourceWarehouseId(source);
+		job.setDestinationWarehouseId(destination);
+		return job;
+	}
+}
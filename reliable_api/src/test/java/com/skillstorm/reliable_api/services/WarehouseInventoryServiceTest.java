@@ -0,0 +1,245 @@
+package com.skillstorm.reliable_api.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import com.skillstorm.reliable_api.dtos.CursorPageDTO;
+import com.skillstorm.reliable_api.dtos.InventoryPageRequestDTO;
+import com.skillstorm.reliable_api.dtos.InventoryTransferDTO;
+import com.skillstorm.reliable_api.dtos.ProductRefDTO;
+import com.skillstorm.reliable_api.dtos.WarehouseInventoryCreateDTO;
+import com.skillstorm.reliable_api.dtos.WarehouseInventoryDTO;
+import com.skillstorm.reliable_api.exceptions.ResourceNotFoundException;
+import com.skillstorm.reliable_api.mappers.WarehouseInventoryMapper;
+import com.skillstorm.reliable_api.models.Product;
+import com.skillstorm.reliable_api.models.Warehouse;
+import com.skillstorm.reliable_api.models.WarehouseInventory;
+import com.skillstorm.reliable_api.repositories.InventoryTransferRepo;
+import com.skillstorm.reliable_api.repositories.ProductRepo;
+import com.skillstorm.reliable_api.repositories.WarehouseInventoryRepo;
+import com.skillstorm.reliable_api.repositories.WarehouseRepo;
+
+class WarehouseInventoryServiceTest {
+
+	private static final Long SOURCE_ID = 1L;
+	private static final Long DESTINATION_ID = 2L;
+	private static final String PRODUCT_ID = "product-1";
+
+	private WarehouseInventoryRepo inventoryRepo;
+	private WarehouseRepo warehouseRepo;
+	private ProductRepo productRepo;
+	private ProductLookupService productLookup;
+	private WarehouseInventoryService service;
+	private Warehouse source;
+	private Warehouse destination;
+	private Product product;
+
+	@BeforeEach
+	void setUp() {
+		inventoryRepo = mock(WarehouseInventoryRepo.class);
+		warehouseRepo = mock(WarehouseRepo.class);
+		productRepo = mock(ProductRepo.class);
+		productLookup = mock(ProductLookupService.class);
+		WarehouseInventoryMapper mapper = mock(WarehouseInventoryMapper.class);
+		when(mapper.toDTO(any())).thenAnswer(invocation -> new WarehouseInventoryDTO());
+		when(mapper.toEntity(any())).thenAnswer(invocation -> new WarehouseInventory());
+
+		service = new WarehouseInventoryService(inventoryRepo, warehouseRepo, productRepo,
+				mock(InventoryTransferRepo.class), mapper, productLookup);
+
+		source = warehouse(SOURCE_ID);
+		destination = warehouse(DESTINATION_ID);
+		product = new Product();
+		product.setProductId(7L);
+		product.setPublicId(PRODUCT_ID);
+		when(productLookup.resolve(PRODUCT_ID)).thenReturn(new ProductRefDTO(7L));
+		when(productRepo.lockActiveById(7L)).thenReturn(Optional.of(7L));
+		when(productRepo.getReferenceById(7L)).thenReturn(product);
+		when(warehouseRepo.findById(SOURCE_ID)).thenReturn(Optional.of(source));
+		when(warehouseRepo.lockAllInIdOrder(any())).thenReturn(List.of(source, destination));
+	}
+
+	@Test
+	void inventoryPageReadsOneExtraRowAndPointsTheCursorAtItsLastItem() {
+		when(inventoryRepo.findPageAfter(eq(0L), isNull(), isNull(), isNull(), isNull(), eq(Limit.of(3))))
+				.thenReturn(List.of(row(11L, 5), row(12L, 5), row(13L, 5)));
+
+		CursorPageDTO<WarehouseInventoryDTO> page = service.getInventoryPage(pageRequest(null, 2));
+
+		assertThat(page.getItems()).hasSize(2);
+		assertThat(page.isHasMore()).isTrue();
+		assertThat(page.getNextCursor()).isEqualTo(12L);
+	}
+
+	@Test
+	void inventoryPageResumesAfterTheCursorAndEndsWithoutOne() {
+		when(inventoryRepo.findPageAfter(eq(12L), isNull(), isNull(), isNull(), isNull(), eq(Limit.of(3))))
+				.thenReturn(List.of(row(13L, 5)));
+
+		CursorPageDTO<WarehouseInventoryDTO> page = service.getInventoryPage(pageRequest(12L, 2));
+
+		assertThat(page.getItems()).hasSize(1);
+		assertThat(page.isHasMore()).isFalse();
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	void stockInBeyondCapacityIsRejectedWithoutSaving() {
+		when(inventoryRepo.findByWarehouseAndProduct(source, product)).thenReturn(Optional.empty());
+		when(warehouseRepo.reserveCapacity(eq(SOURCE_ID), eq(50), any())).thenReturn(0);
+
+		assertThatThrownBy(() -> service.addProductToWarehouse(SOURCE_ID, createRequest(50)))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("capacity exceeded");
+		verify(inventoryRepo, never()).save(any());
+	}
+
+	@Test
+	void stockInWithinCapacityReservesTheQuantity() {
+		when(inventoryRepo.findByWarehouseAndProduct(source, product)).thenReturn(Optional.empty());
+		when(warehouseRepo.reserveCapacity(eq(SOURCE_ID), eq(50), any())).thenReturn(1);
+		when(inventoryRepo.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		service.addProductToWarehouse(SOURCE_ID, createRequest(50));
+
+		verify(inventoryRepo).save(any());
+	}
+
+	@Test
+	void stockInOfAProductAlreadyInTheWarehouseIsRejected() {
+		when(inventoryRepo.findByWarehouseAndProduct(source, product)).thenReturn(Optional.of(row(11L, 5)));
+
+		assertThatThrownBy(() -> service.addProductToWarehouse(SOURCE_ID, createRequest(50)))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("already stocked");
+		verify(warehouseRepo, never()).reserveCapacity(anyLong(), anyInt(), any());
+		verify(inventoryRepo, never()).save(any());
+	}
+
+	@Test
+	void stockInOfAProductSoftDeletedSinceItWasCachedIsRejected() {
+		when(productRepo.lockActiveById(7L)).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> service.addProductToWarehouse(SOURCE_ID, createRequest(50)))
+				.isInstanceOf(ResourceNotFoundException.class);
+		verify(productLookup).evict(PRODUCT_ID);
+		verify(warehouseRepo, never()).reserveCapacity(anyLong(), anyInt(), any());
+		verify(inventoryRepo, never()).save(any());
+	}
+
+	@Test
+	void removalThatWouldMakeCapacityNegativeIsRejected() {
+		WarehouseInventory held = row(11L, 40);
+		when(inventoryRepo.findByWarehouseAndProduct(source, product)).thenReturn(Optional.of(held));
+		when(warehouseRepo.releaseCapacity(eq(SOURCE_ID), eq(40), any())).thenReturn(0);
+
+		assertThatThrownBy(() -> service.deleteInventoryFromWarehouse(SOURCE_ID, PRODUCT_ID))
+				.isInstanceOf(IllegalStateException.class);
+		verify(inventoryRepo, never()).delete(any());
+	}
+
+	@Test
+	void transferReservesAndReleasesTheSameQuantity() {
+		WarehouseInventory held = row(11L, 40);
+		when(inventoryRepo.findByWarehouseAndProduct(source, product)).thenReturn(Optional.of(held));
+		when(inventoryRepo.findByWarehouseAndProduct(destination, product)).thenReturn(Optional.empty());
+		when(warehouseRepo.reserveCapacity(eq(DESTINATION_ID), eq(15), any())).thenReturn(1);
+		when(warehouseRepo.releaseCapacity(eq(SOURCE_ID), eq(15), any())).thenReturn(1);
+
+		service.transferInventory(transferRequest(15));
+
+		verify(warehouseRepo).reserveCapacity(eq(DESTINATION_ID), eq(15), any(LocalDateTime.class));
+		verify(warehouseRepo).releaseCapacity(eq(SOURCE_ID), eq(15), any(LocalDateTime.class));
+		assertThat(held.getQuantity()).isEqualTo(25);
+	}
+
+	@Test
+	void transferBeyondDestinationCapacityIsRejected() {
+		when(inventoryRepo.findByWarehouseAndProduct(source, product)).thenReturn(Optional.of(row(11L, 40)));
+		when(inventoryRepo.findByWarehouseAndProduct(destination, product)).thenReturn(Optional.empty());
+		when(warehouseRepo.reserveCapacity(eq(DESTINATION_ID), eq(40), any())).thenReturn(0);
+
+		assertThatThrownBy(() -> service.transferInventory(transferRequest(null)))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("capacity exceeded");
+		verify(warehouseRepo, never()).releaseCapacity(anyLong(), anyInt(), any());
+	}
+
+	@Test
+	void transferOfMoreThanAvailableTouchesNoCapacity() {
+		when(inventoryRepo.findByWarehouseAndProduct(source, product)).thenReturn(Optional.of(row(11L, 40)));
+
+		assertThatThrownBy(() -> service.transferInventory(transferRequest(41)))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("exceeds available");
+		verify(warehouseRepo, never()).reserveCapacity(anyLong(), anyInt(), any());
+	}
+
+	@Test
+	void transferIntoQuarantinedStockTouchesNoCapacity() {
+		WarehouseInventory quarantined = row(12L, 5);
+		quarantined.setQuarantinedAt(LocalDateTime.now());
+		when(inventoryRepo.findByWarehouseAndProduct(source, product)).thenReturn(Optional.of(row(11L, 40)));
+		when(inventoryRepo.findByWarehouseAndProduct(destination, product)).thenReturn(Optional.of(quarantined));
+
+		assertThatThrownBy(() -> service.transferInventory(transferRequest(10)))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("quarantined");
+		verify(warehouseRepo, never()).reserveCapacity(anyLong(), anyInt(), any());
+		verify(warehouseRepo, never()).releaseCapacity(anyLong(), anyInt(), any());
+	}
+
+	private static Warehouse warehouse(Long id) {
+		Warehouse warehouse = new Warehouse();
+		warehouse.setWarehouseId(id);
+		warehouse.setMaxCapacity(100);
+		return warehouse;
+	}
+
+	private WarehouseInventory row(Long id, int quantity) {
+		WarehouseInventory row = new WarehouseInventory(source, product, quantity, LocalDate.now().plusDays(10), "A1");
+		row.setId(id);
+		return row;
+	}
+
+	private static InventoryPageRequestDTO pageRequest(Long after, Integer size) {
+		InventoryPageRequestDTO request = new InventoryPageRequestDTO();
+		request.setAfter(after);
+		request.setSize(size);
+		return request;
+	}
+
+	private static WarehouseInventoryCreateDTO createRequest(int quantity) {
+		WarehouseInventoryCreateDTO dto = new WarehouseInventoryCreateDTO();
+		dto.setProductPublicId(PRODUCT_ID);
+		dto.setQuantity(quantity);
+		return dto;
+	}
+
+	private static InventoryTransferDTO transferRequest(Integer quantity) {
+		InventoryTransferDTO dto = new InventoryTransferDTO();
+		dto.setProductPublicId(PRODUCT_ID);
+		dto.setSourceWarehouseId(SOURCE_ID);
+		dto.setDestinationWarehouseId(DESTINATION_ID);
+		dto.setQuantity(quantity);
+		return dto;
+	}
+}